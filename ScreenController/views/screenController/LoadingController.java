@@ -11,4 +11,15 @@ public interface LoadingController {
 	 * Stops the loader to load. Stops animation and background Threads.
 	 */
 	public void stopLoading();
+
+	/**
+	 * Shows the progress of the loading. Does nothing by default.
+	 * 
+	 * @param done
+	 *            The number of elements loaded
+	 * @param total
+	 *            The number of elements to load
+	 */
+	public default void setProgress(int done, int total) {
+	}
 }
@@ -406,6 +406,21 @@ public class ScreenController extends StackPane {
 		}
 	}
 
+	/**
+	 * Shows the progress of the loading on the loading screen, if its
+	 * controller supports it.
+	 * 
+	 * @param done
+	 *            The number of elements loaded
+	 * @param total
+	 *            The number of elements to load
+	 */
+	public void setLoaderProgress(int done, int total) {
+		if (loaderControl != null) {
+			loaderControl.setProgress(done, total);
+		}
+	}
+
 	/**
 	 * Allows to load the theme specified in parameter.
 	 */
@@ -0,0 +1,167 @@
+package benchmarks;
+
+import gameObservables.Bascule;
+import gameObservables.Coin;
+import gameObservables.Domino;
+import gameObservables.Rope;
+import gameObservables.Spring;
+import javafx.beans.property.SimpleDoubleProperty;
+import java.util.ArrayList;
+import java.util.List;
+
+import observables.AbstractComplexObservable;
+import observables.ComplexObservable;
+import observables.DynamicWorld;
+import observables.DynamicWorld.Bounds;
+
+/**
+ * A scene of the {@link WorldBenchmark}: a headless {@link DynamicWorld}
+ * containing the given number of coins, dominos, springs, ropes and
+ * bascules. The objects are laid out on a grid, the coins above the others,
+ * so they fall on them and keep the engine busy with contacts.
+ *
+ * The views of the objects are initialized, so their
+ * {@link AbstractComplexObservable#update()} does the same work it does when
+ * they are displayed. A collision handler can be set on every object with
+ * {@link #setCallbacks(boolean)}, to measure the cost of the contact
+ * callbacks on the same world.
+ *
+ * @author sunny
+ *
+ */
+public class BenchmarkScene {
+
+	/**
+	 * The space between 2 columns of the grid, in meters.
+	 */
+	private static final double COLUMN_WIDTH = 4;
+
+	/**
+	 * The space between 2 rows of the grid, in meters.
+	 */
+	private static final double ROW_HEIGHT = 6;
+
+	/**
+	 * The number of columns of the grid.
+	 */
+	private static final int COLUMNS = 25;
+
+	/**
+	 * The world of the scene.
+	 */
+	private final DynamicWorld world;
+
+	/**
+	 * The objects of the scene.
+	 */
+	private final List<ComplexObservable> objects;
+
+	/**
+	 * The number of collision handlers called since the scene was created.
+	 */
+	private long callbacks;
+
+	/**
+	 * The number of objects placed on the grid.
+	 */
+	private int placed;
+
+	/**
+	 * Creates the scene and sets its world dynamic.
+	 *
+	 * @param coins
+	 *            The number of coins
+	 * @param dominos
+	 *            The number of dominos
+	 * @param springs
+	 *            The number of springs
+	 * @param ropes
+	 *            The number of ropes
+	 * @param bascules
+	 *            The number of bascules
+	 */
+	public BenchmarkScene(int coins, int dominos, int springs, int ropes, int bascules) {
+
+		final int rows = (coins + dominos + springs + ropes + bascules) / COLUMNS + 2;
+
+		world = new DynamicWorld(new SimpleDoubleProperty(rows * ROW_HEIGHT + 10).add(0),
+				new SimpleDoubleProperty(COLUMNS * COLUMN_WIDTH).add(0), -9.8, true);
+		world.setAllBound(Bounds.values());
+		objects = new ArrayList<>();
+
+		// The obstacles first, at the bottom of the world
+		for (int i = 0; i < springs; i++) {
+			final Spring spring = new Spring(10, 2, 1.5);
+			spring.baseTopLeftCornerXProperty();
+			add(spring);
+		}
+		for (int i = 0; i < bascules; i++) {
+			final Bascule bascule = new Bascule(3, 0.3);
+			bascule.topLeftCornerXProperty();
+			add(bascule);
+		}
+		for (int i = 0; i < dominos; i++) {
+			final Domino domino = new Domino();
+			domino.topLeftCornerXProperty();
+			add(domino);
+		}
+		for (int i = 0; i < ropes; i++) {
+			final Rope rope = new Rope(2);
+			rope.bottomTopLeftCornerXProperty();
+			add(rope);
+		}
+
+		// Then the coins falling on them
+		for (int i = 0; i < coins; i++) {
+			final Coin coin = new Coin(0.5);
+			coin.topLeftCornerXProperty();
+			add(coin);
+		}
+
+		world.setDynamic(true);
+	}
+
+	/**
+	 * Places the object on the next cell of the grid, and adds it to the
+	 * world.
+	 */
+	private void add(ComplexObservable object) {
+		final int row = placed / COLUMNS;
+		final int column = placed % COLUMNS;
+
+		// Odd rows are shifted, so the objects don't stack perfectly
+		object.translate((column + 0.5 + (row % 2) * 0.5) * COLUMN_WIDTH, (row + 1) * ROW_HEIGHT);
+
+		world.addComplexObject(object);
+		objects.add(object);
+		placed++;
+	}
+
+	/**
+	 * Sets or removes the collision handler of every object.
+	 *
+	 * @param callbacks
+	 *            True to set a collision handler counting its calls on every
+	 *            object, false to remove them
+	 */
+	public void setCallbacks(boolean callbacks) {
+		for (ComplexObservable object : objects) {
+			object.setOnDynamicCollide(callbacks ? (point, other, body, world) -> this.callbacks++ : null);
+		}
+	}
+
+	/**
+	 * @return The world of the scene.
+	 */
+	public DynamicWorld getWorld() {
+		return world;
+	}
+
+	/**
+	 * @return The number of collision handlers called since the scene was
+	 *         created.
+	 */
+	public long getCallbacks() {
+		return callbacks;
+	}
+}
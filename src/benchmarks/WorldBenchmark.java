@@ -0,0 +1,302 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import observables.AbstractComplexObservable;
+import observables.DynamicWorld;
+import observables.WorldSnapshot;
+import observables.WorldState;
+
+/**
+ * Measures the cost of a step of a {@link DynamicWorld} at different scales,
+ * so the modifications of the engine can be compared with numbers.
+ *
+ * A step is measured the way it is done when the game is displayed : the
+ * world is stepped, a {@link WorldSnapshot} is published and interpolated,
+ * then {@link AbstractComplexObservable#update()} is called on every object.
+ * For each scene, the benchmark reports the average time per step, the bytes
+ * allocated per step and the contacts per step. The scene is measured a
+ * second time with a collision handler on every object, to get the overhead
+ * of the contact callbacks.
+ *
+ * The world of the scene is restored to its initial state before every
+ * iteration, so the objects keep falling on each other instead of settling,
+ * and both variants are measured on the same world, one after the other.
+ * Every scene is warmed up before it is measured. The parameters are given as
+ * <code>name=value</code> arguments : coins, dominos, springs, ropes, bascules,
+ * warmup, iterations and steps (per iteration). Without any object count, a
+ * default set of scenes of growing size is measured.
+ *
+ * @author sunny
+ *
+ */
+public class WorldBenchmark {
+
+	/**
+	 * The object counts of the smallest default scene : coins, dominos,
+	 * springs, ropes and bascules.
+	 */
+	private static final int[] BASE_SCENE = { 25, 10, 5, 5, 5 };
+
+	/**
+	 * The scales of the default scenes, applied to {@link #BASE_SCENE}.
+	 */
+	private static final int[] DEFAULT_SCALES = { 1, 4, 16 };
+
+	/**
+	 * The number of iterations run before measuring.
+	 */
+	private final int warmup;
+
+	/**
+	 * The number of iterations measured.
+	 */
+	private final int iterations;
+
+	/**
+	 * The number of steps of every iteration.
+	 */
+	private final int steps;
+
+	/**
+	 * Used to measure the bytes allocated by the thread, if the JVM supports
+	 * it. Null otherwise.
+	 */
+	private final com.sun.management.ThreadMXBean threads;
+
+	/**
+	 * Constructs a benchmark.
+	 *
+	 * @param warmup
+	 *            The number of iterations run before measuring
+	 * @param iterations
+	 *            The number of iterations measured
+	 * @param steps
+	 *            The number of steps of every iteration
+	 */
+	public WorldBenchmark(int warmup, int iterations, int steps) {
+		this.warmup = warmup;
+		this.iterations = iterations;
+		this.steps = steps;
+
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+			threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		} else {
+			threads = null;
+		}
+	}
+
+	/**
+	 * Measures the scene containing the given objects, without and then with
+	 * the collision handlers, and prints the results.
+	 *
+	 * @param coins
+	 *            The number of coins
+	 * @param dominos
+	 *            The number of dominos
+	 * @param springs
+	 *            The number of springs
+	 * @param ropes
+	 *            The number of ropes
+	 * @param bascules
+	 *            The number of bascules
+	 */
+	public void measure(int coins, int dominos, int springs, int ropes, int bascules) {
+
+		final String name = String.format("coins=%d dominos=%d springs=%d ropes=%d bascules=%d", coins, dominos,
+				springs, ropes, bascules);
+
+		final BenchmarkScene scene = new BenchmarkScene(coins, dominos, springs, ropes, bascules);
+		final WorldState initial = scene.getWorld().snapshot();
+
+		final Result plain = new Result();
+		final Result handled = new Result();
+
+		// Both variants are warmed up, then measured one after the other at
+		// every iteration, so neither is measured with a hotter JIT
+		for (int i = 0; i < warmup; i++) {
+			run(scene, initial, false, null);
+			run(scene, initial, true, null);
+		}
+		for (int i = 0; i < iterations; i++) {
+			run(scene, initial, false, plain);
+			run(scene, initial, true, handled);
+		}
+
+		System.out.println(name);
+		print("step+update", plain);
+		print("step+update+callbacks", handled);
+
+		// Without any callback, the difference is only noise. Else it is
+		// given with the deviation of both measures.
+		if (handled.callbacks > 0) {
+			final double deviation = Math.sqrt(plain.getDeviation() * plain.getDeviation()
+					+ handled.getDeviation() * handled.getDeviation());
+
+			System.out.println(String.format("  %-24s %10.0f +- %-8.0f ns/step %12.1f callbacks/step",
+					"callback overhead", handled.getMean() - plain.getMean(), deviation,
+					handled.callbacks / handled.getSteps()));
+		} else {
+			System.out.println(String.format("  %-24s %10s", "callback overhead", "no callback"));
+		}
+	}
+
+	/**
+	 * The measures of a variant of a scene.
+	 */
+	private class Result {
+
+		/**
+		 * The average time per step of every iteration, in nanoseconds.
+		 */
+		private final double[] times = new double[iterations];
+
+		private int count;
+		private long bytes, contacts, callbacks;
+
+		/**
+		 * @return The number of steps measured.
+		 */
+		private double getSteps() {
+			return (double) count * steps;
+		}
+
+		/**
+		 * @return The average time per step, in nanoseconds.
+		 */
+		private double getMean() {
+			double mean = 0;
+			for (int i = 0; i < count; i++) {
+				mean += times[i] / count;
+			}
+			return mean;
+		}
+
+		/**
+		 * @return The standard deviation of the time per step between the
+		 *         iterations.
+		 */
+		private double getDeviation() {
+			final double mean = getMean();
+			double variance = 0;
+			for (int i = 0; i < count; i++) {
+				variance += (times[i] - mean) * (times[i] - mean) / count;
+			}
+			return Math.sqrt(variance);
+		}
+	}
+
+	/**
+	 * Runs one iteration of the scene, from the initial state of its world,
+	 * which is not measured.
+	 *
+	 * @param scene
+	 *            The scene
+	 * @param initial
+	 *            The initial state of the world of the scene
+	 * @param callbacks
+	 *            True to set a collision handler on every object
+	 * @param result
+	 *            The measures the iteration is added to, or null for a warmup
+	 *            iteration
+	 */
+	private void run(BenchmarkScene scene, WorldState initial, boolean callbacks, Result result) {
+
+		final DynamicWorld world = scene.getWorld();
+		final WorldSnapshot[] snapshot = new WorldSnapshot[1];
+
+		world.restore(initial);
+		scene.setCallbacks(callbacks);
+
+		final long contacts = world.getContactCount();
+		final long handled = scene.getCallbacks();
+		final long bytes = allocatedBytes();
+		final long start = System.nanoTime();
+
+		iterate(world, world.getObservables(), snapshot);
+
+		final long time = System.nanoTime() - start;
+
+		if (result != null) {
+			result.times[result.count++] = (double) time / steps;
+			result.bytes += allocatedBytes() - bytes;
+			result.contacts += world.getContactCount() - contacts;
+			result.callbacks += scene.getCallbacks() - handled;
+		}
+	}
+
+	/**
+	 * Performs one iteration of {@link #steps} steps, the way they are
+	 * performed when the world is displayed.
+	 */
+	private void iterate(DynamicWorld world, List<AbstractComplexObservable> objects, WorldSnapshot[] snapshot) {
+		for (int i = 0; i < steps; i++) {
+			world.step(1);
+
+			snapshot[0] = new WorldSnapshot(objects, snapshot[0], System.nanoTime());
+			snapshot[0].interpolate(0.5);
+
+			for (AbstractComplexObservable object : objects) {
+				object.update();
+			}
+		}
+	}
+
+	/**
+	 * @return The bytes allocated by the current thread since it started, or
+	 *         -1 if the JVM doesn't support it.
+	 */
+	private long allocatedBytes() {
+		return threads == null ? -1 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Prints a line of result.
+	 */
+	private void print(String name, Result result) {
+		final double allocated = threads == null ? -1 : result.bytes / result.getSteps();
+
+		System.out.println(String.format("  %-24s %10.0f +- %-8.0f ns/step %12.0f B/step %8.1f contacts/step", name,
+				result.getMean(), result.getDeviation(), allocated, result.contacts / result.getSteps()));
+	}
+
+	/**
+	 * Runs the benchmark with the parameters given as <code>name=value</code>
+	 * arguments.
+	 *
+	 * @param args
+	 *            The parameters of the benchmark
+	 */
+	public static void main(String[] args) {
+
+		final Map<String, Integer> params = new HashMap<>();
+
+		for (String arg : args) {
+			final String[] param = arg.split("=");
+
+			if (param.length != 2) {
+				throw new IllegalArgumentException("Parameters must be given as name=value : " + arg);
+			}
+			params.put(param[0], Integer.parseInt(param[1]));
+		}
+
+		final WorldBenchmark benchmark = new WorldBenchmark(params.getOrDefault("warmup", 5),
+				params.getOrDefault("iterations", 5), params.getOrDefault("steps", 300));
+
+		if (params.containsKey("coins") || params.containsKey("dominos") || params.containsKey("springs")
+				|| params.containsKey("ropes") || params.containsKey("bascules")) {
+
+			benchmark.measure(params.getOrDefault("coins", 0), params.getOrDefault("dominos", 0),
+					params.getOrDefault("springs", 0), params.getOrDefault("ropes", 0),
+					params.getOrDefault("bascules", 0));
+		} else {
+			for (int scale : DEFAULT_SCALES) {
+				benchmark.measure(BASE_SCENE[0] * scale, BASE_SCENE[1] * scale, BASE_SCENE[2] * scale,
+						BASE_SCENE[3] * scale, BASE_SCENE[4] * scale);
+			}
+		}
+	}
+}
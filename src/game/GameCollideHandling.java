@@ -6,6 +6,7 @@ import gameObservableViews.ObservableWrapper;
 import gameObservables.Coin;
 import gameObservables.PotOfGold;
 import gameObservables.Rope;
+import javafx.application.Platform;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.Light;
 import javafx.scene.effect.Lighting;
@@ -29,6 +30,12 @@ public class GameCollideHandling {
 	 */
 	private DropShadow staticCollide;
 
+	/**
+	 * True if the sounds of the collisions must not be played, for example
+	 * when the game is simulated via {@link GoldbergGame#predictOutcome(double)}.
+	 */
+	private volatile boolean muted;
+
 	/**
 	 * Constructor of the class.
 	 */
@@ -56,16 +63,23 @@ public class GameCollideHandling {
 		observable.setOnDynamicCollide((point, other, body, world) -> {
 
 			// Play the sound associated to the objects colliding
-			SoundMaker.playSound(getAssociatedSound(wrapper.observable, other, body));
+			if (!muted) {
+				SoundMaker.playSound(getAssociatedSound(wrapper.observable, other, body));
+			}
 		});
 
 		/*
-		 * Generates static collide
+		 * Generates static collide. The collisions are handled by the
+		 * simulation thread of the world, the view is modified on the JavaFX
+		 * thread.
 		 */
 		observable.setOnStaticCollide((point, other, body, world) -> {
-			if (observable != other && wrapper.view.getEffect() == null) {
-				wrapper.view.setEffect(staticCollide);
-
+			if (observable != other) {
+				Platform.runLater(() -> {
+					if (wrapper.view != null && wrapper.view.getEffect() == null) {
+						wrapper.view.setEffect(staticCollide);
+					}
+				});
 			}
 
 		});
@@ -74,13 +88,27 @@ public class GameCollideHandling {
 		 * Generates static collide ends
 		 */
 		observable.setOnStaticCollideEnds((point, other, body, world) -> {
-			if (observable != other && wrapper.view.getEffect() != null) {
-				wrapper.view.setEffect(null);
+			if (observable != other) {
+				Platform.runLater(() -> {
+					if (wrapper.view != null && wrapper.view.getEffect() != null) {
+						wrapper.view.setEffect(null);
+					}
+				});
 			}
 
 		});
 	}
 
+	/**
+	 * Mutes or unmutes the sounds played when the objects collide.
+	 * 
+	 * @param muted
+	 *            True if no sound must be played.
+	 */
+	public void setMuted(boolean muted) {
+		this.muted = muted;
+	}
+
 	/**
 	 * return the sound associated with objects in collisions
 	 * 
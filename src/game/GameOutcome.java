@@ -0,0 +1,86 @@
+package game;
+
+/**
+ * The result of a game simulated via
+ * {@link GoldbergGame#predictOutcome(double)}: tells if the player would win,
+ * how much time it would take, and how many coins would reach a pot of gold.
+ *
+ * @author sunny
+ *
+ */
+public final class GameOutcome {
+
+	/**
+	 * True if all the coins reached a pot of gold.
+	 */
+	private final boolean won;
+
+	/**
+	 * The simulated time, in seconds, at which the game ended.
+	 */
+	private final double time;
+
+	/**
+	 * The number of coins that reached a pot of gold.
+	 */
+	private final int capturedCoins;
+
+	/**
+	 * The number of coins in the game.
+	 */
+	private final int coinCount;
+
+	/**
+	 * Constructs the outcome of a game.
+	 *
+	 * @param won
+	 *            True if all the coins reached a pot of gold
+	 * @param time
+	 *            The simulated time, in seconds, at which the game ended
+	 * @param capturedCoins
+	 *            The number of coins that reached a pot of gold
+	 * @param coinCount
+	 *            The number of coins in the game
+	 */
+	public GameOutcome(boolean won, double time, int capturedCoins, int coinCount) {
+		this.won = won;
+		this.time = time;
+		this.capturedCoins = capturedCoins;
+		this.coinCount = coinCount;
+	}
+
+	/**
+	 * @return True if all the coins reached a pot of gold.
+	 */
+	public boolean hasWon() {
+		return won;
+	}
+
+	/**
+	 * @return The simulated time, in seconds, at which the game ended. If the
+	 *         game was won, it is the time needed to win.
+	 */
+	public double getTime() {
+		return time;
+	}
+
+	/**
+	 * @return The number of coins that reached a pot of gold.
+	 */
+	public int getCapturedCoins() {
+		return capturedCoins;
+	}
+
+	/**
+	 * @return The number of coins in the game.
+	 */
+	public int getCoinCount() {
+		return coinCount;
+	}
+
+	@Override
+	public String toString() {
+		return "GameOutcome [won=" + won + ", time=" + time + ", capturedCoins=" + capturedCoins + ", coinCount="
+				+ coinCount + "]";
+	}
+}
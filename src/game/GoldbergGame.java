@@ -1,11 +1,10 @@
 package game;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.Set;
+import java.util.Map;
 
-import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Vector2;
 
 import gameObservableViews.ObservableObjectFactory;
@@ -27,9 +26,9 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import observables.AbstractComplexObservable;
-import observables.CollidingPair;
 import observables.DynamicWorld;
 import observables.DynamicWorld.Bounds;
+import observables.WorldState;
 
 /**
  * This class provides dataStructures that allows to run the Goldberg Game
@@ -83,7 +82,7 @@ public class GoldbergGame {
 	 * The final value of the friction coefficient for the world's bounds.
 	 * Represents the optimal friction coefficient for the game.
 	 */
-	private static final double BORDER_FRICTION = 0.2;
+	static final double BORDER_FRICTION = 0.2;
 
 	/**
 	 * The dynamic world used to handle static collision on PREPARING state, or
@@ -121,11 +120,25 @@ public class GoldbergGame {
 	private List<ObservableWrapper> fixedObjects;
 
 	/**
-	 * The position of all the gameComponents is stored in this list, and is
-	 * updated when the method {@link #setStatus(Status)} is called with a
-	 * RUNNING parameter. This list is used only when
+	 * The wrappers of the fixed objects of the level, by object. The levels
+	 * are opened without views, so the view of an object is created the first
+	 * time it is displayed, and kept while the level is the game's level.
 	 */
-	private List<Object[]> positionSave;
+	private Map<AbstractComplexObservable, ObservableWrapper> views;
+
+	/**
+	 * False if the fixed objects of the level are drawn by the game's view
+	 * itself, so their wrappers are created without view. See
+	 * {@link #setFixedViews(boolean)}.
+	 */
+	private boolean fixedViews = true;
+
+	/**
+	 * The state of the world, captured when the method
+	 * {@link #setStatus(Status)} is called with a RUNNING parameter. It is
+	 * restored by {@link #reset()}.
+	 */
+	private WorldState positionSave;
 
 	private double orientationSave;
 
@@ -231,8 +244,8 @@ public class GoldbergGame {
 
 		// All the properties and lists for the game
 		this.gameComponents = new ArrayList<>();
-		this.positionSave = new ArrayList<>();
 		this.fixedObjects = new ArrayList<>();
+		this.views = new IdentityHashMap<>();
 		this.coinList = new ArrayList<>();
 		this.potList = new ArrayList<>();
 		this.handler = new GameCollideHandling();
@@ -300,17 +313,8 @@ public class GoldbergGame {
 									 * Block checking for player won
 									 */
 									// for this coin, tells if it won.
-									boolean hasCoinReach = false;
-
-									// we go over every pot of gold. If the coin
-									// collides with any of them, the player has
-									// won for this coin
-									for (PotOfGold pot : potList) {
-										if (pot.getTranslate().equals(coin.getTranslate())) {
-											hasCoinReach = true;
-											break;
-										}
-									}
+									boolean hasCoinReach = isCoinCaptured(coin, potList);
+
 									// If at least one coin did not collide, the
 									// player did not win
 									if (!hasCoinReach) {
@@ -387,7 +391,8 @@ public class GoldbergGame {
 	 * 
 	 * This method is going to perform wrappers generation for all the new fixed
 	 * objects. Therefore, the execution time is proportional to the quantity of
-	 * objects contained in the fixedObject list.
+	 * objects contained in the fixedObject list. If the level is set again,
+	 * the wrappers already generated are reused.
 	 * 
 	 * @param level
 	 *            The level to be set.
@@ -395,9 +400,24 @@ public class GoldbergGame {
 	public void setLevel(Level level) {
 		if (getStatus() != Status.RUNNING) {
 
+			// The objects placed by the player are removed, their views are
+			// reused
+			for (ObservableWrapper wrapper : gameComponents) {
+				ObservableObjectFactory.recycle(wrapper);
+			}
+
 			// clears the list of wrapper
 			clear();
 
+			// The views of another level can't be reused as they are, but
+			// they are recycled for the objects of the new level
+			if (this.level != level) {
+				for (ObservableWrapper wrapper : views.values()) {
+					ObservableObjectFactory.recycle(wrapper);
+				}
+				views.clear();
+			}
+
 			// Sets the level properties to the game's
 			this.level = level;
 			this.bounds.set(level.getBorders());
@@ -416,7 +436,8 @@ public class GoldbergGame {
 			final List<AbstractComplexObservable> levelFixed = level.getFixedObject();
 
 			for (AbstractComplexObservable observable : levelFixed) {
-				ObservableWrapper wrapper = factory.getWrapperInstance(observable);
+				ObservableWrapper wrapper = views.computeIfAbsent(observable,
+						fixedViews ? factory::getWrapperInstance : factory::getModelWrapper);
 
 				fixedObjects.add(wrapper);
 				handler.applyEvents(wrapper);
@@ -464,23 +485,16 @@ public class GoldbergGame {
 	}
 
 	/**
-	 * Iterates over every collision pair contained in the world to know if
-	 * there is still some collisions in the world. If any collision type is
+	 * Asks the collision registry of the world if there is still some
+	 * collisions in the world. The pairs of the world are removed as soon as
+	 * the contact between their objects ends. If any collision type is
 	 * detected in the world, except for items colliding with themselves, true
 	 * is returned.
 	 * 
 	 * @return True if the world still have some sort of collision in it.
 	 */
 	public boolean stillHaveCollisions() {
-
-		final Set<CollidingPair> collisions = world.getColliders();
-
-		for (CollidingPair pair : collisions) {
-			if (pair.obj1 != pair.obj2 && pair.stillCollides()) {
-				return true;
-			}
-		}
-		return false;
+		return world.stillHaveCollisionsWithOther();
 	}
 
 	/**
@@ -713,60 +727,186 @@ public class GoldbergGame {
 				
 			}
 
-			// Shows the 2 iterators. We iterate both at the same time
-			ListIterator<ObservableWrapper> wrappers = fixedObjects.listIterator();
-			ListIterator<Object[]> positions = positionSave.listIterator();
+			removeAppliedJoints();
 
-			ObservableWrapper object = null;
-			Object[] position = null;
+			// Then the positions, velocities, masses and joints of the world
+			// are put back as they were
+			world.restore(positionSave);
 
-			// First iterate the game components, and remove useless joints
-			// for
-			// reseting.
-			for (int i = 0; i < gameComponents.size(); i++) {
-				object = gameComponents.get(i);
-				position = positions.next();
+		} else {
+			throw new IllegalStateException("Cannot reset the game. Status must be RUNNING");
+		}
+	}
 
-				// If the object applied a joint to any sort of object, the
-				// joint is removed. This will free any object movement.
-				if (object.observable instanceof JointApplier) {
-					((JointApplier) object.observable).removeAppliedJoint();
-				}
+	/**
+	 * Simulates the game from its actual PREPARING state, as fast as
+	 * possible, to predict its outcome without running it in real time. The
+	 * simulation stops as soon as every coin reached a pot of gold, if a coin
+	 * gets stuck before reaching one, or after the given simulated time. The
+	 * world is then put back in the state it was before the simulation, and
+	 * its update is resumed if it was running.
+	 * 
+	 * This method can only be called in the PREPARING state, and if
+	 * {@link #canBuild()} returns true.
+	 * 
+	 * @param seconds
+	 *            The maximum simulated time, in seconds.
+	 * @return The outcome of the game.
+	 */
+	public GameOutcome predictOutcome(double seconds) {
+		if (status.get() != Status.PREPARING) {
+			throw new IllegalStateException("Cannot predict the outcome. Status must be PREPARING");
+		}
+		if (!canBuild()) {
+			throw new IllegalStateException("Cannot build the world.");
+		}
 
-				// Then reset position and orientation
-				object.observable.translate(((Vector2) position[0]).x, ((Vector2) position[0]).y);
-				object.observable.rotate((Double) position[1]);
-			}
+		final boolean running = world.isRunning();
+		world.pause();
 
-			// The two lists have the same size
-			while (wrappers.hasNext()) {
-				object = wrappers.next();
-				position = positions.next();
+		final WorldState state = world.snapshot();
 
-				// If the object applied a joint to any sort of object, the
-				// joint is removed
-				if (object.observable instanceof JointApplier) {
-					((JointApplier) object.observable).removeAppliedJoint();
-				}
+		// The simulated collisions must not be heard
+		handler.setMuted(true);
 
-				// The coin is set to a normal mass if changed, and will
-				// translate freely again
-				if (object.instance == Observable.COIN) {
-					object.observable.getBodies().get(0).setMass(MassType.NORMAL);
-					object.observable.getBodies().get(0).setMass(Coin.COIN_MASS);
-				}
+		try {
+			world.setDynamic(true);
+
+			final double time = world.fastForward(seconds,
+					() -> countCapturedCoins(coinList, potList) == coinList.size() || isCoinStuck(coinList, potList));
 
-				// Then reset position and orientation
-				object.observable.translate(((Vector2) position[0]).x, ((Vector2) position[0]).y);
-				object.observable.rotate((Double) position[1]);
+			final int captured = countCapturedCoins(coinList, potList);
+			return new GameOutcome(captured == coinList.size(), time, captured, coinList.size());
 
+		} finally {
+			// Puts the game back as it was
+			removeAppliedJoints();
+			world.setDynamic(false);
+			world.restore(state);
+			handler.setMuted(false);
+
+			if (running) {
+				world.start();
 			}
+		}
+	}
 
-		} else {
-			throw new IllegalStateException("Cannot reset the game. Status must be RUNNING");
+	/**
+	 * Makes every object that applied a joint to any sort of object drop it.
+	 * This will free any object movement.
+	 */
+	private void removeAppliedJoints() {
+		for (ObservableWrapper object : gameComponents) {
+			if (object.observable instanceof JointApplier) {
+				((JointApplier) object.observable).removeAppliedJoint();
+			}
+		}
+		for (ObservableWrapper object : fixedObjects) {
+			if (object.observable instanceof JointApplier) {
+				((JointApplier) object.observable).removeAppliedJoint();
+			}
 		}
 	}
 
+	/**
+	 * Tells if the coin reached a pot of gold. A pot of gold captures a coin
+	 * by moving it to its own position.
+	 * 
+	 * @param coin
+	 *            The coin to check
+	 * @param pots
+	 *            The pots of gold of the game
+	 * @return True if the coin is in any pot of gold.
+	 */
+	static boolean isCoinCaptured(Coin coin, List<PotOfGold> pots) {
+		for (PotOfGold pot : pots) {
+			if (pot.getTranslate().equals(coin.getTranslate())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param coins
+	 *            The coins of the game
+	 * @param pots
+	 *            The pots of gold of the game
+	 * @return The number of coins that reached a pot of gold.
+	 */
+	static int countCapturedCoins(List<Coin> coins, List<PotOfGold> pots) {
+		int count = 0;
+		for (Coin coin : coins) {
+			if (isCoinCaptured(coin, pots)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Tells if a coin got stuck before reaching a pot of gold, for example on
+	 * a stick wall. The coin is stuck if its mass is infinite, and the player
+	 * can't win anymore.
+	 * 
+	 * @param coins
+	 *            The coins of the game
+	 * @param pots
+	 *            The pots of gold of the game
+	 * @return True if any coin not captured is stuck.
+	 */
+	static boolean isCoinStuck(List<Coin> coins, List<PotOfGold> pots) {
+		for (Coin coin : coins) {
+			if (!coin.getBodies().get(0).isDynamic() && !isCoinCaptured(coin, pots)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tells if the wrappers of the fixed objects are created with a view. The
+	 * views are not needed when the game's view draws the fixed objects
+	 * itself, from the bodies of the objects. The wrappers already created
+	 * are created again the next time a level is set.
+	 * 
+	 * @param fixedViews
+	 *            False to create the wrappers of the fixed objects without
+	 *            view nor controller
+	 */
+	public void setFixedViews(boolean fixedViews) {
+		if (this.fixedViews != fixedViews) {
+			this.fixedViews = fixedViews;
+
+			for (ObservableWrapper wrapper : views.values()) {
+				ObservableObjectFactory.recycle(wrapper);
+			}
+			views.clear();
+		}
+	}
+
+	/**
+	 * Adds a listener called on the JavaFX thread each time the objects of
+	 * the game are updated, to draw them.
+	 * 
+	 * @param listener
+	 *            The listener to add
+	 * @see DynamicWorld#addFrameListener(Runnable)
+	 */
+	public void addFrameListener(Runnable listener) {
+		world.addFrameListener(listener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addFrameListener(Runnable)}.
+	 * 
+	 * @param listener
+	 *            The listener to remove
+	 */
+	public void removeFrameListener(Runnable listener) {
+		world.removeFrameListener(listener);
+	}
+
 	/**
 	 * Stops the game update of the game. The status of the game is not changed,
 	 * and will remain the same if {@link #start()} is called. However, every
@@ -873,31 +1013,12 @@ public class GoldbergGame {
 	}
 
 	/**
-	 * Saves every objects positions. They are saved as arrays of objects, with
-	 * the first parameter set as a {@link Vector2} which is the position, and
-	 * the second is a Double representing the orientation. They are saved in
-	 * {@link #positionSave}. The first object to be saved are the game
-	 * components from {@link #gameComponents}, and then the objects from
-	 * {@link #fixedObjects}. They should be replaced the same when replaced in
-	 * {@link #reset()}.
+	 * Saves the state of the world in {@link #positionSave}: the positions,
+	 * velocities and masses of every object, and the joints of the world. It
+	 * is restored in {@link #reset()}.
 	 */
 	private void savePositions() {
-		// removes old positions
-		positionSave.clear();
-
-		// save the game components objects and orientation
-		for (ObservableWrapper wrapper : gameComponents) {
-			// Save the translate
-			positionSave
-					.add(new Object[] { wrapper.observable.getTranslate(), (Double) wrapper.observable.getRotate() });
-		}
-		// save the fixed objects
-		for (ObservableWrapper wrapper : fixedObjects) {
-			// Save the translate
-			positionSave
-					.add(new Object[] { wrapper.observable.getTranslate(), (Double) wrapper.observable.getRotate() });
-		}
-
+		positionSave = world.snapshot();
 	}
 
 	/**
@@ -913,6 +1034,7 @@ public class GoldbergGame {
 		if (status.get() == Status.BUILDING) {
 
 			fixedObjects.add(wrapper);
+			views.put(wrapper.observable, wrapper);
 			handler.applyEvents(wrapper);
 			world.addAllComplexObjects(wrapper.observable);
 
@@ -943,6 +1065,7 @@ public class GoldbergGame {
 		if (status.get() == Status.BUILDING) {
 			world.removeComplexObject(wrapper.observable);
 			level.removeFixedObject(wrapper.observable);
+			views.remove(wrapper.observable);
 			if (wrapper.instance == Observable.COIN) {
 				coinList.remove(wrapper.observable);
 			} else if (wrapper.instance == Observable.POT_OF_GOLD) {
@@ -965,14 +1088,28 @@ public class GoldbergGame {
 	 */
 	public void setDraggedWrapper(ObservableWrapper wrapper) {
 		if (getStatus() != Status.RUNNING) {
-			this.draggedPosSave = wrapper.observable.getTranslate();
-			this.orientationSave = wrapper.observable.getRotate();
+			world.edit(() -> {
+				this.draggedPosSave = wrapper.observable.getTranslate();
+				this.orientationSave = wrapper.observable.getRotate();
+			});
 			this.dragged = wrapper;
 		} else {
 			throw new IllegalStateException("The game should be in the BUILDING or PREPARING state");
 		}
 	}
 
+	/**
+	 * Moves the objects of the game with the given edit, without the
+	 * simulation stepping meanwhile. Every translation or rotation of an
+	 * object made while the game is not running must go through this method.
+	 * 
+	 * @param edit
+	 *            The modification of the objects
+	 */
+	public void edit(Runnable edit) {
+		world.edit(edit);
+	}
+
 	/**
 	 * Drops the wrapper that has been set using
 	 * {@link #setDraggedWrapper(ObservableWrapper)}. If the wrapper set at this
@@ -981,19 +1118,21 @@ public class GoldbergGame {
 	 */
 	public void dropWrapper() {
 		if (getStatus() != Status.RUNNING) {
-			if (stillCollides(dragged)) {
-				// Move the object to the old position
-				dragged.observable.translate(draggedPosSave.x, draggedPosSave.y);
-				dragged.observable.rotate(orientationSave);
-			}
+			world.edit(() -> {
+				if (stillCollides(dragged)) {
+					// Move the object to the old position
+					dragged.observable.translate(draggedPosSave.x, draggedPosSave.y);
+					dragged.observable.rotate(orientationSave);
+				}
+			});
 		} else {
 			throw new IllegalStateException("The game should be in the BUILDING or PREPARING state");
 		}
 	}
 
 	/**
-	 * Iterates over the observable wrappers to know if the object still
-	 * collides with any other object.
+	 * Asks the world if the object of the wrapper still collides with any
+	 * other object.
 	 * 
 	 * @param wrapper
 	 *            The wrapper on which verification must be handled.
@@ -1001,20 +1140,7 @@ public class GoldbergGame {
 	 * @return True if a collision is occurring, false otherwise.
 	 */
 	private boolean stillCollides(ObservableWrapper wrapper) {
-
-		final Set<CollidingPair> colliders = world.getColliders();
-
-		synchronized (colliders) {
-
-			for (CollidingPair pair : colliders) {
-				if ((pair.obj1 == wrapper.observable || pair.obj2 == wrapper.observable) && pair.obj1 != pair.obj2) {
-					return true;
-				}
-			}
-
-		}
-
-		return false;
+		return world.stillCollideWithOther(wrapper.observable);
 	}
 
 	/**
@@ -52,7 +52,8 @@ public class Level implements Comparable<Level> {
 	private Planet planet;
 
 	/**
-	 * The level's overview
+	 * The level's overview, taken by the builder and not saved yet. The
+	 * opened levels don't keep it, it stays in their file.
 	 */
 	private byte[] screenShot;
 
@@ -86,14 +87,19 @@ public class Level implements Comparable<Level> {
 	}
 
 	/**
-	 * Sets the level's screenShot from the byte array
+	 * Sets the level's screenShot from the byte array. It will be saved with
+	 * the level as its thumbnail.
 	 */
 	public void setScreenShot(byte[] picture) {
 		this.screenShot = picture;
 	}
 
 	/**
-	 * @return The level's screenShot
+	 * The screenShot of a level is only known if it has been set since the
+	 * level was created or opened. The thumbnail of a saved level is read from
+	 * its file, see {@link LevelSummary#getThumbnail()}.
+	 * 
+	 * @return The level's screenShot, or null if it has not been set
 	 */
 	public byte[] getScreenShot() {
 		return screenShot;
@@ -0,0 +1,172 @@
+package game;
+
+import java.io.File;
+
+/**
+ * The report of the simulation of a level by the {@link LevelValidator}. It
+ * contains the outcome of the level, and the statistics of the simulation :
+ * the number of steps performed, the time they took and the number of
+ * contacts reported by the engine.
+ *
+ * If the level could not be opened or simulated, the report only contains
+ * the error, returned by {@link #getError()}.
+ *
+ * @author sunny
+ *
+ */
+public final class LevelReport {
+
+	/**
+	 * The file of the level.
+	 */
+	private final File file;
+
+	/**
+	 * The name of the level, or null if it could not be opened.
+	 */
+	private final String name;
+
+	/**
+	 * The outcome of the level, or null if it could not be simulated.
+	 */
+	private final GameOutcome outcome;
+
+	/**
+	 * The number of steps performed by the world.
+	 */
+	private final long steps;
+
+	/**
+	 * The number of contacts reported by the engine.
+	 */
+	private final long contacts;
+
+	/**
+	 * The real time, in nanoseconds, taken by the simulation.
+	 */
+	private final long nanos;
+
+	/**
+	 * The error that prevented the level to be simulated, or null.
+	 */
+	private final Exception error;
+
+	/**
+	 * Constructs the report of a level simulated successfully.
+	 *
+	 * @param file
+	 *            The file of the level
+	 * @param name
+	 *            The name of the level
+	 * @param outcome
+	 *            The outcome of the level
+	 * @param steps
+	 *            The number of steps performed by the world
+	 * @param contacts
+	 *            The number of contacts reported by the engine
+	 * @param nanos
+	 *            The real time, in nanoseconds, taken by the simulation
+	 */
+	public LevelReport(File file, String name, GameOutcome outcome, long steps, long contacts, long nanos) {
+		this.file = file;
+		this.name = name;
+		this.outcome = outcome;
+		this.steps = steps;
+		this.contacts = contacts;
+		this.nanos = nanos;
+		this.error = null;
+	}
+
+	/**
+	 * Constructs the report of a level that could not be simulated.
+	 *
+	 * @param file
+	 *            The file of the level
+	 * @param error
+	 *            The error that prevented the simulation
+	 */
+	public LevelReport(File file, Exception error) {
+		this.file = file;
+		this.name = null;
+		this.outcome = null;
+		this.steps = 0;
+		this.contacts = 0;
+		this.nanos = 0;
+		this.error = error;
+	}
+
+	/**
+	 * @return The file of the level.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return The name of the level, or null if it could not be opened.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The outcome of the level, or null if it could not be
+	 *         simulated.
+	 */
+	public GameOutcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * @return The number of steps performed by the world.
+	 */
+	public long getSteps() {
+		return steps;
+	}
+
+	/**
+	 * @return The number of contacts reported by the engine.
+	 */
+	public long getContacts() {
+		return contacts;
+	}
+
+	/**
+	 * @return The real time, in nanoseconds, taken by the simulation.
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * @return The number of steps performed per second of real time.
+	 */
+	public double getStepsPerSecond() {
+		return nanos == 0 ? 0 : steps * 1_000_000_000.0 / nanos;
+	}
+
+	/**
+	 * @return The error that prevented the level to be simulated, or null if
+	 *         the simulation succeeded.
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+	/**
+	 * @return True if the level was simulated successfully.
+	 */
+	public boolean isValid() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		if (!isValid()) {
+			return file.getName() + " : " + error;
+		}
+		return String.format("%s : %s in %.2f s, %d coin(s) of %d, %d steps (%.0f steps/s), %d contacts", name,
+				outcome.hasWon() ? "won" : "lost", outcome.getTime(), outcome.getCapturedCoins(),
+				outcome.getCoinCount(), steps, getStepsPerSecond(), contacts);
+	}
+}
@@ -0,0 +1,283 @@
+package game;
+
+import java.io.File;
+import java.io.IOException;
+
+import utils.BufferingUtils;
+import utils.LevelPack;
+
+/**
+ * The information of a level displayed by the level browser : its name,
+ * creator, dimensions and planet, and where its thumbnail is in its file.
+ *
+ * A summary is read from the header of the level file only, via
+ * {@link BufferingUtils#readLevelSummary(File)}, so browsing the levels
+ * doesn't create any of their objects. The complete {@link Level} is opened
+ * with {@link #open()} when it is played or modified.
+ *
+ * The levels of a {@link LevelPack} are read from the pack : their file is
+ * the pack followed by the name of the level in the pack, and their
+ * thumbnail offset is in the pack.
+ *
+ * @author sunny
+ *
+ */
+public final class LevelSummary implements Comparable<LevelSummary> {
+
+	/**
+	 * The file of the level.
+	 */
+	private final File file;
+
+	/**
+	 * The name of the level.
+	 */
+	private final String name;
+
+	/**
+	 * The name of the creator of the level.
+	 */
+	private final String creator;
+
+	/**
+	 * The height and the width of the world of the level.
+	 */
+	private final double height, width;
+
+	/**
+	 * The planet of the level. Can be null.
+	 */
+	private final Planet planet;
+
+	/**
+	 * The position of the thumbnail in the file, or -1 if it is not known and
+	 * the header must be read again to find it.
+	 */
+	private final long thumbnailOffset;
+
+	/**
+	 * The length of the thumbnail, or -1 if the level has none.
+	 */
+	private final int thumbnailLength;
+
+	/**
+	 * The thumbnail, if it had to be read with the header. Null otherwise.
+	 */
+	private final byte[] thumbnail;
+
+	/**
+	 * The pack containing the level, or null if it is in its own file.
+	 */
+	private final LevelPack pack;
+
+	/**
+	 * Constructs the summary of a level whose thumbnail is read from its file
+	 * when asked.
+	 *
+	 * @param file
+	 *            The file of the level
+	 * @param name
+	 *            The name of the level
+	 * @param creator
+	 *            The name of the creator of the level
+	 * @param height
+	 *            The height of the world of the level
+	 * @param width
+	 *            The width of the world of the level
+	 * @param planet
+	 *            The planet of the level
+	 * @param thumbnailOffset
+	 *            The position of the thumbnail in the file, or -1 if the
+	 *            header must be read again to find it
+	 * @param thumbnailLength
+	 *            The length of the thumbnail, or -1 if there is none
+	 */
+	public LevelSummary(File file, String name, String creator, double height, double width, Planet planet,
+			long thumbnailOffset, int thumbnailLength) {
+		this(null, file, name, creator, height, width, planet, thumbnailOffset, thumbnailLength);
+	}
+
+	/**
+	 * Constructs the summary of a level of a pack.
+	 *
+	 * @param pack
+	 *            The pack containing the level. Can be null if the level is
+	 *            in its own file.
+	 * @param file
+	 *            The file of the level, or the pack followed by the name of
+	 *            the level in the pack
+	 * @param name
+	 *            The name of the level
+	 * @param creator
+	 *            The name of the creator of the level
+	 * @param height
+	 *            The height of the world of the level
+	 * @param width
+	 *            The width of the world of the level
+	 * @param planet
+	 *            The planet of the level
+	 * @param thumbnailOffset
+	 *            The position of the thumbnail in the file, or in the pack
+	 * @param thumbnailLength
+	 *            The length of the thumbnail, or -1 if there is none
+	 */
+	public LevelSummary(LevelPack pack, File file, String name, String creator, double height, double width,
+			Planet planet, long thumbnailOffset, int thumbnailLength) {
+		this.pack = pack;
+		this.file = file;
+		this.name = name;
+		this.creator = creator;
+		this.height = height;
+		this.width = width;
+		this.planet = planet;
+		this.thumbnailOffset = thumbnailOffset;
+		this.thumbnailLength = thumbnailLength;
+		this.thumbnail = null;
+	}
+
+	/**
+	 * Constructs the summary of a level whose thumbnail was read with its
+	 * header, as for the levels serialized by the previous versions of the
+	 * game.
+	 *
+	 * @param file
+	 *            The file of the level
+	 * @param name
+	 *            The name of the level
+	 * @param creator
+	 *            The name of the creator of the level
+	 * @param height
+	 *            The height of the world of the level
+	 * @param width
+	 *            The width of the world of the level
+	 * @param planet
+	 *            The planet of the level
+	 * @param thumbnail
+	 *            The thumbnail of the level. Can be null.
+	 */
+	public LevelSummary(File file, String name, String creator, double height, double width, Planet planet,
+			byte[] thumbnail) {
+		this.file = file;
+		this.name = name;
+		this.creator = creator;
+		this.height = height;
+		this.width = width;
+		this.planet = planet;
+		this.thumbnailOffset = -1;
+		this.thumbnailLength = thumbnail == null ? -1 : thumbnail.length;
+		this.thumbnail = thumbnail;
+		this.pack = null;
+	}
+
+	/**
+	 * @return The file of the level.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return The path to the file of the level, as returned by
+	 *         {@link Level#getPath()}.
+	 */
+	public String getPath() {
+		return file.getPath();
+	}
+
+	/**
+	 * @return The pack containing the level, or null if it is in its own
+	 *         file.
+	 */
+	public LevelPack getPack() {
+		return pack;
+	}
+
+	/**
+	 * @return The name of the level.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The name of the creator of the level.
+	 */
+	public String getCreator() {
+		return creator;
+	}
+
+	/**
+	 * @return The height of the world of the level.
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * @return The width of the world of the level.
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return The planet of the level. Can be null.
+	 */
+	public Planet getPlanet() {
+		return planet;
+	}
+
+	/**
+	 * @return The position of the thumbnail in the file of the level, or -1
+	 *         if it is not known.
+	 */
+	public long getThumbnailOffset() {
+		return thumbnailOffset;
+	}
+
+	/**
+	 * @return The length of the thumbnail, or -1 if the level has none.
+	 */
+	public int getThumbnailLength() {
+		return thumbnailLength;
+	}
+
+	/**
+	 * Returns the thumbnail of the level. If it was not read with the header,
+	 * it is read from the file of the level every time this method is called,
+	 * via {@link BufferingUtils#readThumbnail(LevelSummary)}, or from its
+	 * pack.
+	 *
+	 * @return The thumbnail, or null if the level has none.
+	 * @throws IOException
+	 *             If the file can't be read
+	 */
+	public byte[] getThumbnail() throws IOException {
+		if (thumbnail != null || thumbnailLength < 0) {
+			return thumbnail;
+		}
+		return pack == null ? BufferingUtils.readThumbnail(this) : pack.readThumbnail(this);
+	}
+
+	/**
+	 * Opens the complete level, with its objects and inventory.
+	 *
+	 * @return The level
+	 * @throws IOException
+	 *             If the file can't be read
+	 * @throws ClassNotFoundException
+	 *             If the level was serialized with unknown classes
+	 */
+	public Level open() throws IOException, ClassNotFoundException {
+		return pack == null ? BufferingUtils.openLevel(file) : pack.open(this);
+	}
+
+	/**
+	 * 2 summaries are compared by the name of their level, in alphabetic
+	 * order, like {@link Level#compareTo(Level)}.
+	 */
+	@Override
+	public int compareTo(LevelSummary o) {
+		return this.name.compareTo(o.name);
+	}
+}
@@ -0,0 +1,221 @@
+package game;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import gameObservables.Coin;
+import gameObservables.PotOfGold;
+import javafx.beans.property.SimpleDoubleProperty;
+import observables.AbstractComplexObservable;
+import observables.DynamicWorld;
+import observables.DynamicWorld.Bounds;
+import utils.BufferingUtils;
+
+/**
+ * Batch runner that simulates levels without displaying them, to check that
+ * they still behave the same way after a modification of the engine.
+ *
+ * Every level is opened via {@link BufferingUtils#openLevel(File)} and
+ * simulated in its own headless {@link DynamicWorld}, as fast as possible, with
+ * only its fixed objects. The levels are simulated in parallel on a
+ * {@link ForkJoinPool} using all the available processors, and a
+ * {@link LevelReport} is produced for each of them.
+ *
+ * Can be run from the command line via {@link #main(String[])}.
+ *
+ * @author sunny
+ *
+ */
+public class LevelValidator {
+
+	/**
+	 * The extension of the level files.
+	 */
+	public static final String LEVEL_EXTENSION = ".god";
+
+	/**
+	 * The default simulated time of every level, in seconds.
+	 */
+	public static final double DEFAULT_SIMULATED_TIME = 10;
+
+	/**
+	 * The repositories validated by default by {@link #main(String[])}.
+	 */
+	public static final String[] DEFAULT_REPOSITORIES = { "levels/campaign", "levels/personnal" };
+
+	/**
+	 * The maximum simulated time of every level, in seconds.
+	 */
+	private final double seconds;
+
+	/**
+	 * Constructs a validator simulating every level during
+	 * {@link #DEFAULT_SIMULATED_TIME}.
+	 */
+	public LevelValidator() {
+		this(DEFAULT_SIMULATED_TIME);
+	}
+
+	/**
+	 * Constructs a validator simulating every level during the given time.
+	 *
+	 * @param seconds
+	 *            The maximum simulated time of every level, in seconds. Must
+	 *            be greater than 0.
+	 */
+	public LevelValidator(double seconds) {
+		if (seconds <= 0) {
+			throw new IllegalArgumentException("The simulated time must be greater than 0");
+		}
+		this.seconds = seconds;
+	}
+
+	/**
+	 * Simulates in parallel all the levels contained in the given
+	 * repositories, and their sub repositories.
+	 *
+	 * @param repositories
+	 *            The repositories of the levels
+	 * @return The reports of the levels, in the order the files were found.
+	 */
+	public List<LevelReport> validateAll(File... repositories) {
+
+		final List<File> files = new ArrayList<>();
+
+		for (File repository : repositories) {
+			for (File file : BufferingUtils.listFilesFromRepository(repository)) {
+				if (file.getName().endsWith(LEVEL_EXTENSION)) {
+					files.add(file);
+				}
+			}
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		final List<ForkJoinTask<LevelReport>> tasks = new ArrayList<>();
+		final List<LevelReport> reports = new ArrayList<>();
+
+		try {
+			for (File file : files) {
+				tasks.add(pool.submit(() -> validate(file)));
+			}
+			for (ForkJoinTask<LevelReport> task : tasks) {
+				reports.add(task.join());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		return reports;
+	}
+
+	/**
+	 * Opens the level contained in the file and simulates it in its own
+	 * world, until every coin reached a pot of gold, a coin gets stuck, or the
+	 * simulated time is over.
+	 *
+	 * @param file
+	 *            The file of the level
+	 * @return The report of the level. If the level could not be opened or
+	 *         simulated, the report contains the error.
+	 */
+	public LevelReport validate(File file) {
+		try {
+			final Level level = BufferingUtils.openLevel(file);
+			final DynamicWorld world = createWorld(level);
+
+			final List<Coin> coins = new ArrayList<>();
+			final List<PotOfGold> pots = new ArrayList<>();
+
+			for (AbstractComplexObservable object : level.getFixedObject()) {
+				world.addComplexObject(object);
+
+				if (object instanceof Coin) {
+					coins.add((Coin) object);
+				} else if (object instanceof PotOfGold) {
+					pots.add((PotOfGold) object);
+				}
+			}
+
+			world.setDynamic(true);
+
+			final long start = System.nanoTime();
+			final double time = world.fastForward(seconds, () -> !coins.isEmpty()
+					&& (GoldbergGame.countCapturedCoins(coins, pots) == coins.size()
+							|| GoldbergGame.isCoinStuck(coins, pots)));
+			final long nanos = System.nanoTime() - start;
+
+			final int captured = GoldbergGame.countCapturedCoins(coins, pots);
+			final GameOutcome outcome = new GameOutcome(!coins.isEmpty() && captured == coins.size(), time, captured,
+					coins.size());
+
+			return new LevelReport(file, level.getName(), outcome, world.getStepCount(), world.getContactCount(),
+					nanos);
+
+		} catch (Exception e) {
+			return new LevelReport(file, e);
+		}
+	}
+
+	/**
+	 * Creates a headless world configured like the world of the
+	 * {@link GoldbergGame} for the given level.
+	 */
+	private DynamicWorld createWorld(Level level) {
+		final DynamicWorld world = new DynamicWorld(new SimpleDoubleProperty(level.getHeight()).add(0),
+				new SimpleDoubleProperty(level.getWidth()).add(0), -level.getPlanet().getGravity(), true);
+
+		world.setBorderFriction(GoldbergGame.BORDER_FRICTION);
+
+		switch (level.getBorders()) {
+		case NORMAL:
+			world.setAllBound(Bounds.values());
+			break;
+		case TELEPORTABLE:
+			world.setBoundsCrossedTeleportation(true);
+			break;
+		}
+		return world;
+	}
+
+	/**
+	 * Validates the levels of the repositories given as arguments, or the
+	 * {@link #DEFAULT_REPOSITORIES} if there are none, and prints the reports.
+	 * The exit code is 1 if any level could not be simulated.
+	 *
+	 * @param args
+	 *            The repositories of the levels
+	 */
+	public static void main(String[] args) {
+
+		final String[] paths = args.length == 0 ? DEFAULT_REPOSITORIES : args;
+		final File[] repositories = new File[paths.length];
+
+		for (int i = 0; i < paths.length; i++) {
+			repositories[i] = new File(paths[i]);
+		}
+
+		final long start = System.nanoTime();
+		final List<LevelReport> reports = new LevelValidator().validateAll(repositories);
+		final long nanos = System.nanoTime() - start;
+
+		long steps = 0;
+		int errors = 0;
+
+		for (LevelReport report : reports) {
+			System.out.println(report);
+			steps += report.getSteps();
+
+			if (!report.isValid()) {
+				errors++;
+			}
+		}
+
+		System.out.println(String.format("%d level(s), %d error(s), %d steps in %.2f s (%.0f steps/s)",
+				reports.size(), errors, steps, nanos / 1e9, steps * 1e9 / nanos));
+
+		System.exit(errors == 0 ? 0 : 1);
+	}
+}
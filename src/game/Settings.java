@@ -42,6 +42,19 @@ public class Settings {
 	public static final String PATH_TO_PERSONNAL = new File(".").getPath() + "/levels/personnal/";
 	public static final String PATH_TO_DEFAULT = new File(".").getPath() + "/levels/campaign/";
 
+	/**
+	 * The pack of the campaign levels. If it exists, the campaign is read from
+	 * it instead of {@link #PATH_TO_DEFAULT}.
+	 */
+	public static final String PATH_TO_CAMPAIGN_PACK = new File(".").getPath() + "/levels/campaign.pack";
+
+	/**
+	 * True to draw the fixed objects of the levels in a single canvas, instead
+	 * of a view for each object. Set with the system property
+	 * "goldberg.canvas".
+	 */
+	public static final boolean CANVAS_RENDERING = Boolean.getBoolean("goldberg.canvas");
+
 	/**
 	 * The file extension for the level files.
 	 */
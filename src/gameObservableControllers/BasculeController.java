@@ -95,4 +95,25 @@ public class BasculeController implements ChildrenController {
 		this.parent = parent;
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #bascule}.
+	 */
+	@Override
+	public void unbind() {
+		basculeView.fitWidthProperty().unbind();
+		basculeView.fitHeightProperty().unbind();
+		basculeView.rotateProperty().unbind();
+		basculeView.layoutXProperty().unbind();
+		basculeView.layoutYProperty().unbind();
+
+		bearingView.fitWidthProperty().unbind();
+		bearingView.fitHeightProperty().unbind();
+		bearingView.rotateProperty().unbind();
+		bearingView.layoutXProperty().unbind();
+		bearingView.layoutYProperty().unbind();
+
+		bascule = null;
+		parent = null;
+	}
+
 }
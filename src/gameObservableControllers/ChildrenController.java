@@ -21,4 +21,13 @@ public interface ChildrenController {
 	 */
 	public void setParentController(ParentController parent);
 
+	/**
+	 * Unbinds the view from the properties of its object, and forgets the
+	 * object and the parent controller. The view and this controller can then
+	 * be given another object of the same type, instead of loading a new view.
+	 * 
+	 * @see gameObservableViews.ObservableObjectFactory#recycle(gameObservableViews.ObservableWrapper)
+	 */
+	public void unbind();
+
 }
@@ -7,6 +7,7 @@ import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
+import utils.ImageCache;
 
 public class CoinController implements ChildrenController {
 
@@ -23,7 +24,7 @@ public class CoinController implements ChildrenController {
 		}
 
 		protected Image getImage() {
-			return new Image(BasculeController.class.getClass().getResource(path).toExternalForm());
+			return ImageCache.getResource(path);
 		}
 	}
 
@@ -40,6 +41,12 @@ public class CoinController implements ChildrenController {
 	 */
 	private ParentController parent;
 
+	/**
+	 * The image of the view when it was loaded, set back when the view is
+	 * unbound.
+	 */
+	private Image defaultImage;
+
 	/**
 	 * Sets the view's Coin, on which properties are binded.
 	 * 
@@ -51,6 +58,9 @@ public class CoinController implements ChildrenController {
 			throw new NullPointerException();
 		this.coin = observable;
 
+		if (defaultImage == null) {
+			defaultImage = coinView.getImage();
+		}
 		initializeBinding();
 
 	}
@@ -109,4 +119,20 @@ public class CoinController implements ChildrenController {
 
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #coin}.
+	 */
+	@Override
+	public void unbind() {
+		coinView.fitWidthProperty().unbind();
+		coinView.fitHeightProperty().unbind();
+		coinView.rotateProperty().unbind();
+		coinView.layoutXProperty().unbind();
+		coinView.layoutYProperty().unbind();
+		coinView.setImage(defaultImage);
+
+		coin = null;
+		parent = null;
+	}
+
 }
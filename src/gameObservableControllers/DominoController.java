@@ -84,4 +84,19 @@ public class DominoController implements ChildrenController {
 		this.parent = parent;
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #domino}.
+	 */
+	@Override
+	public void unbind() {
+		dominoView.fitWidthProperty().unbind();
+		dominoView.fitHeightProperty().unbind();
+		dominoView.rotateProperty().unbind();
+		dominoView.layoutXProperty().unbind();
+		dominoView.layoutYProperty().unbind();
+
+		domino = null;
+		parent = null;
+	}
+
 }
@@ -94,4 +94,19 @@ public class PotOfGoldController implements Initializable, ChildrenController {
 
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #pot}.
+	 */
+	@Override
+	public void unbind() {
+		potOfGoldView.fitWidthProperty().unbind();
+		potOfGoldView.fitHeightProperty().unbind();
+		potOfGoldView.rotateProperty().unbind();
+		potOfGoldView.layoutXProperty().unbind();
+		potOfGoldView.layoutYProperty().unbind();
+
+		pot = null;
+		parent = null;
+	}
+
 }
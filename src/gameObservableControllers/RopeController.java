@@ -107,4 +107,32 @@ public class RopeController implements ChildrenController {
 	public void setParentController(ParentController parent) {
 		this.parent = parent;
 	}
+
+	/**
+	 * Unbinds the view from the properties of the {@link #rope}.
+	 */
+	@Override
+	public void unbind() {
+		baseView.fitWidthProperty().unbind();
+		baseView.fitHeightProperty().unbind();
+		baseView.rotateProperty().unbind();
+		baseView.layoutXProperty().unbind();
+		baseView.layoutYProperty().unbind();
+
+		ropeView.fitWidthProperty().unbind();
+		ropeView.fitHeightProperty().unbind();
+		ropeView.rotateProperty().unbind();
+		ropeView.layoutXProperty().unbind();
+		ropeView.layoutYProperty().unbind();
+
+		magnetView.fitWidthProperty().unbind();
+		magnetView.fitHeightProperty().unbind();
+		magnetView.rotateProperty().unbind();
+		magnetView.layoutXProperty().unbind();
+		magnetView.layoutYProperty().unbind();
+
+		rope = null;
+		parent = null;
+	}
+
 }
@@ -44,6 +44,15 @@ public class SpringController implements Initializable, ChildrenController {
 		plateView.setPreserveRatio(false);
 		springView.setPreserveRatio(false);
 		bottomView.setPreserveRatio(false);
+
+		// Solves contraction of the image to zero value.
+		springView.fitWidthProperty().addListener((value, old, newv) -> {
+			if (Math.abs(newv.doubleValue() - 0.001) <= 0.01) {
+				springView.setVisible(false);
+			} else if (Math.abs(old.doubleValue() - 0.001) <= 0.01) {
+				springView.setVisible(true);
+			}
+		});
 	}
 
 	/**
@@ -100,15 +109,6 @@ public class SpringController implements Initializable, ChildrenController {
 		plateView.layoutXProperty().bind(spring.plateTopLeftCornerXProperty());
 		plateView.layoutYProperty().bind(spring.plateTopLeftCornerYProperty());
 
-		// Solves contraction of the image to zero value.
-		springView.fitWidthProperty().addListener((value, old, newv) -> {
-			if (Math.abs(newv.doubleValue() - 0.001) <= 0.01) {
-				springView.setVisible(false);
-			} else if (Math.abs(old.doubleValue() - 0.001) <= 0.01) {
-				springView.setVisible(true);
-			}
-		});
-
 	}
 
 	/**
@@ -144,4 +144,31 @@ public class SpringController implements Initializable, ChildrenController {
 
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #spring}.
+	 */
+	@Override
+	public void unbind() {
+		bottomView.fitWidthProperty().unbind();
+		bottomView.fitHeightProperty().unbind();
+		bottomView.rotateProperty().unbind();
+		bottomView.layoutXProperty().unbind();
+		bottomView.layoutYProperty().unbind();
+
+		springView.fitWidthProperty().unbind();
+		springView.fitHeightProperty().unbind();
+		springView.rotateProperty().unbind();
+		springView.layoutXProperty().unbind();
+		springView.layoutYProperty().unbind();
+
+		plateView.fitWidthProperty().unbind();
+		plateView.fitHeightProperty().unbind();
+		plateView.rotateProperty().unbind();
+		plateView.layoutXProperty().unbind();
+		plateView.layoutYProperty().unbind();
+
+		spring = null;
+		parent = null;
+	}
+
 }
@@ -23,4 +23,10 @@ public class StickBasculeController extends BasculeController {
 
 	}
 
+	@Override
+	public void unbind() {
+		super.unbind();
+		this.bascule = null;
+	}
+
 }
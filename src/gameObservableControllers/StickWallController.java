@@ -94,4 +94,19 @@ public class StickWallController implements Initializable, ChildrenController {
 
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #stickWall}.
+	 */
+	@Override
+	public void unbind() {
+		stickWallView.fitWidthProperty().unbind();
+		stickWallView.fitHeightProperty().unbind();
+		stickWallView.rotateProperty().unbind();
+		stickWallView.layoutXProperty().unbind();
+		stickWallView.layoutYProperty().unbind();
+
+		stickWall = null;
+		parent = null;
+	}
+
 }
@@ -7,19 +7,19 @@ import gameObservables.Observable;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import observables.Surface;
+import utils.ImageCache;
 
 public class SurfaceController implements Initializable, ChildrenController {
 
 	/**
 	 * Available views for the Surface.
 	 */
-	private static final Image[] VIEWS = {
+	private static final String[] VIEWS = {
 
-			new Image(SurfaceController.class.getResource("/images/Surface1.png").toExternalForm())
+			"/images/Surface1.png"
 
 	};
 	@FXML
@@ -51,7 +51,7 @@ public class SurfaceController implements Initializable, ChildrenController {
 	 */
 	private void initializeBinding() {
 
-		surfaceView.setImage(VIEWS[(int) (Math.random() * VIEWS.length)]);
+		surfaceView.setImage(ImageCache.getResource(VIEWS[(int) (Math.random() * VIEWS.length)]));
 		// Initialize the surfaceView binding
 		surfaceView.fitWidthProperty().bind(surface.widthProperty());
 		surfaceView.fitHeightProperty().bind(surface.heightProperty());
@@ -105,4 +105,19 @@ public class SurfaceController implements Initializable, ChildrenController {
 
 	}
 
+	/**
+	 * Unbinds the view from the properties of the {@link #surface}.
+	 */
+	@Override
+	public void unbind() {
+		surfaceView.fitWidthProperty().unbind();
+		surfaceView.fitHeightProperty().unbind();
+		surfaceView.rotateProperty().unbind();
+		surfaceView.layoutXProperty().unbind();
+		surfaceView.layoutYProperty().unbind();
+
+		surface = null;
+		parent = null;
+	}
+
 }
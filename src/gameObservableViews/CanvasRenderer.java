@@ -0,0 +1,422 @@
+package gameObservableViews;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.geometry.Circle;
+import org.dyn4j.geometry.Convex;
+import org.dyn4j.geometry.Polygon;
+import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Transform;
+import org.dyn4j.geometry.Vector2;
+
+import gameObservables.Bascule;
+import gameObservables.Coin;
+import gameObservables.Domino;
+import gameObservables.PotOfGold;
+import gameObservables.Rope;
+import gameObservables.Spring;
+import gameObservables.StickBascule;
+import gameObservables.StickWall;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import observables.AbstractComplexObservable;
+import observables.ScaleManager;
+import observables.Surface;
+import utils.ImageCache;
+
+/**
+ * Draws objects of the game in a single {@link Canvas}, instead of creating a
+ * view for each of them. The objects are drawn from the render transforms of
+ * their bodies, see {@link AbstractComplexObservable#getRenderTransform(Body)},
+ * each time {@link #render()} is called, usually at every frame of the world.
+ *
+ * The canvas is meant to be put in the same pane as the views of the objects,
+ * so it is drawn in pixels with the y axis going up, as the views. The objects
+ * drawn don't have any node to receive the mouse events : the object under a
+ * point is found from the shapes of its bodies with {@link #pick(double, double)}.
+ *
+ * @author sunny
+ *
+ */
+public class CanvasRenderer {
+
+	/**
+	 * Draws an object of a given class.
+	 */
+	@FunctionalInterface
+	private interface Painter {
+		void paint(CanvasRenderer renderer, AbstractComplexObservable object);
+	}
+
+	/**
+	 * The painters of the objects, by class. The painter of an object is the
+	 * one of its class, or of the closest superclass having one.
+	 */
+	private static final Map<Class<?>, Painter> painters = new HashMap<>();
+
+	static {
+		painters.put(Surface.class, (r, o) -> r.drawBody(o, o.getBodies().get(0), "/images/Surface1.png", 0));
+		painters.put(StickWall.class, (r, o) -> r.drawBody(o, o.getBodies().get(0), "/images/StickyWall.png", 0));
+		painters.put(Domino.class, (r, o) -> r.drawBody(o, o.getBodies().get(0), "/images/domino.png", 0));
+		painters.put(PotOfGold.class,
+				(r, o) -> r.drawBody(o, o.getBodies().get(0), "/images/Pot-of-gold-100.png", 180));
+		painters.put(Coin.class, (r, o) -> r.drawBody(o, o.getBodies().get(0), "/images/coinSmile.gif", 180));
+		painters.put(Bascule.class, (r, o) -> r.drawBascule(o, "/images/bascule.jpg"));
+		painters.put(StickBascule.class, (r, o) -> r.drawBascule(o, "/images/stickBascule.png"));
+		painters.put(Spring.class, (r, o) -> r.drawSpring((Spring) o));
+		painters.put(Rope.class, (r, o) -> r.drawRope((Rope) o));
+	}
+
+	/**
+	 * The color of the objects without image, or whose image is still being
+	 * decoded.
+	 */
+	private static final Color DEFAULT_FILL = Color.GRAY;
+
+	/**
+	 * The color of the outline of the {@link #selected} object.
+	 */
+	private static final Color SELECTED_STROKE = Color.LIGHTGREEN;
+
+	private final Canvas canvas;
+
+	/**
+	 * The objects drawn, in drawing order.
+	 */
+	private final List<AbstractComplexObservable> objects;
+
+	/**
+	 * The images used by the painters, by path. Kept here so the
+	 * {@link ImageCache} is not requested at every frame.
+	 */
+	private final Map<String, Image> images;
+
+	/**
+	 * The object drawn with an outline, or null.
+	 */
+	private AbstractComplexObservable selected;
+
+	/**
+	 * Creates a renderer with an empty canvas. The size of the canvas must be
+	 * set, or bound, to the size of the pane it is put in.
+	 */
+	public CanvasRenderer() {
+		this.canvas = new Canvas();
+		this.objects = new ArrayList<>();
+		this.images = new HashMap<>();
+	}
+
+	/**
+	 * @return The canvas in which the objects are drawn
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Replaces the objects drawn. The canvas is only drawn again at the next
+	 * call of {@link #render()}.
+	 *
+	 * @param objects
+	 *            The objects to draw, in drawing order
+	 */
+	public void setObjects(List<? extends AbstractComplexObservable> objects) {
+		this.objects.clear();
+		this.objects.addAll(objects);
+
+		if (!this.objects.contains(selected)) {
+			selected = null;
+		}
+	}
+
+	/**
+	 * Adds an object over the other objects drawn.
+	 *
+	 * @param object
+	 *            The object to draw
+	 */
+	public void add(AbstractComplexObservable object) {
+		objects.add(object);
+	}
+
+	/**
+	 * Removes an object drawn.
+	 *
+	 * @param object
+	 *            The object not to draw anymore
+	 */
+	public void remove(AbstractComplexObservable object) {
+		objects.remove(object);
+
+		if (selected == object) {
+			selected = null;
+		}
+	}
+
+	/**
+	 * @return The objects drawn, in drawing order
+	 */
+	public List<AbstractComplexObservable> getObjects() {
+		return objects;
+	}
+
+	/**
+	 * Sets the object drawn with an outline.
+	 *
+	 * @param selected
+	 *            One of the objects drawn, or null for none
+	 */
+	public void setSelected(AbstractComplexObservable selected) {
+		this.selected = selected;
+	}
+
+	/**
+	 * @return The object drawn with an outline, or null
+	 */
+	public AbstractComplexObservable getSelected() {
+		return selected;
+	}
+
+	/**
+	 * Returns the object drawn at a point of the world. The shapes of the
+	 * bodies are tested at their render transforms, so the object found is the
+	 * one displayed at this point. The objects drawn last are tested first, as
+	 * they are drawn over the others.
+	 *
+	 * @param x
+	 *            The x coordinate of the point, in meters
+	 * @param y
+	 *            The y coordinate of the point, in meters
+	 * @return The object at this point, or null if there is none
+	 */
+	public AbstractComplexObservable pick(double x, double y) {
+		final Vector2 point = new Vector2(x, y);
+
+		for (int i = objects.size() - 1; i >= 0; i--) {
+			final AbstractComplexObservable object = objects.get(i);
+
+			for (Body body : object.getBodies()) {
+				final Transform transform = object.getRenderTransform(body);
+
+				for (BodyFixture fixture : body.getFixtures()) {
+					if (fixture.getShape().contains(point, transform)) {
+						return object;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Draws all the objects in the canvas, at the current render transforms of
+	 * their bodies. Must be called on the JavaFX thread.
+	 */
+	public void render() {
+		final GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+		for (AbstractComplexObservable object : objects) {
+			final Painter painter = getPainter(object.getClass());
+
+			if (painter == null) {
+				drawShapes(object, false);
+			} else {
+				painter.paint(this, object);
+			}
+		}
+
+		if (selected != null) {
+			drawShapes(selected, true);
+		}
+	}
+
+	/**
+	 * @return The painter of the class, or of its closest superclass having
+	 *         one, or null if there is none.
+	 */
+	private static Painter getPainter(Class<?> type) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			final Painter painter = painters.get(c);
+
+			if (painter != null) {
+				return painter;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Draws the image over the shape of the body, as the views do with their
+	 * ImageView.
+	 *
+	 * @param object
+	 *            The object of the body
+	 * @param body
+	 *            The body, having a Rectangle or a Circle fixture
+	 * @param path
+	 *            The resource path of the image
+	 * @param rotation
+	 *            The rotation added to the rotation of the body, in degrees
+	 */
+	private void drawBody(AbstractComplexObservable object, Body body, String path, double rotation) {
+		final Transform transform = object.getRenderTransform(body);
+		final Convex shape = body.getFixture(0).getShape();
+		final Vector2 center = transform.getTransformed(shape.getCenter());
+
+		double width, height;
+
+		if (shape instanceof Rectangle) {
+			width = ((Rectangle) shape).getWidth();
+			height = ((Rectangle) shape).getHeight();
+		} else {
+			width = height = shape.getRadius() * 2;
+		}
+
+		drawImage(path, center.x, center.y, width, height, Math.toDegrees(transform.getRotation()) + rotation);
+	}
+
+	/**
+	 * Draws the plank of the bascule and its bearing, at the center of the
+	 * plank.
+	 */
+	private void drawBascule(AbstractComplexObservable object, String path) {
+		final Body plank = object.getBodies().get(0);
+		final Rectangle shape = (Rectangle) plank.getFixture(0).getShape();
+		final Vector2 center = object.getRenderTransform(plank).getTransformed(shape.getCenter());
+		final double size = Math.min(shape.getWidth(), shape.getHeight());
+
+		drawBody(object, plank, path, 0);
+		drawImage("/images/bearing.png", center.x, center.y, size, size, 0);
+	}
+
+	/**
+	 * Draws the base, the plate and the coil of the spring between them.
+	 */
+	private void drawSpring(Spring spring) {
+		final Transform baseTransform = spring.getRenderTransform(spring.getBaseBody());
+		final Vector2 base = baseTransform.getTransformed(spring.getBaseBody().getLocalCenter());
+		final Vector2 plate = spring.getRenderTransform(spring.getPlateBody())
+				.getTransformed(spring.getPlateBody().getLocalCenter());
+
+		final double rotation = Math.toDegrees(baseTransform.getRotation());
+		final double length = Math.max(0, base.distance(plate) - spring.getPlateWidth());
+
+		drawImage("/images/SpringPetit.png", (base.x + plate.x) / 2, (base.y + plate.y) / 2, length,
+				spring.getPlate().getHeight() / 4, rotation);
+		drawBody(spring, spring.getBaseBody(), "/images/SpringBase.jpg", 0);
+		drawImage("/images/SpringPlate.png", plate.x, plate.y, spring.getPlateWidth(), spring.getPlate().getHeight(),
+				rotation);
+	}
+
+	/**
+	 * Draws the top of the rope, the magnet at its bottom and the rope between
+	 * them.
+	 */
+	private void drawRope(Rope rope) {
+		final Vector2 top = rope.getRenderTransform(rope.getTopBody()).getTranslation();
+		final Vector2 bottom = rope.getRenderTransform(rope.getMagnetBody()).getTranslation();
+		final double rotation = -Math.toDegrees(Math.atan((bottom.x - top.x) / (bottom.y - top.y)));
+
+		drawImage("/images/rope.png", (top.x + bottom.x) / 2, (top.y + bottom.y) / 2, rope.getRopeWidth(),
+				top.distance(bottom), rotation);
+		drawBody(rope, rope.getMagnetBody(), "/images/aimant.png", 0);
+		drawBody(rope, rope.getTopBody(), "/images/RopeTop.jpg", 0);
+	}
+
+	/**
+	 * Draws an image centered on a point of the world and rotated around it.
+	 * A rectangle is drawn instead while the image is not decoded.
+	 *
+	 * @param path
+	 *            The resource path of the image
+	 * @param x
+	 *            The x coordinate of the center, in meters
+	 * @param y
+	 *            The y coordinate of the center, in meters
+	 * @param width
+	 *            The width of the image, in meters
+	 * @param height
+	 *            The height of the image, in meters
+	 * @param rotation
+	 *            The rotation of the image, in degrees
+	 */
+	private void drawImage(String path, double x, double y, double width, double height, double rotation) {
+		final GraphicsContext gc = canvas.getGraphicsContext2D();
+		final Image image = images.computeIfAbsent(path, ImageCache::getResource);
+		final double w = ScaleManager.metersToPixels(width);
+		final double h = ScaleManager.metersToPixels(height);
+
+		gc.save();
+		gc.translate(ScaleManager.metersToPixels(x), ScaleManager.metersToPixels(y));
+		gc.rotate(rotation);
+
+		if (image.getProgress() >= 1 && !image.isError()) {
+			gc.drawImage(image, -w / 2, -h / 2, w, h);
+		} else {
+			gc.setFill(DEFAULT_FILL);
+			gc.fillRect(-w / 2, -h / 2, w, h);
+		}
+		gc.restore();
+	}
+
+	/**
+	 * Draws the shapes of the bodies of the object, filled or outlined.
+	 *
+	 * @param object
+	 *            The object to draw
+	 * @param outline
+	 *            True to draw the outline of the shapes, in the
+	 *            {@link #SELECTED_STROKE} color
+	 */
+	private void drawShapes(AbstractComplexObservable object, boolean outline) {
+		final GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.setFill(DEFAULT_FILL);
+		gc.setStroke(SELECTED_STROKE);
+		gc.setLineWidth(2);
+
+		for (Body body : object.getBodies()) {
+			final Transform transform = object.getRenderTransform(body);
+
+			for (BodyFixture fixture : body.getFixtures()) {
+				final Convex shape = fixture.getShape();
+
+				if (shape instanceof Polygon) {
+					final Vector2[] vertices = ((Polygon) shape).getVertices();
+					final double[] xs = new double[vertices.length];
+					final double[] ys = new double[vertices.length];
+
+					for (int i = 0; i < vertices.length; i++) {
+						final Vector2 vertex = transform.getTransformed(vertices[i]);
+						xs[i] = ScaleManager.metersToPixels(vertex.x);
+						ys[i] = ScaleManager.metersToPixels(vertex.y);
+					}
+
+					if (outline) {
+						gc.strokePolygon(xs, ys, vertices.length);
+					} else {
+						gc.fillPolygon(xs, ys, vertices.length);
+					}
+				} else if (shape instanceof Circle) {
+					final Vector2 center = transform.getTransformed(shape.getCenter());
+					final double r = ScaleManager.metersToPixels(shape.getRadius());
+					final double x = ScaleManager.metersToPixels(center.x) - r;
+					final double y = ScaleManager.metersToPixels(center.y) - r;
+
+					if (outline) {
+						gc.strokeOval(x, y, r * 2, r * 2);
+					} else {
+						gc.fillOval(x, y, r * 2, r * 2);
+					}
+				}
+			}
+		}
+	}
+}
@@ -5,35 +5,56 @@ import java.io.IOException;
 import game.InventoryItem;
 import interfaceViewControllers.ItemBoxController;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 
 /**
  * Simple class that provides a ListCell used to represent an inventory item is
  * a listView.
  * 
+ * The {@link ItemBoxController}'s view is loaded once by cell, the first time
+ * the cell displays an item, then it is given the next items displayed by the
+ * cell.
+ * 
  * @author Sunny, Etienne
  *
  */
 public class InventoryListCell extends ListCell<InventoryItem> {
 
 	/**
-	 * Loads the {@link ItemBoxController}'s view for the item sent in
-	 * parameter.
+	 * The view of the cell, once loaded.
+	 */
+	private Node view;
+
+	/**
+	 * The controller of the {@link #view}.
+	 */
+	private ItemBoxController controller;
+
+	/**
+	 * Displays the item sent in parameter in the {@link ItemBoxController}'s
+	 * view of the cell.
 	 */
 	@Override
 	protected void updateItem(InventoryItem item, boolean empty) {
 		super.updateItem(item, empty);
 
 		if (item != null && !empty) {
-			FXMLLoader loader = new FXMLLoader(getClass().getResource("/interfaceViews/itemBox.fxml"));
-			try {
-				setGraphic(loader.load());
-			} catch (IOException e) {
-				e.printStackTrace();
+			if (controller == null) {
+				FXMLLoader loader = new FXMLLoader(getClass().getResource("/interfaceViews/itemBox.fxml"));
+				try {
+					view = loader.load();
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+				controller = loader.getController();
 			}
-			ItemBoxController controller = loader.getController();
 			controller.setItem(item);
+			setGraphic(view);
 		} else {
+			if (controller != null) {
+				controller.setItem(null);
+			}
 			setGraphic(null);
 		}
 	}
@@ -1,8 +1,13 @@
 package gameObservableViews;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
 
 import gameObservableControllers.BasculeController;
+import gameObservableControllers.ChildrenController;
 import gameObservableControllers.CoinController;
 import gameObservableControllers.DominoController;
 import gameObservableControllers.PotOfGoldController;
@@ -15,12 +20,16 @@ import gameObservables.Bascule;
 import gameObservables.Coin;
 import gameObservables.Domino;
 import gameObservables.Observable;
+import gameObservables.ObservableFactory;
 import gameObservables.PotOfGold;
 import gameObservables.Rope;
 import gameObservables.Spring;
 import gameObservables.StickBascule;
 import gameObservables.StickWall;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
 import observables.AbstractComplexObservable;
 import observables.Surface;
 
@@ -36,6 +45,11 @@ import observables.Surface;
  * parameters. However, make sure the parameters match the restriction specified
  * in the documentation.
  * 
+ * The views of the objects removed from the game should be given back with
+ * {@link #recycle(ObservableWrapper)}. They are kept in a pool, by type of
+ * object, and reused by the next wrapper of the same type instead of creating
+ * a new view.
+ * 
  * @author Sunny, Mathieu
  *
  */
@@ -51,6 +65,17 @@ public class ObservableObjectFactory {
 	public static final String STICK_BASCULE_FXML_PATH = "/gameObservableViews/StickBascule.fxml";
 	public static final String DOMINO_FXML = "/gameObservableViews/Domino.fxml";
 
+	/**
+	 * The maximal number of views kept in the pool for every type of object.
+	 */
+	public static final int POOL_SIZE = 32;
+
+	/**
+	 * The views recycled, with their controller, by type of object. The pool
+	 * is shared by all the factories.
+	 */
+	private static final Map<Observable, Deque<ObservableWrapper>> pool = new EnumMap<>(Observable.class);
+
 	/**
 	 * This method is used to get an instance of the object specified in
 	 * parameter returned as an ObservableWrapper. This wrapper will contain
@@ -107,54 +132,26 @@ public class ObservableObjectFactory {
 	 * 
 	 */
 	public ObservableWrapper getWrapperInstance(Observable observable, double param1, double param2, double param3) {
-		ObservableWrapper wrapper = null;
-System.out.println(observable);
-		switch (observable) {
-		case SPRING:
-			wrapper = createWrapper(SPRING_FXML_PATH, observable, new Spring(param1, param2, param3));
-			((SpringController) wrapper.controller).setSpring((Spring) wrapper.observable);
-			break;
-		case BASCULE:
-			wrapper = createWrapper(BASCULE_FXML_PATH, observable, new Bascule(param1, param2, param3));
-			((BasculeController) wrapper.controller).setBascule((Bascule) wrapper.observable);
-			break;
-		case POT_OF_GOLD:
-			wrapper = createWrapper(POT_OF_GOLD_FXML_PATH, observable, new PotOfGold(param1, param2));
-			((PotOfGoldController) wrapper.controller).setPotOfGold((PotOfGold) wrapper.observable);
-			break;
-		case COIN:
-			wrapper = createWrapper(COIN_FXML_PATH, observable, new Coin(param1, param2, param3));
-			((CoinController) wrapper.controller).setCoin((Coin) wrapper.observable);
-			break;
-		case STICKWALL:
-			wrapper = createWrapper(STICKWALL_FXML_PATH, observable, new StickWall(param1, param2));
-			((StickWallController) wrapper.controller).setStickWall((StickWall) wrapper.observable);
-			break;
-		case ROPE:
-			wrapper = createWrapper(ROPE_FXML_PATH, observable, new Rope(param1));
-			((RopeController) wrapper.controller).setRope((Rope) wrapper.observable);
-			break;
-		case SURFACE:
-
-			wrapper = createWrapper(SURFACE_FXML_PATH, observable, new Surface(param1, param2));
-
-			((SurfaceController) wrapper.controller).setSurface((Surface) wrapper.observable);
-			break;
-
-		case DOMINO:
-			wrapper = createWrapper(DOMINO_FXML, observable, new Domino());
-			((DominoController) wrapper.controller).setDomino((Domino) wrapper.observable);
-			
-			break;
-
-		case STICK_BASCULE:
-			wrapper = createWrapper(STICK_BASCULE_FXML_PATH, observable, new StickBascule(param1, param2));
-			((StickBasculeController) wrapper.controller).setBascule((Bascule) wrapper.observable);
-			break;
-
-		}
-		return wrapper;
+		return getWrapperInstance(getObservableInstance(observable, param1, param2, param3));
+	}
 
+	/**
+	 * Creates the object specified in parameter, without its view. The
+	 * parameters must match the restrictions specified in
+	 * {@link #getWrapperInstance(Observable, double, double, double)}.
+	 * 
+	 * No FXML is loaded by this method, so it can be used where the objects
+	 * are never displayed. Same as {@link ObservableFactory#create}. A view can still be created for the object later
+	 * via {@link #getWrapperInstance(AbstractComplexObservable)}.
+	 * 
+	 * @param observable
+	 *            The observable desired. The parameters must match its
+	 *            restrictions.
+	 * @return The instance of the object.
+	 */
+	public AbstractComplexObservable getObservableInstance(Observable observable, double param1, double param2,
+			double param3) {
+		return ObservableFactory.create(observable, param1, param2, param3);
 	}
 
 	/**
@@ -223,7 +220,125 @@ System.out.println(observable);
 	}
 
 	/**
-	 * This method creates wrapper of object
+	 * Creates a wrapper of the object without any view nor controller, for
+	 * the objects drawn by a {@link CanvasRenderer} instead of their own
+	 * view.
+	 * 
+	 * @param object
+	 *            The object for the wrapper
+	 * @return A wrapper containing the instance of the object and the object
+	 *         itself, or null if the object is not a known object.
+	 */
+	public ObservableWrapper getModelWrapper(AbstractComplexObservable object) {
+		final Observable observable = getType(object);
+
+		if (observable == null) {
+			return null;
+		}
+
+		final ObservableWrapper wrapper = new ObservableWrapper();
+		wrapper.instance = observable;
+		wrapper.observable = object;
+
+		return wrapper;
+	}
+
+	/**
+	 * Returns the type of the object, as used in the wrappers.
+	 * 
+	 * @param object
+	 *            The object
+	 * @return The instance of the object, or null if the object is not a known
+	 *         object
+	 */
+	public static Observable getType(AbstractComplexObservable object) {
+		if (object instanceof Spring) {
+			return Observable.SPRING;
+		} else if (object instanceof StickBascule) {
+			return Observable.STICK_BASCULE;
+		} else if (object instanceof Domino) {
+			return Observable.DOMINO;
+		} else if (object instanceof PotOfGold) {
+			return Observable.POT_OF_GOLD;
+		} else if (object instanceof Coin) {
+			return Observable.COIN;
+		} else if (object instanceof StickWall) {
+			return Observable.STICKWALL;
+		} else if (object instanceof Rope) {
+			return Observable.ROPE;
+		} else if (object instanceof Bascule) {
+			return Observable.BASCULE;
+		} else if (object instanceof Surface) {
+			return Observable.SURFACE;
+		}
+		return null;
+	}
+
+	/**
+	 * Gives back the view of the wrapper, once its object is removed from the
+	 * game, so it can be reused by the next wrapper of the same type. The view
+	 * is unbound from the object and removed from its parent. The wrapper
+	 * itself is left unchanged, but its view must not be displayed anymore.
+	 * 
+	 * Nothing is done if the pool of this type of object is full.
+	 * 
+	 * @param wrapper
+	 *            The wrapper whose object was removed
+	 * @return True if the view was added to the pool.
+	 */
+	public static boolean recycle(ObservableWrapper wrapper) {
+		if (wrapper == null || wrapper.instance == null || wrapper.view == null || wrapper.controller == null) {
+			return false;
+		}
+
+		synchronized (pool) {
+			final Deque<ObservableWrapper> views = pool.computeIfAbsent(wrapper.instance, o -> new ArrayDeque<>());
+
+			if (views.size() >= POOL_SIZE) {
+				return false;
+			}
+			for (ObservableWrapper view : views) {
+				if (view.view == wrapper.view) {
+					return false;
+				}
+			}
+
+			wrapper.controller.unbind();
+
+			final Parent parent = wrapper.view.getParent();
+
+			if (parent instanceof Pane) {
+				((Pane) parent).getChildren().remove(wrapper.view);
+			} else if (parent instanceof Group) {
+				((Group) parent).getChildren().remove(wrapper.view);
+			}
+
+			// Only the view and the controller are kept
+			final ObservableWrapper view = new ObservableWrapper();
+			view.instance = wrapper.instance;
+			view.view = wrapper.view;
+			view.controller = wrapper.controller;
+
+			views.push(view);
+			return true;
+		}
+	}
+
+	/**
+	 * @return The number of views in the pool of the type of object.
+	 */
+	public static int getPoolSize(Observable observable) {
+		synchronized (pool) {
+			final Deque<ObservableWrapper> views = pool.get(observable);
+			return views == null ? 0 : views.size();
+		}
+	}
+
+	/**
+	 * This method creates wrapper of object. The view is taken from the pool
+	 * of recycled views if possible, else it is created from the
+	 * {@link ViewTemplate} of the FXML, so the file is only parsed the first
+	 * time.
 	 * 
 	 * @param fxmlPath
 	 *            FXML of the object
@@ -238,18 +353,48 @@ System.out.println(observable);
 	private ObservableWrapper createWrapper(String fxmlPath, Observable observable, AbstractComplexObservable object) {
 		// Creates an empty wrapper
 		ObservableWrapper wrapper = new ObservableWrapper();
+		ObservableWrapper recycled = null;
+
+		synchronized (pool) {
+			final Deque<ObservableWrapper> views = pool.get(observable);
+
+			if (views != null) {
+				recycled = views.poll();
+			}
+		}
+
+		if (recycled != null) {
+
+			// The effects set while it was displayed are removed
+			wrapper.view = recycled.view;
+			wrapper.view.setEffect(null);
+			wrapper.controller = recycled.controller;
+
+		} else {
+
+			// Creates the view from its template, and put attributes into the
+			// wrapper
+			try {
 
-		// Loads everything from the files, and put attributes into the wrapper
-		FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
+				ViewTemplate.View view = ViewTemplate.get(getClass().getResource(fxmlPath)).create();
+				wrapper.view = view.node;
+				wrapper.controller = (ChildrenController) view.controller;
 
-		try {
+			} catch (IOException e) {
+				e.printStackTrace();
 
-			wrapper.view = loader.load();
+				// Loaded again the usual way, to keep the controller even if the
+				// view can't be loaded. Should never occur if the paths are well
+				// defined.
+				FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
 
-		} catch (IOException e) {
-			// Should never occur if the paths are well defined.
+				try {
+					wrapper.view = loader.load();
+				} catch (IOException e1) {
+				}
+				wrapper.controller = loader.getController();
+			}
 		}
-		wrapper.controller = loader.getController();
 		wrapper.instance = observable;
 		wrapper.observable = object;
 
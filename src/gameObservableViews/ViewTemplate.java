@@ -0,0 +1,591 @@
+package gameObservableViews;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.SAXException;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.Initializable;
+import javafx.scene.image.Image;
+import utils.ImageCache;
+
+/**
+ * A view described by an FXML file, parsed once, from which any number of
+ * views can be created with {@link #create()}.
+ *
+ * The file is parsed the first time the template is asked with
+ * {@link #get(URL)}. Every element becomes the constructor of its class, and
+ * its attributes the setters to call with their values, already converted.
+ * The controller's fields of the fx:id and its event handler methods are
+ * found once too, and the images are decoded once and shared by all the
+ * views. Creating a view then only instantiates its nodes and its
+ * controller, without any XML parsing or lookup.
+ *
+ * Only the FXML used by the views of the objects is supported : object
+ * elements with properties, event handlers, fx:id, the children of a
+ * container and images given by their url. The files using anything else are
+ * loaded by an {@link FXMLLoader} every time.
+ *
+ * @author sunny
+ *
+ */
+public final class ViewTemplate {
+
+	/**
+	 * The namespace of the fx: attributes.
+	 */
+	private static final String FX_NAMESPACE = "http://javafx.com/fxml/1";
+
+	/**
+	 * The namespace of the xmlns attributes.
+	 */
+	private static final String XMLNS_NAMESPACE = "http://www.w3.org/2000/xmlns/";
+
+	/**
+	 * A view created from the template.
+	 *
+	 * @author sunny
+	 *
+	 */
+	public static class View {
+
+		/**
+		 * The root node of the view.
+		 */
+		public final javafx.scene.Node node;
+
+		/**
+		 * The controller of the view, or null if it has none.
+		 */
+		public final Object controller;
+
+		private View(javafx.scene.Node node, Object controller) {
+			this.node = node;
+			this.controller = controller;
+		}
+	}
+
+	/**
+	 * Thrown while the file is parsed, if it uses something that is not
+	 * supported.
+	 */
+	private static class UnsupportedException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		private UnsupportedException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * A property set on an object, with its value already converted.
+	 */
+	private static class Property {
+
+		private final Method setter;
+		private final Object value;
+
+		private Property(Method setter, Object value) {
+			this.setter = setter;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * An event handler of the object, calling a method of the controller.
+	 */
+	private static class Handler {
+
+		private final Method setter;
+		private final Method method;
+
+		private Handler(Method setter, Method method) {
+			this.setter = setter;
+			this.method = method;
+		}
+	}
+
+	/**
+	 * An image property of the object, decoded the first time a view is
+	 * created.
+	 */
+	private static class ImageProperty {
+
+		private final Method setter;
+		private final String url;
+
+		private ImageProperty(Method setter, String url) {
+			this.setter = setter;
+			this.url = url;
+		}
+
+		private Image getImage() {
+			return ImageCache.get(url, 0, 0, false);
+		}
+	}
+
+	/**
+	 * An element of the file : an object, its properties and its children.
+	 */
+	private static class Template {
+
+		private Constructor<?> constructor;
+		private final List<Property> properties = new ArrayList<>();
+		private final List<ImageProperty> images = new ArrayList<>();
+		private final List<Handler> handlers = new ArrayList<>();
+		private Method setId;
+		private String id;
+		private Field field;
+		private Method getChildren;
+		private final List<Template> children = new ArrayList<>();
+
+		@SuppressWarnings("unchecked")
+		private Object create(Object controller) throws ReflectiveOperationException {
+
+			final Object object = constructor.newInstance();
+
+			if (id != null) {
+				setId.invoke(object, id);
+			}
+			for (Property property : properties) {
+				property.setter.invoke(object, property.value);
+			}
+			for (ImageProperty image : images) {
+				image.setter.invoke(object, image.getImage());
+			}
+			for (Handler handler : handlers) {
+				final Method method = handler.method;
+
+				handler.setter.invoke(object, (EventHandler<Event>) (event) -> invoke(method, controller, event));
+			}
+			if (!children.isEmpty()) {
+				final List<Object> list = (List<Object>) getChildren.invoke(object);
+
+				for (Template child : children) {
+					list.add(child.create(controller));
+				}
+			}
+			if (field != null) {
+				field.set(controller, object);
+			}
+			return object;
+		}
+	}
+
+	/**
+	 * The templates already parsed, by the url of their file.
+	 */
+	private static final Map<String, ViewTemplate> templates = new HashMap<>();
+
+	/**
+	 * The url of the file.
+	 */
+	private final URL location;
+
+	/**
+	 * The packages and classes imported by the file.
+	 */
+	private final List<String> imports = new ArrayList<>();
+
+	/**
+	 * The class of the controller, or null if there is none.
+	 */
+	private Class<?> controllerClass;
+
+	/**
+	 * The constructor of the controller.
+	 */
+	private Constructor<?> controllerConstructor;
+
+	/**
+	 * The initialize() method of the controller, if it is not
+	 * {@link Initializable}.
+	 */
+	private Method initialize;
+
+	/**
+	 * The root element, or null if the file is not supported, and must be
+	 * loaded with an {@link FXMLLoader}.
+	 */
+	private final Template root;
+
+	/**
+	 * Parses the file.
+	 *
+	 * @param location
+	 *            The url of the file
+	 * @throws IOException
+	 *             If the file can't be read
+	 */
+	private ViewTemplate(URL location) throws IOException {
+		this.location = location;
+
+		Template template = null;
+
+		try (InputStream in = location.openStream()) {
+			final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			factory.setNamespaceAware(true);
+
+			final Document document = factory.newDocumentBuilder().parse(in);
+
+			for (Node node = document.getFirstChild(); node != null; node = node.getNextSibling()) {
+				if (node instanceof ProcessingInstruction
+						&& ((ProcessingInstruction) node).getTarget().equals("import")) {
+					imports.add(((ProcessingInstruction) node).getData().trim());
+				}
+			}
+
+			final Element element = document.getDocumentElement();
+			final Attr controller = element.getAttributeNodeNS(FX_NAMESPACE, "controller");
+
+			if (controller != null) {
+				controllerClass = Class.forName(controller.getValue(), false, ViewTemplate.class.getClassLoader());
+				controllerConstructor = controllerClass.getDeclaredConstructor();
+				controllerConstructor.setAccessible(true);
+
+				if (!Initializable.class.isAssignableFrom(controllerClass)) {
+					initialize = findMethod(controllerClass, "initialize", 0);
+				}
+			}
+			template = parseObject(element);
+
+		} catch (UnsupportedException e) {
+			// Not supported by the template, loaded with an FXMLLoader
+			template = null;
+		} catch (ReflectiveOperationException e) {
+			e.printStackTrace();
+			template = null;
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new IOException(e);
+		}
+		this.root = template;
+	}
+
+	/**
+	 * Returns the template of the file. It is parsed the first time, then the
+	 * same template is returned.
+	 *
+	 * @param location
+	 *            The url of the file
+	 * @return The template
+	 * @throws IOException
+	 *             If the file can't be read
+	 */
+	public static synchronized ViewTemplate get(URL location) throws IOException {
+		ViewTemplate template = templates.get(location.toExternalForm());
+
+		if (template == null) {
+			template = new ViewTemplate(location);
+			templates.put(location.toExternalForm(), template);
+		}
+		return template;
+	}
+
+	/**
+	 * @return False if the file is loaded by an {@link FXMLLoader} for every
+	 *         view, because it uses something the templates don't support.
+	 */
+	public boolean isCompiled() {
+		return root != null;
+	}
+
+	/**
+	 * Creates a new view : its nodes and its controller, whose fields are
+	 * injected, then which is initialized.
+	 *
+	 * @return The view
+	 * @throws IOException
+	 *             If the view can't be created
+	 */
+	public View create() throws IOException {
+
+		if (root == null) {
+			final FXMLLoader loader = new FXMLLoader(location);
+			final javafx.scene.Node node = loader.load();
+			return new View(node, loader.getController());
+		}
+
+		try {
+			final Object controller = controllerClass == null ? null : controllerConstructor.newInstance();
+			final javafx.scene.Node node = (javafx.scene.Node) root.create(controller);
+
+			if (controller instanceof Initializable) {
+				((Initializable) controller).initialize(location, null);
+			} else if (initialize != null) {
+				initialize.invoke(controller);
+			}
+			return new View(node, controller);
+
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new IOException("Can't create the view " + location, e);
+		}
+	}
+
+	/**
+	 * Parses an object element.
+	 */
+	private Template parseObject(Element element) throws UnsupportedException, ReflectiveOperationException {
+
+		final Template template = new Template();
+		final Class<?> type = resolve(element.getTagName());
+
+		template.constructor = type.getConstructor();
+
+		final NamedNodeMap attributes = element.getAttributes();
+
+		for (int i = 0; i < attributes.getLength(); i++) {
+			final Attr attribute = (Attr) attributes.item(i);
+			final String name = attribute.getLocalName() == null ? attribute.getName() : attribute.getLocalName();
+			final String value = attribute.getValue();
+
+			if (XMLNS_NAMESPACE.equals(attribute.getNamespaceURI()) || attribute.getName().startsWith("xmlns")) {
+				continue;
+
+			} else if (FX_NAMESPACE.equals(attribute.getNamespaceURI())) {
+				if (name.equals("id")) {
+					parseId(template, type, value);
+				} else if (!name.equals("controller") || element != element.getOwnerDocument().getDocumentElement()) {
+					throw new UnsupportedException("fx:" + name);
+				}
+
+			} else if (value.startsWith("#")) {
+				template.handlers.add(new Handler(findSetter(type, name, EventHandler.class),
+						findHandler(value.substring(1))));
+
+			} else if (value.startsWith("@") || value.startsWith("$") || value.startsWith("%")
+					|| value.startsWith("\\") || name.contains(".")) {
+				throw new UnsupportedException(name + "=\"" + value + "\"");
+
+			} else {
+				final Method setter = findSetter(type, name, null);
+				template.properties.add(new Property(setter, convert(value, setter.getParameterTypes()[0])));
+			}
+		}
+
+		for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (node instanceof Element) {
+				parseProperty(template, type, (Element) node);
+			} else if (node.getNodeType() == Node.TEXT_NODE && !node.getTextContent().trim().isEmpty()) {
+				throw new UnsupportedException("text " + node.getTextContent().trim());
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Parses a property element : the children of a container, or an image.
+	 */
+	private void parseProperty(Template template, Class<?> type, Element element)
+			throws UnsupportedException, ReflectiveOperationException {
+
+		final String name = element.getTagName();
+
+		if (Character.isUpperCase(name.charAt(0)) || element.hasAttributes()) {
+			throw new UnsupportedException("element " + name);
+		}
+
+		final List<Element> values = new ArrayList<>();
+
+		for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (node instanceof Element) {
+				values.add((Element) node);
+			} else if (node.getNodeType() == Node.TEXT_NODE && !node.getTextContent().trim().isEmpty()) {
+				throw new UnsupportedException("text " + node.getTextContent().trim());
+			}
+		}
+
+		if (name.equals("children")) {
+			template.getChildren = type.getMethod("getChildren");
+
+			for (Element child : values) {
+				template.children.add(parseObject(child));
+			}
+
+		} else if (values.size() == 1 && resolve(values.get(0).getTagName()) == Image.class) {
+			final Element image = values.get(0);
+			final String url = image.getAttribute("url");
+
+			if (image.getAttributes().getLength() != 1 || !url.startsWith("@") || image.hasChildNodes()) {
+				throw new UnsupportedException("image " + url);
+			}
+
+			try {
+				template.images.add(new ImageProperty(findSetter(type, name, Image.class),
+						new URL(location, url.substring(1)).toExternalForm()));
+			} catch (MalformedURLException e) {
+				throw new UnsupportedException("image " + url);
+			}
+
+		} else {
+			throw new UnsupportedException("property " + name);
+		}
+	}
+
+	/**
+	 * Parses the fx:id of the object : its id, and the field of the controller
+	 * it is injected in.
+	 */
+	private void parseId(Template template, Class<?> type, String id) throws ReflectiveOperationException {
+		template.id = id;
+		template.setId = type.getMethod("setId", String.class);
+
+		for (Class<?> c = controllerClass; c != null && c != Object.class; c = c.getSuperclass()) {
+			try {
+				final Field field = c.getDeclaredField(id);
+
+				if (!Modifier.isStatic(field.getModifiers())) {
+					field.setAccessible(true);
+					template.field = field;
+				}
+				return;
+			} catch (NoSuchFieldException e) {
+				// Looks in the super class
+			}
+		}
+	}
+
+	/**
+	 * @return The controller's method handling the events.
+	 */
+	private Method findHandler(String name) throws UnsupportedException {
+		if (controllerClass == null) {
+			throw new UnsupportedException("handler " + name + " without controller");
+		}
+
+		Method method = findMethod(controllerClass, name, 1);
+
+		if (method == null || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+			method = findMethod(controllerClass, name, 0);
+		}
+		if (method == null) {
+			throw new UnsupportedException("handler " + name);
+		}
+		return method;
+	}
+
+	/**
+	 * @return The setter of the property, with the given parameter type if
+	 *         it is not null.
+	 */
+	private static Method findSetter(Class<?> type, String property, Class<?> parameter)
+			throws UnsupportedException {
+
+		final String name = "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+
+		for (Method method : type.getMethods()) {
+			if (method.getName().equals(name) && method.getParameterCount() == 1
+					&& (parameter == null || method.getParameterTypes()[0] == parameter)) {
+				return method;
+			}
+		}
+		throw new UnsupportedException("property " + property + " of " + type.getSimpleName());
+	}
+
+	/**
+	 * @return The method of the class or of its super classes, made
+	 *         accessible, or null if there is none.
+	 */
+	private static Method findMethod(Class<?> type, String name, int parameters) {
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Method method : c.getDeclaredMethods()) {
+				if (method.getName().equals(name) && method.getParameterCount() == parameters) {
+					method.setAccessible(true);
+					return method;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return The class of the element, from the imports of the file.
+	 */
+	private Class<?> resolve(String name) throws UnsupportedException {
+		for (String imported : imports) {
+			try {
+				// Not initialized before a view is created
+				if (imported.endsWith(".*")) {
+					return Class.forName(imported.substring(0, imported.length() - 1) + name, false,
+							ViewTemplate.class.getClassLoader());
+				} else if (imported.endsWith("." + name)) {
+					return Class.forName(imported, false, ViewTemplate.class.getClassLoader());
+				}
+			} catch (ClassNotFoundException e) {
+				// Looks in the next import
+			}
+		}
+		throw new UnsupportedException("class " + name);
+	}
+
+	/**
+	 * @return The value of the attribute, converted to the type of the
+	 *         property.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object convert(String value, Class<?> type) throws UnsupportedException {
+		try {
+			if (type == String.class || type == Object.class) {
+				return value;
+			} else if (type == double.class || type == Double.class) {
+				return Double.valueOf(value);
+			} else if (type == float.class || type == Float.class) {
+				return Float.valueOf(value);
+			} else if (type == int.class || type == Integer.class) {
+				return Integer.valueOf(value);
+			} else if (type == long.class || type == Long.class) {
+				return Long.valueOf(value);
+			} else if (type == boolean.class || type == Boolean.class) {
+				return Boolean.valueOf(value);
+			} else if (type.isEnum()) {
+				return Enum.valueOf((Class<? extends Enum>) type, value.toUpperCase());
+			}
+		} catch (IllegalArgumentException e) {
+			// Not supported below
+		}
+		throw new UnsupportedException(value + " as " + type.getSimpleName());
+	}
+
+	/**
+	 * Calls the event handler method of the controller.
+	 */
+	private static void invoke(Method method, Object controller, Event event) {
+		try {
+			if (method.getParameterCount() == 0) {
+				method.invoke(controller);
+			} else {
+				method.invoke(controller, event);
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -5,6 +5,7 @@ import org.dyn4j.dynamics.BodyFixture;
 import org.dyn4j.geometry.Circle;
 import org.dyn4j.geometry.Mass;
 import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 import javafx.beans.property.DoubleProperty;
@@ -42,12 +43,18 @@ public class Coin extends ComplexObservable {
 	/**
 	 * The mass of the coin in Kg
 	 */
-	private DoubleProperty mass;
+	private double mass;
+
+	/**
+	 * The property of the {@link #mass}. Only created when it is requested.
+	 */
+	private DoubleProperty massProperty;
 
 	public static final Mass COIN_MASS = new Mass(new Vector2(0, 0), MASS, INERTIA);
 
 	/**
-	 * Position x,y and rotation in pixels and degrees for javaFx purpose
+	 * Position x,y and rotation in pixels and degrees for javaFx purpose. Those
+	 * properties are only created when one of them is requested.
 	 */
 	private DoubleProperty topLeftCornerX, topLeftCornerY, rotation, radius;
 
@@ -111,14 +118,7 @@ public class Coin extends ComplexObservable {
 		// Body added to the list
 		bodies.add(body);
 
-		// The mass listener
-		mass = new SimpleDoubleProperty(MASS);
-		mass.addListener((value, old, newv) -> body.setMass(new Mass(object.getCenter(), newv.doubleValue(), INERTIA)));
-
-		topLeftCornerX = new SimpleDoubleProperty(0);
-		topLeftCornerY = new SimpleDoubleProperty(0);
-		this.rotation = new SimpleDoubleProperty(0);
-		this.radius = new SimpleDoubleProperty(ScaleManager.metersToPixels(radius));
+		this.mass = MASS;
 
 		// Translate and rotate to the given position
 		translate(positionX, positionY);
@@ -131,11 +131,33 @@ public class Coin extends ComplexObservable {
 	 */
 	@Override
 	public void update() {
+		// Nothing to update if the coin is not displayed
+		if (topLeftCornerX == null) {
+			return;
+		}
+
+		final Transform transform = getRenderTransform(body);
+
+		topLeftCornerX.set(ScaleManager.metersToPixels((transform.getTranslationX() - object.getRadius())));
+		topLeftCornerY.set(ScaleManager.metersToPixels((transform.getTranslationY() - object.getRadius())));
+		rotation.set(Math.toDegrees(transform.getRotation()) + 180);
 
-		topLeftCornerX.set(ScaleManager.metersToPixels((body.getTransform().getTranslationX() - object.getRadius())));
-		topLeftCornerY.set(ScaleManager.metersToPixels((body.getTransform().getTranslationY() - object.getRadius())));
-		rotation.set(Math.toDegrees(body.getTransform().getRotation()) + 180);
+	}
 
+	/**
+	 * Creates the view properties if they were never requested. They are
+	 * immediately updated to the actual state of the coin.
+	 */
+	private void initializeView() {
+		if (topLeftCornerX == null) {
+			topLeftCornerX = new SimpleDoubleProperty(0);
+			topLeftCornerY = new SimpleDoubleProperty(0);
+			this.rotation = new SimpleDoubleProperty(0);
+			this.radius = new SimpleDoubleProperty();
+
+			operateResize();
+			update();
+		}
 	}
 
 	/**
@@ -144,7 +166,12 @@ public class Coin extends ComplexObservable {
 	 * @param mass
 	 */
 	public void setMass(double mass) {
-		this.mass.set(mass);
+		this.mass = mass;
+		body.setMass(new Mass(object.getCenter(), mass, INERTIA));
+
+		if (massProperty != null) {
+			massProperty.set(mass);
+		}
 	}
 
 	/**
@@ -154,7 +181,7 @@ public class Coin extends ComplexObservable {
 		body.setMass(MassType.INFINITE);
 		body.setLinearVelocity(new Vector2(0, 0));
 		body.setAngularVelocity(0);
-		mass.set(Double.POSITIVE_INFINITY);
+		setMass(Double.POSITIVE_INFINITY);
 	}
 
 	/**
@@ -191,7 +218,11 @@ public class Coin extends ComplexObservable {
 	 * @return The {@link #mass} field in Kg.
 	 */
 	public final DoubleProperty massProperty() {
-		return this.mass;
+		if (massProperty == null) {
+			massProperty = new SimpleDoubleProperty(mass);
+			massProperty.addListener((value, old, newv) -> setMass(newv.doubleValue()));
+		}
+		return this.massProperty;
 	}
 
 	/**
@@ -199,7 +230,7 @@ public class Coin extends ComplexObservable {
 	 * @return the {@link #mass} value is Kg
 	 */
 	public final double getMass() {
-		return this.massProperty().get();
+		return this.mass;
 	}
 
 	/**
@@ -208,6 +239,7 @@ public class Coin extends ComplexObservable {
 	 * @return The position x of the Coin
 	 */
 	public final ReadOnlyDoubleProperty topLeftCornerXProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.topLeftCornerX);
 	}
 
@@ -217,6 +249,7 @@ public class Coin extends ComplexObservable {
 	 * @return The position y of the Coin
 	 */
 	public final ReadOnlyDoubleProperty topLeftCornerYProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.topLeftCornerY);
 	}
 
@@ -226,6 +259,7 @@ public class Coin extends ComplexObservable {
 	 * @return The position y of the Coin
 	 */
 	public final ReadOnlyDoubleProperty radiusProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.radius);
 	}
 
@@ -235,6 +269,7 @@ public class Coin extends ComplexObservable {
 	 * @return The rotation of the Coin
 	 */
 	public final ReadOnlyDoubleProperty rotationProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.rotation);
 	}
 
@@ -252,6 +287,9 @@ public class Coin extends ComplexObservable {
 
 	@Override
 	public void operateResize() {
+		if (radius == null) {
+			return;
+		}
 		radius.set(ScaleManager.metersToPixels(object.getRadius()));
 
 	}
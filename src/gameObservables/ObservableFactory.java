@@ -0,0 +1,80 @@
+package gameObservables;
+
+import observables.AbstractComplexObservable;
+import observables.Surface;
+
+/**
+ * Factory creating the objects of the game from their {@link Observable}
+ * type, without any view. It depends on the model only, so it is used to open
+ * the levels, whose objects get their view only when they are displayed.
+ *
+ * The views are created by the
+ * {@link gameObservableViews.ObservableObjectFactory}.
+ *
+ * @author sunny
+ *
+ */
+public final class ObservableFactory {
+
+	private ObservableFactory() {
+	}
+
+	/**
+	 * Creates the object of the given type. The parameters depend on the type
+	 * :
+	 *
+	 * <ul>
+	 * <li><b>SPRING</b> : the spring constant, the height and the width of
+	 * the spring.</li>
+	 * <li><b>BASCULE, POT_OF_GOLD, STICKWALL, SURFACE, STICK_BASCULE</b> :
+	 * the width and the height of the object, then the mass of the bascule,
+	 * not used by the others.</li>
+	 * <li><b>ROPE</b> : the length of the rope.</li>
+	 * <li><b>COIN</b> : the radius, then the 2 other parameters of
+	 * {@link Coin#Coin(double, double, double)}.</li>
+	 * <li><b>DOMINO</b> : none.</li>
+	 * </ul>
+	 *
+	 * The parameters not used by a type can have any value.
+	 *
+	 * @param observable
+	 *            The type of the object
+	 * @param param1
+	 *            The first parameter
+	 * @param param2
+	 *            The second parameter
+	 * @param param3
+	 *            The third parameter
+	 * @return The object, or null if the type is null.
+	 */
+	public static AbstractComplexObservable create(Observable observable, double param1, double param2,
+			double param3) {
+
+		if (observable == null) {
+			return null;
+		}
+
+		switch (observable) {
+		case SPRING:
+			return new Spring(param1, param2, param3);
+		case BASCULE:
+			return new Bascule(param1, param2, param3);
+		case POT_OF_GOLD:
+			return new PotOfGold(param1, param2);
+		case COIN:
+			return new Coin(param1, param2, param3);
+		case STICKWALL:
+			return new StickWall(param1, param2);
+		case ROPE:
+			return new Rope(param1);
+		case SURFACE:
+			return new Surface(param1, param2);
+		case DOMINO:
+			return new Domino();
+		case STICK_BASCULE:
+			return new StickBascule(param1, param2);
+		default:
+			return null;
+		}
+	}
+}
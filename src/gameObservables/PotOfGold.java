@@ -6,6 +6,7 @@ import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Vector2;
 
 import observables.AbstractComplexObservable;
+import observables.DynamicWorld;
 import observables.Surface;
 
 public class PotOfGold extends Surface implements AbstractComplexObservable {
@@ -31,15 +32,18 @@ public class PotOfGold extends Surface implements AbstractComplexObservable {
 		super.handleDynamicCollide(contactPoint, object, body, world);
 
 		if (object instanceof Coin) {
-			Coin coin = (Coin) object;
-			coin.setMobile(false);
-			coin.getBodies().get(0).setMass(MassType.INFINITE);
-			coin.getBodies().get(0).setLinearVelocity(new Vector2(0, 0));
-			final Vector2 center = this.body.getWorldCenter();
-			coin.translate(center.x, center.y);
-
-			// desactivate the coin
-			coin.getBodies().get(0).setActive(false);
+			final Coin coin = (Coin) object;
+
+			DynamicWorld.defer(world, coin, "pot", () -> {
+				coin.setMobile(false);
+				coin.getBodies().get(0).setMass(MassType.INFINITE);
+				coin.getBodies().get(0).setLinearVelocity(new Vector2(0, 0));
+				final Vector2 center = this.body.getWorldCenter();
+				coin.translate(center.x, center.y);
+
+				// desactivate the coin
+				coin.getBodies().get(0).setActive(false);
+			});
 		}
 	}
 
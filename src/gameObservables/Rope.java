@@ -8,6 +8,7 @@ import org.dyn4j.dynamics.joint.WeldJoint;
 import org.dyn4j.geometry.Mass;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 import javafx.beans.property.BooleanProperty;
@@ -18,6 +19,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import observables.AbstractComplexObservable;
 import observables.ComplexObservable;
+import observables.DynamicWorld;
 import observables.ScaleManager;
 
 /**
@@ -88,10 +90,15 @@ public class Rope extends ComplexObservable implements JointApplier {
 	private static final double WIDHT_ROPE = 0.3;
 
 	/**
-	 * a Boolean property telling either it is possible for the rope to catch a
-	 * coin or not.
+	 * a Boolean telling either it is possible for the rope to catch a coin or
+	 * not.
 	 */
-	private BooleanProperty canCatch;
+	private volatile boolean canCatch;
+
+	/**
+	 * The property of {@link #canCatch}. Only created when it is requested.
+	 */
+	private BooleanProperty canCatchProperty;
 
 	/**
 	 * The coin that is attached to the rope. Only used to remove the joint
@@ -119,24 +126,24 @@ public class Rope extends ComplexObservable implements JointApplier {
 	/**
 	 * All the properties for binding purpose. The value of those properties are
 	 * represented in pixels, and use the ScaleManager class to handle the size
-	 * of the objects.
-	 */
-	protected final DoubleProperty bottomTopLeftCornerX;
-	protected final DoubleProperty bottomTopLeftCornerY;
-	protected final DoubleProperty topTopLeftCornerX;
-	protected final DoubleProperty topTopLeftCornerY;
-	protected final DoubleProperty ropeHeight;
-	protected final DoubleProperty ropeTopLeftCornerX;
-	protected final DoubleProperty ropeTopLeftCornerY;
-	protected final DoubleProperty bottomRotation;
-	protected final DoubleProperty topRotation;
-	protected final DoubleProperty ropeRotation;
-	protected final DoubleProperty topHeight;
-	protected final DoubleProperty topWidth;
-	protected final DoubleProperty bottomHeight;
-	protected final DoubleProperty bottomWidth;
-	protected final DoubleProperty ropeWidth;
-	protected final DoubleProperty angularVelocity;
+	 * of the objects. They are only created when one of them is requested.
+	 */
+	protected DoubleProperty bottomTopLeftCornerX;
+	protected DoubleProperty bottomTopLeftCornerY;
+	protected DoubleProperty topTopLeftCornerX;
+	protected DoubleProperty topTopLeftCornerY;
+	protected DoubleProperty ropeHeight;
+	protected DoubleProperty ropeTopLeftCornerX;
+	protected DoubleProperty ropeTopLeftCornerY;
+	protected DoubleProperty bottomRotation;
+	protected DoubleProperty topRotation;
+	protected DoubleProperty ropeRotation;
+	protected DoubleProperty topHeight;
+	protected DoubleProperty topWidth;
+	protected DoubleProperty bottomHeight;
+	protected DoubleProperty bottomWidth;
+	protected DoubleProperty ropeWidth;
+	protected DoubleProperty angularVelocity;
 
 	/**
 	 * Default constructor of a rope. Constructs a rope with the rope's length
@@ -155,7 +162,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 		this.height = pHeight;
 
 		// Set the canCatch value to true
-		this.canCatch = new SimpleBooleanProperty(true);
+		this.canCatch = true;
 
 		// Creates the fixtures
 		this.topRopeFixture = new BodyFixture(topRope);
@@ -177,28 +184,36 @@ public class Rope extends ComplexObservable implements JointApplier {
 		bodies.add(topRopeBody);
 		bodies.add(bottomRopeBody);
 
-		// Initialize the properties
-		bottomTopLeftCornerX = new SimpleDoubleProperty();
-		bottomTopLeftCornerY = new SimpleDoubleProperty();
-		topTopLeftCornerX = new SimpleDoubleProperty();
-		topTopLeftCornerY = new SimpleDoubleProperty();
-		ropeHeight = new SimpleDoubleProperty(ScaleManager.metersToPixels(height));
-		ropeTopLeftCornerX = new SimpleDoubleProperty();
-		ropeTopLeftCornerY = new SimpleDoubleProperty();
-		bottomRotation = new SimpleDoubleProperty();
-		topRotation = new SimpleDoubleProperty();
-		ropeRotation = new SimpleDoubleProperty();
-		topHeight = new SimpleDoubleProperty();
-		topWidth = new SimpleDoubleProperty();
-		bottomHeight = new SimpleDoubleProperty();
-		bottomWidth = new SimpleDoubleProperty();
-		ropeWidth = new SimpleDoubleProperty();
-		angularVelocity = new SimpleDoubleProperty(0);
-
 		this.setCrossedTeleportable(false);
+	}
 
-		// Sets size property
-		operateResize();
+	/**
+	 * Creates the view properties if they were never requested. They are
+	 * immediately updated to the actual state of the rope.
+	 */
+	private void initializeView() {
+		if (bottomTopLeftCornerX == null) {
+			bottomTopLeftCornerX = new SimpleDoubleProperty();
+			bottomTopLeftCornerY = new SimpleDoubleProperty();
+			topTopLeftCornerX = new SimpleDoubleProperty();
+			topTopLeftCornerY = new SimpleDoubleProperty();
+			ropeHeight = new SimpleDoubleProperty(ScaleManager.metersToPixels(height));
+			ropeTopLeftCornerX = new SimpleDoubleProperty();
+			ropeTopLeftCornerY = new SimpleDoubleProperty();
+			bottomRotation = new SimpleDoubleProperty();
+			topRotation = new SimpleDoubleProperty();
+			ropeRotation = new SimpleDoubleProperty();
+			topHeight = new SimpleDoubleProperty();
+			topWidth = new SimpleDoubleProperty();
+			bottomHeight = new SimpleDoubleProperty();
+			bottomWidth = new SimpleDoubleProperty();
+			ropeWidth = new SimpleDoubleProperty();
+			angularVelocity = new SimpleDoubleProperty(0);
+
+			// Sets size property
+			operateResize();
+			update();
+		}
 	}
 
 	/**
@@ -210,9 +225,15 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 */
 	@Override
 	public void update() {
+		// Nothing to update if the rope is not displayed
+		if (bottomTopLeftCornerX == null) {
+			return;
+		}
 
-		final Vector2 bottomCenter = bottomRopeBody.getTransform().getTranslation();
-		final Vector2 topCenter = topRopeBody.getTransform().getTranslation();
+		final Transform bottomTransform = getRenderTransform(bottomRopeBody);
+		final Transform topTransform = getRenderTransform(topRopeBody);
+		final Vector2 bottomCenter = bottomTransform.getTranslation();
+		final Vector2 topCenter = topTransform.getTranslation();
 		final Vector2 middlePoint = new Vector2((bottomCenter.x + topCenter.x) / 2, (bottomCenter.y + topCenter.y) / 2);
 
 		// Difference between the 2 is the deltaX and deltaY used to compute the
@@ -229,7 +250,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 
 		topTopLeftCornerX.set(ScaleManager.metersToPixels(topCenter.x - (topRope.getWidth() / 2)));
 		topTopLeftCornerY.set(ScaleManager.metersToPixels(topCenter.y - (topRope.getHeight() / 2)));
-		topRotation.set(Math.toDegrees((topRopeBody.getTransform().getRotation())));
+		topRotation.set(Math.toDegrees((topTransform.getRotation())));
 
 		ropeTopLeftCornerX.set(ScaleManager.metersToPixels(middlePoint.x - WIDHT_ROPE / 2));
 		ropeTopLeftCornerY.set(ScaleManager.metersToPixels(middlePoint.y - distanceCenter / 2 + HEIGHT_TOP / 2));
@@ -239,7 +260,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 
 		bottomTopLeftCornerX.set(ScaleManager.metersToPixels(bottomCenter.x - (bottomRope.getWidth() / 2)));
 		bottomTopLeftCornerY.set(ScaleManager.metersToPixels(bottomCenter.y - HEIGHT_BOTTOM / 2));
-		bottomRotation.set(Math.toDegrees(bottomRopeBody.getTransform().getRotation()));
+		bottomRotation.set(Math.toDegrees(bottomTransform.getRotation()));
 
 		if (world != null) {
 			try {
@@ -394,18 +415,22 @@ public class Rope extends ComplexObservable implements JointApplier {
 	private void createJoint(Coin pBody) {
 
 		// The coin must not have an infinite mass (means it would be stopped)
-		if (stickJoint == null && canCatch.get() && pBody.getBodies().get(0).isDynamic()) {
-			canCatch.set(false);
-			Vector2 center = bottomRopeBody.getWorldCenter();
-			pBody.translate(center.x, center.y - HEIGHT_BOTTOM / 2 - pBody.getRadius() / 2);
+		if (stickJoint == null && canCatch && pBody.getBodies().get(0).isDynamic()) {
+			setCanCatch(false);
 			this.grippedCoin = pBody;
 			grippedCoin.setCrossedTeleportable(false);
 
-			stickJoint = new WeldJoint(bottomRopeBody, pBody.getBodies().get(0), bottomRopeBody.getWorldCenter());
-			stickJoint.setCollisionAllowed(false);
+			// The coin is attached between 2 steps of the world
+			DynamicWorld.defer(world, this, "catch", () -> {
+				Vector2 center = bottomRopeBody.getWorldCenter();
+				pBody.translate(center.x, center.y - HEIGHT_BOTTOM / 2 - pBody.getRadius() / 2);
 
-			joints.add(stickJoint);
-			this.world.addJoint(stickJoint);
+				stickJoint = new WeldJoint(bottomRopeBody, pBody.getBodies().get(0), bottomRopeBody.getWorldCenter());
+				stickJoint.setCollisionAllowed(false);
+
+				joints.add(stickJoint);
+				this.world.addJoint(stickJoint);
+			});
 		}
 
 	}
@@ -458,11 +483,16 @@ public class Rope extends ComplexObservable implements JointApplier {
 		if (grippedCoin != null) {
 			
 			grippedCoin.setCrossedTeleportable(true);
-			world.removeJoint(stickJoint);
-			joints.remove(stickJoint);
+
+			// The joint is removed between 2 steps of the world, after it was
+			// added if it is still waiting to be.
+			DynamicWorld.defer(world, this, "drop", () -> {
+				world.removeJoint(stickJoint);
+				joints.remove(stickJoint);
+			});
 			
 			// Sets the bottom has a sensor. It won't collide anymore.
-			canCatch.set(false);
+			setCanCatch(false);
 			grippedCoin = null;
 
 			new Thread(() -> {
@@ -474,7 +504,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 				}
 				// Remake it a collidable. It will be able to catch a coin
 				// again.
-				canCatch.set(true);
+				setCanCatch(true);
 
 				// sets the current joint to null
 				stickJoint = null;
@@ -490,7 +520,21 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 *         true value means the rope can catch a Coin.
 	 */
 	public ReadOnlyBooleanProperty canCatchProperty() {
-		return canCatch;
+		if (canCatchProperty == null) {
+			canCatchProperty = new SimpleBooleanProperty(canCatch);
+		}
+		return canCatchProperty;
+	}
+
+	/**
+	 * Sets the value of {@link #canCatch}, and of its property if it exists.
+	 */
+	private void setCanCatch(boolean canCatch) {
+		this.canCatch = canCatch;
+
+		if (canCatchProperty != null) {
+			canCatchProperty.set(canCatch);
+		}
 	}
 
 	/**
@@ -500,7 +544,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 *         true value means the rope can catch a Coin.
 	 */
 	public boolean canCatch() {
-		return canCatch.get();
+		return canCatch;
 	}
 
 	/**
@@ -540,6 +584,10 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 */
 	@Override
 	public void operateResize() {
+		if (topHeight == null) {
+			return;
+		}
+
 		topHeight.set(ScaleManager.metersToPixels(HEIGHT_TOP));
 		topWidth.set(ScaleManager.metersToPixels(WIDHT_TOP));
 		bottomHeight.set(ScaleManager.metersToPixels(HEIGHT_BOTTOM));
@@ -554,6 +602,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position x of the bottom body
 	 */
 	public final ReadOnlyDoubleProperty bottomTopLeftCornerXProperty() {
+		initializeView();
 		return this.bottomTopLeftCornerX;
 	}
 
@@ -564,6 +613,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position y of the bottom body
 	 */
 	public final ReadOnlyDoubleProperty bottomTopLeftCornerYProperty() {
+		initializeView();
 		return this.bottomTopLeftCornerY;
 	}
 
@@ -574,6 +624,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position x of the top body
 	 */
 	public final ReadOnlyDoubleProperty topTopLeftCornerXProperty() {
+		initializeView();
 		return this.topTopLeftCornerX;
 	}
 
@@ -584,6 +635,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position y of the top body
 	 */
 	public final ReadOnlyDoubleProperty topTopLeftCornerYProperty() {
+		initializeView();
 		return this.topTopLeftCornerY;
 	}
 
@@ -594,6 +646,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The height of the rope
 	 */
 	public final ReadOnlyDoubleProperty ropeHeightProperty() {
+		initializeView();
 		return this.ropeHeight;
 	}
 
@@ -604,6 +657,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position x of the rope
 	 */
 	public final ReadOnlyDoubleProperty ropeTopLeftCornerXProperty() {
+		initializeView();
 		return this.ropeTopLeftCornerX;
 	}
 
@@ -614,6 +668,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The top left position y of the rope
 	 */
 	public final ReadOnlyDoubleProperty ropeTopLeftCornerYProperty() {
+		initializeView();
 		return this.ropeTopLeftCornerY;
 	}
 
@@ -624,6 +679,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The rotation of the bottom body
 	 */
 	public final ReadOnlyDoubleProperty bottomRotationProperty() {
+		initializeView();
 		return this.bottomRotation;
 	}
 
@@ -634,6 +690,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The rotation of the top body
 	 */
 	public final ReadOnlyDoubleProperty topRotationProperty() {
+		initializeView();
 		return this.topRotation;
 	}
 
@@ -644,6 +701,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The rotation of the rope
 	 */
 	public final ReadOnlyDoubleProperty ropeRotationProperty() {
+		initializeView();
 		return this.ropeRotation;
 	}
 
@@ -654,6 +712,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The height of the top
 	 */
 	public final ReadOnlyDoubleProperty topHeightProperty() {
+		initializeView();
 		return this.topHeight;
 	}
 
@@ -664,6 +723,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The width of the top
 	 */
 	public final ReadOnlyDoubleProperty topWidthProperty() {
+		initializeView();
 		return this.topWidth;
 	}
 
@@ -674,6 +734,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The height of the bottom
 	 */
 	public final ReadOnlyDoubleProperty bottomHeightProperty() {
+		initializeView();
 		return this.bottomHeight;
 	}
 
@@ -684,6 +745,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The width of the bottom
 	 */
 	public final ReadOnlyDoubleProperty bottomWidthProperty() {
+		initializeView();
 		return this.bottomWidth;
 	}
 
@@ -694,6 +756,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The width of the rope
 	 */
 	public final ReadOnlyDoubleProperty ropeWidthProperty() {
+		initializeView();
 		return this.ropeWidth;
 	}
 
@@ -704,6 +767,7 @@ public class Rope extends ComplexObservable implements JointApplier {
 	 * @return The angular velocity as a property
 	 */
 	public final ReadOnlyDoubleProperty angularVelocityProperty() {
+		initializeView();
 		return this.angularVelocity;
 	}
 
@@ -779,6 +843,27 @@ public class Rope extends ComplexObservable implements JointApplier {
 		return height;
 	}
 
+	/**
+	 * @return The width of the rope between the top and the bottom, in meters
+	 */
+	public double getRopeWidth() {
+		return WIDHT_ROPE;
+	}
+
+	/**
+	 * @return The body of the top of the rope, attached to the world
+	 */
+	public Body getTopBody() {
+		return topRopeBody;
+	}
+
+	/**
+	 * @return The body of the magnet at the bottom of the rope
+	 */
+	public Body getMagnetBody() {
+		return bottomRopeBody;
+	}
+
 	/**
 	 * Removes the joints that the rope might possibly have put on a Coin.
 	 */
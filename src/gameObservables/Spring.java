@@ -10,6 +10,7 @@ import org.dyn4j.dynamics.joint.PrismaticJoint;
 import org.dyn4j.geometry.Mass;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 import javafx.beans.property.BooleanProperty;
@@ -66,39 +67,52 @@ public class Spring extends ComplexObservable {
 
 	/**
 	 * All the properties for graphic purpose. The position representation are
-	 * in pixel format. The rotation representation are in degrees.
-	 */
-	protected final DoubleProperty baseTopLeftCornerX;
-	protected final DoubleProperty baseTopLeftCornerY;
-	protected final DoubleProperty plateTopLeftCornerX;
-	protected final DoubleProperty plateTopLeftCornerY;
-	protected final DoubleProperty rotation;
-	protected final DoubleProperty springLength;
-	protected final DoubleProperty springHeight;
-	protected final DoubleProperty springTopLeftCornerX;
-	protected final DoubleProperty springTopLeftCornerY;
-	protected final DoubleProperty baseRotation;
-	protected final DoubleProperty plateRotation;
-	protected final DoubleProperty baseWidth;
-	protected final DoubleProperty baseHeight;
-	protected final DoubleProperty plateWidthP;
-	protected final DoubleProperty plateHeightP;
+	 * in pixel format. The rotation representation are in degrees. They are
+	 * only created when one of them is requested.
+	 */
+	protected DoubleProperty baseTopLeftCornerX;
+	protected DoubleProperty baseTopLeftCornerY;
+	protected DoubleProperty plateTopLeftCornerX;
+	protected DoubleProperty plateTopLeftCornerY;
+	protected DoubleProperty rotation;
+	protected DoubleProperty springLength;
+	protected DoubleProperty springHeight;
+	protected DoubleProperty springTopLeftCornerX;
+	protected DoubleProperty springTopLeftCornerY;
+	protected DoubleProperty baseRotation;
+	protected DoubleProperty plateRotation;
+	protected DoubleProperty baseWidth;
+	protected DoubleProperty baseHeight;
+	protected DoubleProperty plateWidthP;
+	protected DoubleProperty plateHeightP;
 
 	/**
 	 * Private spring measures of dimensions. Those variable are in meters
 	 */
 	private double height, width, springHeightMeters, springLengthMeters, plateHeight, widthDifference, plateWidth;
 	/**
-	 * Properties for springConstant, plateMass and force
+	 * The springConstant and the plateMass of the spring
 	 */
-	private DoubleProperty springConstant, plateMass, force;
+	private double springConstant, plateMass;
 
 	/**
-	 * The boolean property telling either the spring is a detonator or not. A
-	 * spring is considered a detonator, when a dynamic collide with an object
-	 * will make it unlock automatically.
+	 * Properties for springConstant, plateMass and force. The force is a view
+	 * property, the two others are only created when they are requested.
 	 */
-	private final BooleanProperty detonator;
+	private DoubleProperty springConstantProperty, plateMassProperty, force;
+
+	/**
+	 * The boolean telling either the spring is a detonator or not. A spring is
+	 * considered a detonator, when a dynamic collide with an object will make
+	 * it unlock automatically.
+	 */
+	private boolean detonator;
+
+	/**
+	 * The property of the {@link #detonator}. Only created when it is
+	 * requested.
+	 */
+	private BooleanProperty detonatorProperty;
 
 	/**
 	 * The locked value. True by default at construction
@@ -176,39 +190,42 @@ public class Spring extends ComplexObservable {
 
 		this.distance = new Gjk();
 
-		/*
-		 * Instantiate the properties and their listeners.
-		 */
-		baseTopLeftCornerX = new SimpleDoubleProperty();
-		baseTopLeftCornerY = new SimpleDoubleProperty();
-		plateTopLeftCornerX = new SimpleDoubleProperty();
-		plateTopLeftCornerY = new SimpleDoubleProperty();
-		rotation = new SimpleDoubleProperty();
-		springLength = new SimpleDoubleProperty();
-		springHeight = new SimpleDoubleProperty(ScaleManager.metersToPixels(springHeightMeters));
-		springTopLeftCornerX = new SimpleDoubleProperty();
-		springTopLeftCornerY = new SimpleDoubleProperty();
-		baseRotation = new SimpleDoubleProperty();
-		plateRotation = new SimpleDoubleProperty(0);
-		plateHeightP = new SimpleDoubleProperty();
-		plateWidthP = new SimpleDoubleProperty();
-		baseHeight = new SimpleDoubleProperty();
-		baseWidth = new SimpleDoubleProperty();
-		detonator = new SimpleBooleanProperty(false);
-
-		this.springConstant = new SimpleDoubleProperty(springConstant);
-		this.springConstant.addListener((value, old, newv) -> setJointProperties());
+		this.detonator = false;
+		this.springConstant = springConstant;
+		this.plateMass = INITIAL_PLATE_MASS;
 
-		this.plateMass = new SimpleDoubleProperty(INITIAL_PLATE_MASS);
-		this.plateMass.addListener((value, old, newv) -> setPlateMass(newv.doubleValue()));
+	}
 
-		this.rotation.addListener((value, old, newv) -> rotate(Math.toDegrees(newv.doubleValue())));
+	/**
+	 * Creates the view properties if they were never requested. They are
+	 * immediately updated to the actual state of the spring.
+	 */
+	private void initializeView() {
+		if (baseTopLeftCornerX == null) {
+			baseTopLeftCornerX = new SimpleDoubleProperty();
+			baseTopLeftCornerY = new SimpleDoubleProperty();
+			plateTopLeftCornerX = new SimpleDoubleProperty();
+			plateTopLeftCornerY = new SimpleDoubleProperty();
+			rotation = new SimpleDoubleProperty();
+			springLength = new SimpleDoubleProperty();
+			springHeight = new SimpleDoubleProperty(ScaleManager.metersToPixels(springHeightMeters));
+			springTopLeftCornerX = new SimpleDoubleProperty();
+			springTopLeftCornerY = new SimpleDoubleProperty();
+			baseRotation = new SimpleDoubleProperty();
+			plateRotation = new SimpleDoubleProperty(0);
+			plateHeightP = new SimpleDoubleProperty();
+			plateWidthP = new SimpleDoubleProperty();
+			baseHeight = new SimpleDoubleProperty();
+			baseWidth = new SimpleDoubleProperty();
 
-		this.force = new SimpleDoubleProperty(0);
+			this.rotation.addListener((value, old, newv) -> rotate(Math.toDegrees(newv.doubleValue())));
 
-		// resize the size properties
-		operateResize();
+			this.force = new SimpleDoubleProperty(0);
 
+			// resize the size properties
+			operateResize();
+			update();
+		}
 	}
 
 	/**
@@ -220,24 +237,29 @@ public class Spring extends ComplexObservable {
 	 */
 	@Override
 	public void update() {
+		// Nothing to update if the spring is not displayed
+		if (baseTopLeftCornerX == null) {
+			return;
+		}
 
-		baseTopLeftCornerX.set(ScaleManager.metersToPixels(baseBody.getWorldCenter().x - plateWidth / 2));
-		baseTopLeftCornerY
-				.set(ScaleManager.metersToPixels(baseBody.getTransform().getTranslationY() - base.getHeight() / 2));
-		baseRotation.set(Math.toDegrees(baseBody.getTransform().getRotation()));
+		final Transform baseTransform = getRenderTransform(baseBody);
+		final Transform plateTransform = getRenderTransform(plateBody);
+		final Vector2 baseCenter = baseTransform.getTransformed(baseBody.getLocalCenter());
+		final Vector2 plateCenter = plateTransform.getTransformed(plateBody.getLocalCenter());
 
-		plateTopLeftCornerX.set(ScaleManager.metersToPixels(plateBody.getWorldCenter().x - plateWidth / 2));
-		plateTopLeftCornerY
-				.set(ScaleManager.metersToPixels(plateBody.getTransform().getTranslationY() - plate.getHeight() / 2));
-		plateRotation.set(Math.toDegrees(plateBody.getTransform().getRotation()) + 180);
+		baseTopLeftCornerX.set(ScaleManager.metersToPixels(baseCenter.x - plateWidth / 2));
+		baseTopLeftCornerY.set(ScaleManager.metersToPixels(baseTransform.getTranslationY() - base.getHeight() / 2));
+		baseRotation.set(Math.toDegrees(baseTransform.getRotation()));
+
+		plateTopLeftCornerX.set(ScaleManager.metersToPixels(plateCenter.x - plateWidth / 2));
+		plateTopLeftCornerY.set(ScaleManager.metersToPixels(plateTransform.getTranslationY() - plate.getHeight() / 2));
+		plateRotation.set(Math.toDegrees(plateTransform.getRotation()) + 180);
 
 		// Updates the spring width depending on the distance between plates
 		final Separation distanceCalculator = new Separation();
-		distance.distance(base, baseBody.getInitialTransform(), plate, plateBody.getInitialTransform(),
-				distanceCalculator);
+		distance.distance(base, baseTransform, plate, plateTransform, distanceCalculator);
 
-		Vector2 middlePoint = new Vector2((baseBody.getWorldCenter().x + plateBody.getWorldCenter().x) / 2,
-				(baseBody.getWorldCenter().y + plateBody.getWorldCenter().y) / 2);
+		Vector2 middlePoint = new Vector2((baseCenter.x + plateCenter.x) / 2, (baseCenter.y + plateCenter.y) / 2);
 
 		springLength.set(ScaleManager.metersToPixels(distanceCalculator.getDistance()));
 		// translation of spring in x
@@ -247,7 +269,7 @@ public class Spring extends ComplexObservable {
 		springTopLeftCornerY.set(ScaleManager.metersToPixels(middlePoint.y - springHeightMeters / 2));
 
 		// The force of the spring is equal to F = -kx
-		force.set(-(springLengthMeters - distanceCalculator.getDistance()) * springConstant.get());
+		force.set(-(springLengthMeters - distanceCalculator.getDistance()) * springConstant);
 
 	}
 
@@ -270,7 +292,11 @@ public class Spring extends ComplexObservable {
 	 *            The detonator value
 	 */
 	public void setDetonator(boolean detonator) {
-		this.detonator.set(detonator);
+		this.detonator = detonator;
+
+		if (detonatorProperty != null) {
+			detonatorProperty.set(detonator);
+		}
 	}
 
 	/**
@@ -279,8 +305,11 @@ public class Spring extends ComplexObservable {
 	 * @return The boolean property holding the detonator value.
 	 */
 	public BooleanProperty detonatorProperty() {
-		isDetonator();
-		return this.detonator;
+		if (detonatorProperty == null) {
+			detonatorProperty = new SimpleBooleanProperty(detonator);
+			detonatorProperty.addListener((value, old, newv) -> setDetonator(newv));
+		}
+		return this.detonatorProperty;
 	}
 
 	/**
@@ -289,8 +318,7 @@ public class Spring extends ComplexObservable {
 	 * @return True if the spring is detonator, false otherwise
 	 */
 	public boolean isDetonator() {
-		// TODO Auto-generated method stub
-		return detonator.get();
+		return detonator;
 	}
 
 	/**
@@ -391,7 +419,12 @@ public class Spring extends ComplexObservable {
 	 *            The new spring constant in N/m²
 	 */
 	public void setSpringConstant(double k) {
-		this.springConstant.set(k);
+		this.springConstant = k;
+		setJointProperties();
+
+		if (springConstantProperty != null) {
+			springConstantProperty.set(k);
+		}
 	}
 
 	/**
@@ -402,6 +435,7 @@ public class Spring extends ComplexObservable {
 	 * @return A readOnlyProperty of the spring force.
 	 */
 	public ReadOnlyDoubleProperty forceProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(force);
 	}
 
@@ -409,7 +443,11 @@ public class Spring extends ComplexObservable {
 	 * The plateMass property returned as modifiable property.
 	 */
 	public DoubleProperty plateMassProperty() {
-		return plateMass;
+		if (plateMassProperty == null) {
+			plateMassProperty = new SimpleDoubleProperty(plateMass);
+			plateMassProperty.addListener((value, old, newv) -> setPlateMass(newv.doubleValue()));
+		}
+		return plateMassProperty;
 	}
 
 	/**
@@ -418,7 +456,11 @@ public class Spring extends ComplexObservable {
 	 * @return The spring constant of this spring as a property
 	 */
 	public DoubleProperty springConstantProperty() {
-		return springConstant;
+		if (springConstantProperty == null) {
+			springConstantProperty = new SimpleDoubleProperty(springConstant);
+			springConstantProperty.addListener((value, old, newv) -> setSpringConstant(newv.doubleValue()));
+		}
+		return springConstantProperty;
 	}
 
 	/**
@@ -432,18 +474,18 @@ public class Spring extends ComplexObservable {
 	private void setJointProperties() {
 		if (springEffect != null) {
 
-			if (springConstant.get() <= 0) {
+			if (springConstant <= 0) {
 				// The spring contract under everything
 				springEffect.setDampingRatio(0.0000000001);
 				springEffect.setFrequency(0.000000001);
 
 			} else {
 				try {
-					springEffect.setDampingRatio(springConstant.get() / 100);
+					springEffect.setDampingRatio(springConstant / 100);
 				} catch (Exception e) {
 					springEffect.setDampingRatio(1);
 				}
-				springEffect.setFrequency(springConstant.get() / 4);
+				springEffect.setFrequency(springConstant / 4);
 
 			}
 			if (locked) {
@@ -464,7 +506,11 @@ public class Spring extends ComplexObservable {
 	 */
 	public void setPlateMass(double mass) {
 		plateBody.setMass(new Mass(plate.getCenter(), mass, 5));
-		plateMass.set(mass);
+		plateMass = mass;
+
+		if (plateMassProperty != null) {
+			plateMassProperty.set(mass);
+		}
 	}
 
 	/**
@@ -502,6 +548,7 @@ public class Spring extends ComplexObservable {
 	 * @return base x position
 	 */
 	public final ReadOnlyDoubleProperty baseTopLeftCornerXProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.baseTopLeftCornerX);
 	}
 
@@ -511,6 +558,7 @@ public class Spring extends ComplexObservable {
 	 * @return base y position
 	 */
 	public final ReadOnlyDoubleProperty baseTopLeftCornerYProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.baseTopLeftCornerY);
 	}
 
@@ -520,6 +568,7 @@ public class Spring extends ComplexObservable {
 	 * @return plate x position
 	 */
 	public final ReadOnlyDoubleProperty plateTopLeftCornerXProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.plateTopLeftCornerX);
 	}
 
@@ -529,6 +578,7 @@ public class Spring extends ComplexObservable {
 	 * @return plate y position
 	 */
 	public final ReadOnlyDoubleProperty plateTopLeftCornerYProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.plateTopLeftCornerY);
 	}
 
@@ -538,6 +588,7 @@ public class Spring extends ComplexObservable {
 	 * @return the spring's rotation in degrees
 	 */
 	public final DoubleProperty rotationProperty() {
+		initializeView();
 		return this.rotation;
 	}
 
@@ -555,6 +606,7 @@ public class Spring extends ComplexObservable {
 	 * @return The length (or width) of the spring
 	 */
 	public final ReadOnlyDoubleProperty springLengthProperty() {
+		initializeView();
 		return this.springLength;
 	}
 
@@ -564,6 +616,7 @@ public class Spring extends ComplexObservable {
 	 * @return The height of the spring
 	 */
 	public final ReadOnlyDoubleProperty springHeightProperty() {
+		initializeView();
 		return this.springHeight;
 	}
 
@@ -573,6 +626,7 @@ public class Spring extends ComplexObservable {
 	 * @return The x position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty springTopLeftCornerXProperty() {
+		initializeView();
 		return this.springTopLeftCornerX;
 	}
 
@@ -582,6 +636,7 @@ public class Spring extends ComplexObservable {
 	 * @return The x position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty plateWidthProperty() {
+		initializeView();
 		return this.plateWidthP;
 	}
 
@@ -591,6 +646,7 @@ public class Spring extends ComplexObservable {
 	 * @return The x position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty plateHeightProperty() {
+		initializeView();
 		return this.plateHeightP;
 	}
 
@@ -600,6 +656,7 @@ public class Spring extends ComplexObservable {
 	 * @return The x position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty baseWidthProperty() {
+		initializeView();
 		return this.baseWidth;
 	}
 
@@ -609,6 +666,7 @@ public class Spring extends ComplexObservable {
 	 * @return The x position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty baseHeightProerty() {
+		initializeView();
 		return this.baseHeight;
 	}
 
@@ -618,6 +676,7 @@ public class Spring extends ComplexObservable {
 	 * @return The y position of the spring's view
 	 */
 	public final ReadOnlyDoubleProperty springTopLeftCornerYProperty() {
+		initializeView();
 		return this.springTopLeftCornerY;
 	}
 
@@ -628,6 +687,7 @@ public class Spring extends ComplexObservable {
 	 */
 
 	public final ReadOnlyDoubleProperty baseRotationProperty() {
+		initializeView();
 		return this.baseRotation;
 	}
 
@@ -637,6 +697,7 @@ public class Spring extends ComplexObservable {
 	 * @return The rotation of the plate
 	 */
 	public final ReadOnlyDoubleProperty plateRotationProperty() {
+		initializeView();
 		return this.plateRotation;
 	}
 
@@ -683,7 +744,7 @@ public class Spring extends ComplexObservable {
 	 * @return a property of the spring constant.
 	 */
 	public DoubleProperty getSpringConstant() {
-		return springConstant;
+		return springConstantProperty();
 	}
 
 	public Body getPlateBody() {
@@ -700,6 +761,7 @@ public class Spring extends ComplexObservable {
 	 * @return The top left positionX of the base
 	 */
 	public DoubleProperty getBaseTopLeftCornerX() {
+		initializeView();
 		return baseTopLeftCornerX;
 	}
 
@@ -709,6 +771,7 @@ public class Spring extends ComplexObservable {
 	 * @return The top left positionY of the base
 	 */
 	public DoubleProperty getBaseTopLeftCornerY() {
+		initializeView();
 		return baseTopLeftCornerY;
 	}
 
@@ -718,6 +781,7 @@ public class Spring extends ComplexObservable {
 	 * @return The top left positionX of the plate
 	 */
 	public DoubleProperty getPlateTopLeftCornerX() {
+		initializeView();
 		return plateTopLeftCornerX;
 	}
 
@@ -727,6 +791,7 @@ public class Spring extends ComplexObservable {
 	 * @return The top left positionY of the plate
 	 */
 	public DoubleProperty getPlateTopLeftCornerY() {
+		initializeView();
 		return plateTopLeftCornerY;
 	}
 
@@ -736,10 +801,12 @@ public class Spring extends ComplexObservable {
 	 * @return The base rotation in degrees as a property
 	 */
 	public DoubleProperty getBaseRotation() {
+		initializeView();
 		return baseRotation;
 	}
 
 	public DoubleProperty getPlateRotation() {
+		initializeView();
 		return plateRotation;
 	}
 
@@ -756,11 +823,15 @@ public class Spring extends ComplexObservable {
 	}
 
 	public DoubleProperty getForce() {
+		initializeView();
 		return force;
 	}
 
 	@Override
 	public void operateResize() {
+		if (plateWidthP == null) {
+			return;
+		}
 
 		// Updates the size of the spring depending on the spring's size
 		plateWidthP.set(ScaleManager.metersToPixels(plateWidth));
@@ -5,9 +5,8 @@ import org.dyn4j.dynamics.World;
 import org.dyn4j.dynamics.joint.WeldJoint;
 import org.dyn4j.geometry.Vector2;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import observables.AbstractComplexObservable;
+import observables.DynamicWorld;
 
 public class StickBascule extends Bascule implements JointApplier {
 
@@ -15,7 +14,7 @@ public class StickBascule extends Bascule implements JointApplier {
 
 	private Coin grippedCoin;
 
-	private BooleanProperty canCatch;
+	private volatile boolean canCatch;
 
 	private World world;
 
@@ -42,7 +41,7 @@ public class StickBascule extends Bascule implements JointApplier {
 	public StickBascule(double width, double height, double mass) {
 		super(width, height, mass);
 
-		canCatch = new SimpleBooleanProperty(true);
+		canCatch = true;
 		super.body.setGravityScale(0);
 	}
 
@@ -61,7 +60,7 @@ public class StickBascule extends Bascule implements JointApplier {
 
 			// The coin must not have an infinite mass (means it would be
 			// stopped)
-			if (joint == null && canCatch.get() && coin.getBodies().get(0).isDynamic()) {
+			if (joint == null && canCatch && coin.getBodies().get(0).isDynamic()) {
 
 				this.grippedCoin = coin;
 
@@ -69,13 +68,13 @@ public class StickBascule extends Bascule implements JointApplier {
 
 				joint = new WeldJoint(b, body, contactPoint);
 
-				
-
 				grippedCoin.setCrossedTeleportable(false);
 				grippedCoin = coin;
 
 				joints.add(joint);
-				world.addJoint(joint);
+
+				final WeldJoint added = joint;
+				DynamicWorld.defer(world, added, "add", () -> world.addJoint(added));
 			}
 		}
 	}
@@ -95,11 +94,12 @@ public class StickBascule extends Bascule implements JointApplier {
 	 */
 	public void dropCoin() {
 
-		world.removeJoint(joint);
+		final WeldJoint removed = joint;
+		DynamicWorld.defer(world, removed, "remove", () -> world.removeJoint(removed));
 		joints.remove(joint);
 		if (grippedCoin != null) {
 			// Sets the bottom has a sensor. It won't collide anymore.
-			canCatch.set(false);
+			canCatch = false;
 			
 
 			grippedCoin.setCrossedTeleportable(true);
@@ -114,7 +114,7 @@ public class StickBascule extends Bascule implements JointApplier {
 				}
 				// Remake it a collidable. It will be able to catch a coin
 				// again.
-				canCatch.set(true);
+				canCatch = true;
 
 				// sets the current joint to null
 				joint = null;
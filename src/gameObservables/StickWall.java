@@ -6,6 +6,7 @@ import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Vector2;
 
 import observables.AbstractComplexObservable;
+import observables.DynamicWorld;
 import observables.Surface;
 
 /**
@@ -49,10 +50,14 @@ public class StickWall extends Surface {
 		super.handleDynamicCollide(contactPoint, object, body, world);
 
 		if (object instanceof Coin) {
-			Coin coin = (Coin) object;
-			coin.getBodies().get(0).setLinearVelocity(0, 0);
-			coin.getBodies().get(0).setAngularVelocity(0);
-			coin.getBodies().get(0).setMass(MassType.INFINITE);
+			final Body coinBody = object.getBodies().get(0);
+
+			// Applied once, even if the coin hits many walls during the step
+			DynamicWorld.defer(world, coinBody, "stick", () -> {
+				coinBody.setLinearVelocity(0, 0);
+				coinBody.setAngularVelocity(0);
+				coinBody.setMass(MassType.INFINITE);
+			});
 		}
 
 	}
@@ -4,7 +4,7 @@ import java.awt.AWTException;
 import java.awt.Rectangle;
 import java.awt.Robot;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashMap;
@@ -12,7 +12,6 @@ import java.util.Map;
 import java.util.ResourceBundle;
 
 import javax.activation.UnsupportedDataTypeException;
-import javax.imageio.ImageIO;
 
 import game.BorderType;
 import game.GameSong;
@@ -24,9 +23,12 @@ import game.SoundMaker;
 import gameObservableControllers.ChildrenController;
 import gameObservableControllers.ParentController;
 import gameObservableViews.InventoryListCell;
+import gameObservableViews.ObservableObjectFactory;
 import gameObservableViews.ObservableWrapper;
 import gameObservables.Observable;
 import interfaceViewControllers.headers.HeaderViewWrapper;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.value.ChangeListener;
@@ -67,10 +69,14 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.transform.Scale;
 import javafx.util.Callback;
+import javafx.util.Duration;
 import main.NumberField;
 import observables.AbstractComplexObservable;
 import observables.DynamicWorld;
 import observables.ScaleManager;
+import utils.ImageCache;
+import utils.LevelJournal;
+import utils.LevelThumbnails;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.ScreenController.Animations;
@@ -78,6 +84,12 @@ import views.screenController.Screens;
 
 public class BuilderController implements Initializable, ControlledScreen, ParentController {
 
+	/**
+	 * The period, in seconds, at which the focused object is recorded in the
+	 * {@link #journal}, for the changes of its parameters.
+	 */
+	private static final double AUTOSAVE_PERIOD = 5;
+
 	/**
 	 * The first background of the view
 	 */
@@ -236,6 +248,18 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	 */
 	private ScreenController controller;
 
+	/**
+	 * The autosave of the level, recording every change of its objects. Null
+	 * if it can't be written.
+	 */
+	private LevelJournal journal;
+
+	/**
+	 * Records the focused object in the {@link #journal} every
+	 * {@link #AUTOSAVE_PERIOD} seconds.
+	 */
+	private Timeline autosave;
+
 	/**
 	 * Initializes the entire view, the listeners, the backgrounds, the events
 	 * and the properties.
@@ -309,6 +333,9 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		// Initializes the borders of the world as imageviews
 		initBorders();
 
+		// The parameters changed in the headers are recorded periodically
+		autosave = new Timeline(new KeyFrame(Duration.seconds(AUTOSAVE_PERIOD), (event) -> journalFocusedWrapper()));
+		autosave.setCycleCount(Timeline.INDEFINITE);
 	}
 
 	/**
@@ -370,10 +397,16 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 						isDragged = true;
 
 						// Sets the wrapper to the position required
-						this.clickedWrapper.observable.translate(5, 5);
-						this.game.setDraggedWrapper(wrapper);
-						this.clickedWrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
-								ScaleManager.pixelToMeters(event.getY()));
+						this.game.edit(() -> {
+							wrapper.observable.translate(5, 5);
+							this.game.setDraggedWrapper(wrapper);
+							wrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
+									ScaleManager.pixelToMeters(event.getY()));
+						});
+
+						if (journal != null) {
+							journal.added(wrapper.observable);
+						}
 
 						// Changes the value of the rotation slider to the new
 						// object's
@@ -406,7 +439,8 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		 */
 		rotationListener = ((value, old, newv) -> {
 			if (clickedWrapper != null) {
-				clickedWrapper.observable.rotate(Math.toRadians(newv.doubleValue()));
+				final ObservableWrapper wrapper = clickedWrapper;
+				game.edit(() -> wrapper.observable.rotate(Math.toRadians(newv.doubleValue())));
 				clickedWrapper.view.setEffect(selectedEffect);
 			}
 		});
@@ -416,6 +450,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 				this.rotationSlider.valueProperty().addListener(rotationListener);
 			} else {
 				this.rotationSlider.valueProperty().removeListener(rotationListener);
+				journalFocusedWrapper();
 			}
 		});
 
@@ -441,7 +476,8 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		// Add the listeners of the orientation
 		textInputListener = ((value, old, newv) -> {
 			if (clickedWrapper.observable != null) {
-				clickedWrapper.observable.translate(posX.getValue(), posY.getValue());
+				final ObservableWrapper wrapper = clickedWrapper;
+				game.edit(() -> wrapper.observable.translate(posX.getValue(), posY.getValue()));
 			}
 		});
 
@@ -453,6 +489,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 				posX.valueProperty().addListener(textInputListener);
 			} else {
 				posX.valueProperty().removeListener(textInputListener);
+				journalFocusedWrapper();
 			}
 		});
 		posY.focusedProperty().addListener((value, old, newv) -> {
@@ -460,6 +497,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 				posY.valueProperty().addListener(textInputListener);
 			} else {
 				posY.valueProperty().removeListener(textInputListener);
+				journalFocusedWrapper();
 			}
 		});
 
@@ -550,11 +588,11 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		Image vertical = null;
 
 		if (game.getBounds() == BorderType.NORMAL) {
-			horizontal = new Image(getClass().getResource("/images/Border_Horizontal.png").toExternalForm());
-			vertical = new Image(getClass().getResource("/images/Border_Vertical.png").toExternalForm());
+			horizontal = ImageCache.getResource("/images/Border_Horizontal.png");
+			vertical = ImageCache.getResource("/images/Border_Vertical.png");
 		} else if (game.getBounds() == BorderType.TELEPORTABLE) {
-			horizontal = new Image(getClass().getResource("/images/teleportable_horizontal.jpg").toExternalForm());
-			vertical = new Image(getClass().getResource("/images/teleportable_vertical.jpg").toExternalForm());
+			horizontal = ImageCache.getResource("/images/teleportable_horizontal.jpg");
+			vertical = ImageCache.getResource("/images/teleportable_vertical.jpg");
 		}
 		top.setImage(horizontal);
 		bottom.setImage(horizontal);
@@ -617,13 +655,9 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 							(int) ((widthInPixels.get() + right.getFitWidth() * 2) * ScaleManager.SCALE.get()),
 							(int) ((heightInPixels.get() + bottom.getFitHeight() * 2) * ScaleManager.SCALE.get())));
 
-					// Converts image to a byte array and assigns it to the
+					// Converts image to a thumbnail and assigns it to the
 					// level
-					ByteArrayOutputStream baos = new ByteArrayOutputStream();
-					ImageIO.write(image, "jpg", baos);
-					baos.flush();
-					level.setScreenShot(baos.toByteArray());
-					baos.close();
+					level.setScreenShot(LevelThumbnails.encode(image));
 				} catch (AWTException | IOException e) {
 					e.printStackTrace();
 				}
@@ -663,6 +697,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 			ButtonType result = Dialogs.showDialog(null,
 					"Voulez-vous vraiment quitter ? Toute progression sera perdue...", AlertType.CONFIRMATION);
 			if (result == ButtonType.OK) {
+				discardAutosave();
 				controller.setScreen(Screens.MAIN_MENU);
 			}
 
@@ -680,8 +715,9 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	private void mouseDragStarted(MouseEvent event) {
 
 		if (clickedWrapper != null && isDragged) {
-			clickedWrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
-					ScaleManager.pixelToMeters(event.getY()));
+			final ObservableWrapper wrapper = clickedWrapper;
+			game.edit(() -> wrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
+					ScaleManager.pixelToMeters(event.getY())));
 			posX.setValue(clickedWrapper.observable.getTranslate().x);
 			posY.setValue(clickedWrapper.observable.getTranslate().y);
 			clickedWrapper.view.setEffect(selectedEffect);
@@ -697,6 +733,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	private void mouseDragEnded(MouseEvent event) {
 		isDragged = false;
 		game.dropWrapper();
+		journalFocusedWrapper();
 	}
 
 	/**
@@ -711,6 +748,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		// wrapper is replaced.
 		isDragged = false;
 		game.dropWrapper();
+		journalFocusedWrapper();
 	}
 
 	/**
@@ -741,6 +779,10 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 			mainPane.getChildren().remove(clickedWrapper.view);
 			level.removeFixedObject(clickedWrapper.observable);
 
+			if (journal != null) {
+				journal.removed(clickedWrapper.observable);
+			}
+
 			// Add the item again to the inventory if deleted
 			for (InventoryItem item : inventoryListView.getItems()) {
 				if (item.getItemType() == clickedWrapper.instance) {
@@ -749,11 +791,12 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 				}
 			}
 
+			// Its view is reused by the next object of the same type
+			ObservableObjectFactory.recycle(clickedWrapper);
+
 			// Display required headers
 			this.clickedWrapper = null;
 			this.displayHeader();
-
-			System.gc();
 		}
 	}
 
@@ -804,9 +847,11 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		// Dragged by default
 		isDragged = true;
 
-		// Turns previously clicked to normal color
+		// Turns previously clicked to normal color, and records its last
+		// changes
 		if (clickedWrapper != null) {
 			clickedWrapper.view.setEffect(null);
+			journalFocusedWrapper();
 		}
 		if (object != null) {
 
@@ -919,6 +964,13 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	 */
 	public void setLevel(Level level) {
 
+		// Proposes to restore the progress lost on this level
+		final Level restored = restoreAutosave(LevelJournal.getJournal(new File(level.getPath())));
+
+		if (restored != null) {
+			level = restored;
+		}
+
 		// Changes of level everywhere
 		this.level = level;
 		this.children.clear();
@@ -931,7 +983,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		this.children = FXCollections.observableArrayList(game.getFixeedWrappers());
 
 		// Changes the background
-		Background planetBack = new Background(new BackgroundImage(new Image(level.getPlanet().getPicture()),
+		Background planetBack = new Background(new BackgroundImage(ImageCache.get(level.getPlanet().getPicture()),
 				BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER,
 				new BackgroundSize(Double.MAX_VALUE, Double.MAX_VALUE, true, true, true, true)));
 
@@ -949,6 +1001,71 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 		setBoundsImage();
 		setIdealScroll();
 
+		// Starts the autosave of the level
+		if (journal != null) {
+			journal.close();
+		}
+		try {
+			journal = new LevelJournal(level);
+		} catch (IOException e) {
+			e.printStackTrace();
+			journal = null;
+		}
+	}
+
+	/**
+	 * Asks the user if the level of the autosave must be restored. The
+	 * autosave is deleted, restored or not : a new one is started when the
+	 * level is loaded with {@link #setLevel(Level)}.
+	 * 
+	 * @param autosave
+	 *            The journal of the level
+	 * @return The level restored, or null if the user refused, or if there is
+	 *         no autosave or it can't be read.
+	 */
+	public static Level restoreAutosave(File autosave) {
+		if (!autosave.isFile()) {
+			return null;
+		}
+
+		Level restored = null;
+
+		try {
+			final Level level = LevelJournal.recover(autosave);
+
+			ButtonType result = Dialogs.showDialog(null, "Le niveau " + level.getName()
+					+ " n'a pas été sauvegardé. Voulez-vous restaurer sa progression ?", AlertType.CONFIRMATION);
+
+			if (result == ButtonType.OK) {
+				restored = level;
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+
+		autosave.delete();
+		return restored;
+	}
+
+	/**
+	 * Deletes the autosave of the level, once it is abandoned. The autosave of
+	 * a saved level is deleted by {@link ChoseObjectController}.
+	 */
+	public void discardAutosave() {
+		if (journal != null) {
+			journal.discard();
+			journal = null;
+		}
+	}
+
+	/**
+	 * Records the current state of the focused object in the autosave, if it
+	 * changed.
+	 */
+	private void journalFocusedWrapper() {
+		if (journal != null && clickedWrapper != null) {
+			journal.updated(clickedWrapper.observable);
+		}
 	}
 
 	/**
@@ -967,6 +1084,14 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	public void removedFromScreen() {
 		game.stop();
 
+		// The level is not modified anymore, but its autosave is kept until
+		// it is saved
+		autosave.stop();
+		journalFocusedWrapper();
+		if (journal != null) {
+			journal.close();
+		}
+
 		// Removes physic objects from the game, so no exception will be thrown
 		// later
 		game.clear();
@@ -979,6 +1104,7 @@ public class BuilderController implements Initializable, ControlledScreen, Paren
 	public void displayedToScreen() {
 		SoundMaker.playSong(GameSong.BUILDER);
 		game.start();
+		autosave.play();
 
 	}
 }
@@ -4,12 +4,16 @@ import java.io.ByteArrayInputStream;
 import java.net.URL;
 import java.util.ResourceBundle;
 
+import javax.activation.UnsupportedDataTypeException;
+
 import game.Inventory;
 import game.InventoryItem;
 import game.Level;
 import gameObservables.Observable;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -17,6 +21,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.StackPane;
 import main.IntegerField;
 import utils.BufferingUtils;
+import utils.LevelJournal;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.ScreenController.Animations;
@@ -107,10 +112,30 @@ public class ChoseObjectController implements ControlledScreen, Initializable {
 	}
 
 	/**
-	 * Save the new level to a file
+	 * Save the new level to a file. The file is written in the background, and
+	 * the user is told if it could not be saved. Once saved, the autosave of
+	 * the level is deleted. The builder may be editing another level by then,
+	 * so its own autosave is left untouched.
 	 */
 	private void saveLevel() {
-		BufferingUtils.saveLevel(newLevel);
+		final String name = newLevel.getName();
+
+		BufferingUtils.saveLevelInBackground(newLevel).whenComplete((file, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+
+				Platform.runLater(() -> {
+					try {
+						Dialogs.showDialog(null, "Le niveau " + name + " n'a pas pu être sauvegardé.",
+								AlertType.ERROR);
+					} catch (UnsupportedDataTypeException e) {
+						e.printStackTrace();
+					}
+				});
+			} else {
+				LevelJournal.getJournal(file).delete();
+			}
+		});
 	}
 
 	/**
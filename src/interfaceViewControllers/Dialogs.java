@@ -1,6 +1,5 @@
 package interfaceViewControllers;
 
-import java.awt.Dialog;
 import java.io.IOException;
 
 import javax.activation.UnsupportedDataTypeException;
@@ -14,6 +13,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import utils.ImageCache;
 
 public class Dialogs {
 
@@ -146,14 +146,14 @@ public class Dialogs {
 
 		switch (type) {
 		case ERROR:
-			dialogImage = new Image(Dialog.class.getResource("/images/coinHit.gif").toExternalForm());
+			dialogImage = ImageCache.getResource("/images/coinHit.gif");
 			break;
 
 		case CONFIRMATION:
-			dialogImage = new Image(Dialog.class.getResource("/images/coinHeart.gif").toExternalForm());
+			dialogImage = ImageCache.getResource("/images/coinHeart.gif");
 			break;
 		case INFORMATION:
-			dialogImage = new Image(Dialog.class.getResource("/images/coinSmile.gif").toExternalForm());
+			dialogImage = ImageCache.getResource("/images/coinSmile.gif");
 			break;
 		default:
 			throw new UnsupportedDataTypeException("The alert type " + type + " is not supported");
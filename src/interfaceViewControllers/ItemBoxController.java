@@ -2,10 +2,11 @@ package interfaceViewControllers;
 
 import game.InventoryItem;
 import game.Quantity;
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import utils.ImageCache;
 
 /**
  * Simple cell that contains the inventory item informations
@@ -26,23 +27,42 @@ public class ItemBoxController {
 	 */
 	private InventoryItem item;
 
+	/**
+	 * Listens to the change of the quantity of the {@link #item}.
+	 */
+	private final ChangeListener<Number> quantity = (value, old, newv) -> {
+		setText();
+	};
+
 	/**
 	 * Sets the current item of the view. The quantity property is binded to
-	 * ensure that value is modified.
+	 * ensure that value is modified. The view stops listening to the previous
+	 * item, so it can be given the items one after the other.
 	 * 
 	 * @param item
-	 *            The item to be set
+	 *            The item to be set, or null to display nothing
 	 */
 	public void setItem(InventoryItem item) {
+		if (item == this.item) {
+			return;
+		}
+		if (this.item != null) {
+			this.item.quantityProperty().removeListener(quantity);
+		}
 		this.item = item;
-		image.setImage(new Image(item.getItemType().getItemPicture()));
+
+		if (item == null) {
+			image.setImage(null);
+			return;
+		}
+
+		// Decoded at the size of the view
+		image.setImage(ImageCache.get(item.getItemType().getItemPicture(), image.getFitWidth(), image.getFitHeight()));
 
 		setText();
 
 		// Listen to the change of the quantity
-		this.item.quantityProperty().addListener((value, old, newv) -> {
-			setText();
-		});
+		this.item.quantityProperty().addListener(quantity);
 	}
 
 	/**
@@ -1,16 +1,15 @@
 package interfaceViewControllers;
 
-import java.io.ByteArrayInputStream;
 import java.net.URL;
 import java.util.ResourceBundle;
 
-import game.Level;
+import game.LevelSummary;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import utils.LevelThumbnails;
 
 public class LevelInfoController implements Initializable {
 
@@ -19,6 +18,11 @@ public class LevelInfoController implements Initializable {
 	@FXML
 	private Label information;
 
+	/**
+	 * The level displayed by the view.
+	 */
+	private LevelSummary level;
+
 	/**
 	 * Initializes the level view information.
 	 */
@@ -37,15 +41,26 @@ public class LevelInfoController implements Initializable {
 	 * 
 	 * <li>Name - creator
 	 * 
+	 * The screenshot is decoded in the background at the size of the view,
+	 * and displayed once it is ready. Nothing is done if the view already
+	 * displays this summary, so a cell can call it on every update.
+	 * 
 	 * @param level
-	 *            The level that defines the view.
+	 *            The summary of the level that defines the view.
 	 */
-	public void setLevel(Level level) {
-		try {
-			this.screenshot.setImage(new Image(new ByteArrayInputStream(level.getScreenShot())));
-		} catch (NullPointerException e) {
-			// Happens if an error occured during construction
+	public void setLevel(LevelSummary level) {
+		if (level == this.level) {
+			return;
 		}
+		this.level = level;
+		this.screenshot.setImage(null);
+
+		LevelThumbnails.load(level, 0, screenshot.getFitHeight(), (image) -> {
+			// The view may display another level meanwhile
+			if (this.level == level) {
+				this.screenshot.setImage(image);
+			}
+		});
 		this.information.setText(level.getName() + " - " + level.getCreator());
 	}
 
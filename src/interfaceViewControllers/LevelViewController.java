@@ -4,18 +4,23 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 import javax.activation.UnsupportedDataTypeException;
 
 import game.Level;
+import game.LevelSummary;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
+import javafx.scene.Node;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
@@ -23,6 +28,8 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.util.Callback;
+import utils.LevelCatalog;
+import utils.LevelPack;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.ScreenController.Animations;
@@ -33,7 +40,7 @@ public class LevelViewController implements ControlledScreen, Initializable {
 	private Label title;
 
 	@FXML
-	private ListView<Level> levelView;
+	private ListView<LevelSummary> levelView;
 
 	private ScreenController controller;
 
@@ -44,6 +51,34 @@ public class LevelViewController implements ControlledScreen, Initializable {
 	@FXML
 	private Button delete;
 
+	/**
+	 * Incremented every time levels are loaded, so the levels of a previous
+	 * loading are not added to the view.
+	 */
+	private int loading;
+
+	/**
+	 * The catalog of the levels shown. While it is watched, the levels shown
+	 * are kept up to date by {@link #changes}.
+	 */
+	private LevelCatalog catalog;
+
+	/**
+	 * True once all the levels of the {@link #catalog} are shown.
+	 */
+	private boolean loaded;
+
+	/**
+	 * The levels shown, by their file.
+	 */
+	private final Map<File, LevelSummary> shown = new HashMap<>();
+
+	/**
+	 * Updates the view when a level of the {@link #catalog} changes.
+	 */
+	private final LevelCatalog.ChangeListener changes = (file, summary) -> Platform
+			.runLater(() -> levelChanged(file, summary));
+
 	/**
 	 * Called by the view when the previous button is clicked
 	 * 
@@ -92,26 +127,175 @@ public class LevelViewController implements ControlledScreen, Initializable {
 
 	/**
 	 * Sets the level of the listView that it will display. The level will be
-	 * sorted by alphabetic order.
+	 * sorted by alphabetic order. Only their summaries are displayed, the
+	 * selected level is opened when it is played or modified.
 	 * 
 	 * @param personnalLevels
-	 *            The levels displayed in the ListView.
+	 *            The summaries of the levels displayed in the ListView.
 	 * 
 	 * @param showModifyAndDelete
 	 *            Boolean that tells if modify and delete button must be shown
 	 *            in this view or not. At least, only the play button is
 	 *            necessary to the view.
 	 */
-	public void setLevels(List<Level> personnalLevels, boolean showModifyAndDelete) {
-		ObservableList<Level> levels = FXCollections.observableArrayList(personnalLevels);
+	public void setLevels(List<LevelSummary> personnalLevels, boolean showModifyAndDelete) {
+		ObservableList<LevelSummary> levels = FXCollections.observableArrayList(personnalLevels);
 		Collections.sort(levels);
 
+		shown.clear();
+		for (LevelSummary summary : levels) {
+			shown.put(summary.getFile(), summary);
+		}
+
 		modify.setVisible(showModifyAndDelete);
 		delete.setVisible(showModifyAndDelete);
 
 		this.levelView.setItems(levels);
 	}
 
+	/**
+	 * Loads the levels contained in the repository into the view, without
+	 * waiting for all of them to be read. The loading screen is shown until
+	 * the first level is added, with the number of levels read, then the
+	 * levels are added one by one, in alphabetic order, as soon as they are
+	 * read by the {@link LevelCatalog} of the repository.
+	 * 
+	 * The view is then kept up to date while the repository is watched, so
+	 * the levels are not loaded again if the same repository is shown.
+	 * 
+	 * Must be called from the JavaFX thread.
+	 * 
+	 * @param repository
+	 *            The repository of the levels
+	 * @param showModifyAndDelete
+	 *            Boolean that tells if modify and delete button must be shown
+	 *            in this view or not.
+	 */
+	public void loadLevels(File repository, boolean showModifyAndDelete) {
+
+		final LevelCatalog catalog = LevelCatalog.getCatalog(repository);
+
+		if (catalog == this.catalog && loaded && catalog.isWatched()) {
+			modify.setVisible(showModifyAndDelete);
+			delete.setVisible(showModifyAndDelete);
+			return;
+		}
+
+		if (this.catalog != null) {
+			this.catalog.removeChangeListener(changes);
+		}
+		this.catalog = catalog;
+		this.loaded = false;
+		catalog.addChangeListener(changes);
+
+		final int current = ++loading;
+
+		setLevels(Collections.emptyList(), showModifyAndDelete);
+		controller.showLoader();
+
+		final Thread thread = new Thread(() -> {
+			catalog.getSummaries((summary, read, total) -> Platform.runLater(() -> {
+				if (current != loading) {
+					return;
+				}
+
+				controller.setLoaderProgress(read, total);
+
+				if (summary != null) {
+					addLevel(summary);
+				}
+
+				// Hidden as soon as there is a level to show
+				if ((summary != null && levelView.getItems().size() == 1) || read == total) {
+					controller.hideLoader();
+				}
+			}));
+
+			// In case there was nothing to read
+			Platform.runLater(() -> {
+				if (current == loading) {
+					controller.hideLoader();
+					loaded = true;
+				}
+			});
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Loads the levels of the pack into the view. Their summaries are read
+	 * from the pack when it is opened, so they are all shown at once.
+	 * 
+	 * @param file
+	 *            The file of the pack
+	 * @param showModifyAndDelete
+	 *            Boolean that tells if modify and delete button must be shown
+	 *            in this view or not.
+	 * @return False if the pack could not be opened.
+	 */
+	public boolean loadPack(File file, boolean showModifyAndDelete) {
+		final LevelPack pack;
+
+		try {
+			pack = LevelPack.getPack(file);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+
+		if (this.catalog != null) {
+			this.catalog.removeChangeListener(changes);
+		}
+		this.catalog = null;
+		this.loaded = false;
+		++loading;
+
+		setLevels(pack.getSummaries(), showModifyAndDelete);
+		return true;
+	}
+
+	/**
+	 * Adds the level to the view, at its place in alphabetic order. If the
+	 * level is already shown, it is replaced.
+	 * 
+	 * @param summary
+	 *            The summary of the level
+	 */
+	private void addLevel(LevelSummary summary) {
+		final ObservableList<LevelSummary> levels = levelView.getItems();
+		final LevelSummary old = shown.put(summary.getFile(), summary);
+
+		if (old != null) {
+			levels.remove(old);
+		}
+
+		final int index = Collections.binarySearch(levels, summary);
+
+		levels.add(index < 0 ? -index - 1 : index, summary);
+	}
+
+	/**
+	 * Called when a level of the {@link #catalog} was created, modified or
+	 * deleted.
+	 * 
+	 * @param file
+	 *            The level file
+	 * @param summary
+	 *            The new summary of the level, or null if it was deleted
+	 */
+	private void levelChanged(File file, LevelSummary summary) {
+		if (summary != null) {
+			addLevel(summary);
+		} else {
+			final LevelSummary old = shown.remove(file);
+
+			if (old != null) {
+				levelView.getItems().remove(old);
+			}
+		}
+	}
+
 	/**
 	 * Initializes the view to match the restriction and to define the cell
 	 * factory that will be represented by {@link LevelViewController}'s view.
@@ -123,27 +307,36 @@ public class LevelViewController implements ControlledScreen, Initializable {
 		this.delete.setDisable(true);
 		this.modify.setDisable(true);
 
-		this.levelView.setCellFactory(new Callback<ListView<Level>, ListCell<Level>>() {
+		this.levelView.setCellFactory(new Callback<ListView<LevelSummary>, ListCell<LevelSummary>>() {
 
 			@Override
-			public ListCell<Level> call(ListView<Level> param) {
-				// TODO Auto-generated method stub
-				return new ListCell<Level>() {
+			public ListCell<LevelSummary> call(ListView<LevelSummary> param) {
+				// The view of a cell is loaded once, then given the levels
+				// displayed by the cell while scrolling
+				return new ListCell<LevelSummary>() {
+
+					private Node view;
+					private LevelInfoController controller;
+
 					@Override
-					protected void updateItem(Level item, boolean empty) {
+					protected void updateItem(LevelSummary item, boolean empty) {
 						super.updateItem(item, empty);
 						if (item != null && !empty) {
-							try {
-								FXMLLoader loader = new FXMLLoader(
-										getClass().getResource("/interfaceViews/levelInfo.fxml"));
-
-								setGraphic(loader.load());
-								LevelInfoController controller = loader.getController();
-								controller.setLevel(item);
-							} catch (IOException e) {
-
-								e.printStackTrace();
+							if (controller == null) {
+								try {
+									FXMLLoader loader = new FXMLLoader(
+											getClass().getResource("/interfaceViews/levelInfo.fxml"));
+
+									view = loader.load();
+									controller = loader.getController();
+								} catch (IOException e) {
+
+									e.printStackTrace();
+									return;
+								}
 							}
+							controller.setLevel(item);
+							setGraphic(view);
 
 						} else {
 							setGraphic(null);
@@ -176,12 +369,13 @@ public class LevelViewController implements ControlledScreen, Initializable {
 	 */
 	@FXML
 	private void delete(ActionEvent event) {
-		Level toDelete = levelView.getSelectionModel().getSelectedItem();
+		LevelSummary toDelete = levelView.getSelectionModel().getSelectedItem();
 
 		try {
 			if (Dialogs.showDialog(null, "Voulez-vous vraiment supprimer le niveau : " + toDelete.getName()
 					+ " crée par " + toDelete.getCreator() + " ?", AlertType.CONFIRMATION) == ButtonType.OK) {
 				levelView.getItems().remove(toDelete);
+				shown.remove(toDelete.getFile());
 
 				File file = new File(toDelete.getPath());
 				if (file.exists()) {
@@ -201,7 +395,11 @@ public class LevelViewController implements ControlledScreen, Initializable {
 	 */
 	@FXML
 	private void modify(ActionEvent event) {
-		Level toModify = levelView.getSelectionModel().getSelectedItem();
+		Level toModify = openSelectedLevel();
+
+		if (toModify == null) {
+			return;
+		}
 
 		controller.setScreen(Screens.BUILDER, Animations.FADE_IN);
 
@@ -218,11 +416,42 @@ public class LevelViewController implements ControlledScreen, Initializable {
 	 */
 	@FXML
 	private void play(ActionEvent event) {
+		Level toPlay = openSelectedLevel();
+
+		if (toPlay == null) {
+			return;
+		}
+
 		controller.setScreen(Screens.MAIN_GAME);
 
 		MainGameController gameController = (MainGameController) controller.getController(Screens.MAIN_GAME);
 
-		gameController.setLevel(levelView.getSelectionModel().getSelectedItem());
+		gameController.setLevel(toPlay);
+	}
+
+	/**
+	 * Opens the complete level of the summary currently selected in the view.
+	 * If it can't be opened, the user is told so.
+	 * 
+	 * @return The level, or null if it could not be opened.
+	 */
+	private Level openSelectedLevel() {
+		LevelSummary selected = levelView.getSelectionModel().getSelectedItem();
+
+		try {
+			return selected.open();
+
+		} catch (Exception e) {
+			e.printStackTrace();
+
+			try {
+				Dialogs.showDialog(null, "Le niveau " + selected.getName() + " n'a pas pu être ouvert.",
+						AlertType.ERROR);
+			} catch (UnsupportedDataTypeException e1) {
+				e1.printStackTrace();
+			}
+			return null;
+		}
 	}
 
 }
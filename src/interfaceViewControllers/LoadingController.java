@@ -23,12 +23,18 @@ public class LoadingController implements views.screenController.LoadingControll
 
 	private Timeline anim = null;
 
+	/**
+	 * The text of the label, before any progress is shown.
+	 */
+	private String text;
+
 	/**
 	 * Starts the animation to play.
 	 */
 	@Override
 	public void startLoading() {
 
+		label.setText(text);
 		anim.play();
 
 	}
@@ -42,12 +48,22 @@ public class LoadingController implements views.screenController.LoadingControll
 
 	}
 
+	/**
+	 * Shows the number of elements loaded after the text of the label.
+	 */
+	@Override
+	public void setProgress(int done, int total) {
+		label.setText(text + " " + done + "/" + total);
+	}
+
 	/**
 	 * Initializes the animation's keyframes
 	 */
 	@Override
 	public void initialize(URL location, ResourceBundle resources) {
 
+		text = label.getText();
+
 		anim = new Timeline(new KeyFrame(Duration.ZERO, new KeyValue(label.opacityProperty(), 1)),
 				new KeyFrame(Duration.ZERO, new KeyValue(image.rotateProperty(), 0)),
 				new KeyFrame(Duration.seconds(3), new KeyValue(label.opacityProperty(), 0)),
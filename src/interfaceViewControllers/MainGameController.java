@@ -19,9 +19,14 @@ import game.Settings;
 import game.SoundMaker;
 import gameObservableControllers.ChildrenController;
 import gameObservableControllers.ParentController;
+import gameObservableViews.CanvasRenderer;
 import gameObservableViews.InventoryListCell;
+import gameObservableViews.ObservableObjectFactory;
 import gameObservableViews.ObservableWrapper;
 import gameObservables.Observable;
+import gameObservables.Rope;
+import gameObservables.Spring;
+import gameObservables.StickBascule;
 import interfaceViewControllers.EndGameController.State;
 import interfaceViewControllers.headers.HeaderViewWrapper;
 import javafx.beans.binding.Bindings;
@@ -34,6 +39,7 @@ import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.CacheHint;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
@@ -69,6 +75,7 @@ import main.NumberField;
 import observables.AbstractComplexObservable;
 import observables.DynamicWorld;
 import observables.ScaleManager;
+import utils.ImageCache;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.Screens;
@@ -78,14 +85,12 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 	/**
 	 * The image for the play arrow for {@link #play}
 	 */
-	private static final Image PLAY = new Image(
-			MainGameController.class.getResource("/images/play_button.png").toExternalForm());
+	private static final Image PLAY = ImageCache.getResource("/images/play_button.png");
 
 	/**
 	 * The image for the pause bars for {@link #play}
 	 */
-	private static final Image PAUSE = new Image(
-			MainGameController.class.getResource("/images/pause.png").toExternalForm());
+	private static final Image PAUSE = ImageCache.getResource("/images/pause.png");
 	/**
 	 * The first background of the view
 	 */
@@ -197,6 +202,12 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 
 	
 
+	/**
+	 * Draws the fixed objects of the level when
+	 * {@link Settings#CANVAS_RENDERING} is true, else null.
+	 */
+	private CanvasRenderer renderer;
+
 	/**
 	 * The current clicked wrapper in the view
 	 */
@@ -322,6 +333,11 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		widthInPixels = Bindings.createDoubleBinding(() -> ScaleManager.metersToPixels(this.game.getWidth()),
 				game.widthProperty());
 
+		// The fixed objects are drawn in a canvas instead of their views
+		if (Settings.CANVAS_RENDERING) {
+			initCanvas();
+		}
+
 		// Creates the background softner
 		this.backgroundSoftner = new javafx.scene.shape.Rectangle(1, 1, Color.WHITE);
 		this.backgroundSoftner.setOpacity(0.8);
@@ -381,6 +397,56 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		});
 	}
 
+	/**
+	 * Creates the {@link #renderer} of the fixed objects and the mouse events
+	 * of its canvas. The objects under the mouse are found from their shapes,
+	 * and receive the same events as from their views.
+	 */
+	private void initCanvas() {
+		renderer = new CanvasRenderer();
+		game.setFixedViews(false);
+		game.addFrameListener(renderer::render);
+
+		final Canvas canvas = renderer.getCanvas();
+		canvas.widthProperty().bind(widthInPixels);
+		canvas.heightProperty().bind(heightInPixels);
+
+		canvas.setOnMousePressed((event) -> {
+			final AbstractComplexObservable object = renderer.pick(ScaleManager.pixelToMeters(event.getX()),
+					ScaleManager.pixelToMeters(event.getY()));
+
+			if (object != null) {
+				notifyChildrenPressed(object, ObservableObjectFactory.getType(object), null, event);
+
+				if (object instanceof StickBascule) {
+					((StickBascule) object).dropCoin();
+				}
+			}
+		});
+
+		canvas.setOnMouseClicked((event) -> {
+			final AbstractComplexObservable object = renderer.pick(ScaleManager.pixelToMeters(event.getX()),
+					ScaleManager.pixelToMeters(event.getY()));
+
+			if (object instanceof Spring) {
+				if (((Spring) object).isLocked()) {
+					((Spring) object).unlock();
+				} else {
+					((Spring) object).lock();
+				}
+			}
+		});
+
+		canvas.setOnMouseReleased((event) -> {
+			final AbstractComplexObservable object = renderer.pick(ScaleManager.pixelToMeters(event.getX()),
+					ScaleManager.pixelToMeters(event.getY()));
+
+			if (object instanceof Rope) {
+				((Rope) object).dropCoin();
+			}
+		});
+	}
+
 	/**
 	 * Initialize the drag event on the listView. When dragged, the list view is
 	 * going to perform wrapper generation and add the object to the view.
@@ -439,10 +505,12 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 						isDragged = true;
 
 						// Sets the wrapper to the position required
-						this.clickedWrapper.observable.translate(5, 5);
-						this.game.setDraggedWrapper(wrapper);
-						this.clickedWrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
-								ScaleManager.pixelToMeters(event.getY()));
+						this.game.edit(() -> {
+							wrapper.observable.translate(5, 5);
+							this.game.setDraggedWrapper(wrapper);
+							wrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
+									ScaleManager.pixelToMeters(event.getY()));
+						});
 
 						// Changes the value of the rotation slider to the new
 						// object's
@@ -475,7 +543,8 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		 */
 		rotationListener = ((value, old, newv) -> {
 			if (clickedWrapper != null) {
-				clickedWrapper.observable.rotate(Math.toRadians(newv.doubleValue()));
+				final ObservableWrapper wrapper = clickedWrapper;
+				game.edit(() -> wrapper.observable.rotate(Math.toRadians(newv.doubleValue())));
 				clickedWrapper.view.setEffect(selectedEffect);
 			}
 		});
@@ -510,7 +579,8 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		// Add the listeners of the orientation
 		textInputListener = ((value, old, newv) -> {
 			if (clickedWrapper.observable != null) {
-				clickedWrapper.observable.translate(posX.getValue(), posY.getValue());
+				final ObservableWrapper wrapper = clickedWrapper;
+				game.edit(() -> wrapper.observable.translate(posX.getValue(), posY.getValue()));
 			}
 		});
 
@@ -647,11 +717,11 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		Image vertical = null;
 
 		if (game.getBounds() == BorderType.NORMAL) {
-			horizontal = new Image(getClass().getResource("/images/Border_Horizontal.png").toExternalForm());
-			vertical = new Image(getClass().getResource("/images/Border_Vertical.png").toExternalForm());
+			horizontal = ImageCache.getResource("/images/Border_Horizontal.png");
+			vertical = ImageCache.getResource("/images/Border_Vertical.png");
 		} else if (game.getBounds() == BorderType.TELEPORTABLE) {
-			horizontal = new Image(getClass().getResource("/images/teleportable_horizontal.jpg").toExternalForm());
-			vertical = new Image(getClass().getResource("/images/teleportable_vertical.jpg").toExternalForm());
+			horizontal = ImageCache.getResource("/images/teleportable_horizontal.jpg");
+			vertical = ImageCache.getResource("/images/teleportable_vertical.jpg");
 		}
 		top.setImage(horizontal);
 		bottom.setImage(horizontal);
@@ -770,9 +840,11 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 			// Put the item back again in the backpack
 			level.getInventory().getItem(clickedWrapper.instance).increment();
 
+			// Its view is reused by the next object of the same type
+			ObservableObjectFactory.recycle(clickedWrapper);
+
 			this.clickedWrapper = null;
 			this.displayHeader();
-			System.gc();
 
 		}
 
@@ -787,8 +859,9 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 	private void mouseDragStarted(MouseEvent event) {
 
 		if (clickedWrapper != null && isDragged) {
-			clickedWrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
-					ScaleManager.pixelToMeters(event.getY()));
+			final ObservableWrapper wrapper = clickedWrapper;
+			game.edit(() -> wrapper.observable.translate(ScaleManager.pixelToMeters(event.getX()),
+					ScaleManager.pixelToMeters(event.getY())));
 			posX.setValue(clickedWrapper.observable.getTranslate().x);
 			posY.setValue(clickedWrapper.observable.getTranslate().y);
 			clickedWrapper.view.setEffect(selectedEffect);
@@ -895,7 +968,7 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		this.game.setLevel(level);
 
 		// Changes the background
-		Background planetBack = new Background(new BackgroundImage(new Image(level.getPlanet().getPicture()),
+		Background planetBack = new Background(new BackgroundImage(ImageCache.get(level.getPlanet().getPicture()),
 				BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER,
 				new BackgroundSize(Double.MAX_VALUE, Double.MAX_VALUE, true, true, true, true)));
 
@@ -913,11 +986,18 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 		// Put the fixed wrappers in the view.
 		final List<ObservableWrapper> fixed = game.getFixeedWrappers();
 
-		for (ObservableWrapper wrapper : fixed) {
-			mainPane.getChildren().add(wrapper.view);
-			wrapper.controller.setParentController(this);
-			wrapper.view.setPickOnBounds(false);
-			wrapper.view.toBack();
+		if (renderer != null) {
+			renderer.setObjects(level.getFixedObject());
+			mainPane.getChildren().add(renderer.getCanvas());
+			renderer.getCanvas().toBack();
+			renderer.render();
+		} else {
+			for (ObservableWrapper wrapper : fixed) {
+				mainPane.getChildren().add(wrapper.view);
+				wrapper.controller.setParentController(this);
+				wrapper.view.setPickOnBounds(false);
+				wrapper.view.toBack();
+			}
 		}
 
 		// Displays bounds and scroll
@@ -1009,6 +1089,12 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 					}
 				}
 
+				// The fixed objects drawn in the canvas are outlined instead
+				if (renderer != null) {
+					renderer.setSelected(clickedWrapper == null ? object : null);
+					renderer.render();
+				}
+
 				// Whatever the object clicked, we display a corresponding
 				// header.
 				// If the clicked object is null, no header in applied.
@@ -1041,6 +1127,11 @@ public class MainGameController implements Initializable, ControlledScreen, Pare
 				posX.setDisable(true);
 				posY.setDisable(true);
 				rotationSlider.setDisable(true);
+
+				if (renderer != null) {
+					renderer.setSelected(null);
+					renderer.render();
+				}
 			}
 		}
 	}
@@ -19,11 +19,9 @@ import gameObservables.Observable;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
-import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundImage;
@@ -37,7 +35,8 @@ import observables.AbstractComplexObservable;
 import observables.DynamicWorld;
 import observables.DynamicWorld.Bounds;
 import observables.ScaleManager;
-import utils.BufferingUtils;
+import utils.ImageCache;
+import utils.LevelJournal;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.ScreenController.Animations;
@@ -65,46 +64,42 @@ public class MainMenuController implements ControlledScreen, Initializable {
 	 * the {@link createInfoController}'s view, in order the user starts to
 	 * create it's level.
 	 * 
+	 * If levels were being created and never saved, the user can restore them
+	 * first in the {@link BuilderController}.
+	 * 
 	 * @param event
 	 */
 	@FXML
 	private void createClicked(ActionEvent event) {
+
+		for (File autosave : LevelJournal.getOrphanJournals(new File(Settings.PATH_TO_PERSONNAL))) {
+			final Level level = BuilderController.restoreAutosave(autosave);
+
+			if (level != null) {
+				controller.setScreen(Screens.BUILDER, Animations.TRANSLATE_LEFT_TO_CENTER);
+				((BuilderController) controller.getController(Screens.BUILDER)).setLevel(level);
+				return;
+			}
+		}
+
 		controller.setScreen(Screens.CREATE_INFO, Animations.TRANSLATE_LEFT_TO_CENTER);
 	}
 
 	/**
 	 * Called by the view when the button "created levels" is clicked. Will
-	 * display the {@link LevelViewController}'s view, after having loaded the
-	 * levels in a closed thread that won't be interrupted.
+	 * display the {@link LevelViewController}'s view, that loads the levels
+	 * in the background and shows them as soon as they are read.
 	 * 
 	 * @param event
 	 */
 	@FXML
 	private void createdLevelsClicked(ActionEvent event) {
 
-		// As the operation might be extremely long, we show the loader.
-		controller.showLoader();
-		new Thread(new Task<Void>() {
-
-			@Override
-			protected Void call() throws Exception {
-				// Get all the levels contained in the
-				final List<Level> personnalLevels = BufferingUtils.readAllLevels(new File(Settings.PATH_TO_PERSONNAL));
-
-				// Hides the loading view
-				controller.hideLoader();
-
-				// Switch of screen and show the CREATE_LEVEL view
-				Platform.runLater(() -> {
-					controller.setScreen(Screens.CREATED_LEVELS, Animations.TRANSLATE_LEFT_TO_CENTER);
-					LevelViewController levelController = (LevelViewController) controller
-							.getController(Screens.CREATED_LEVELS);
-					levelController.setLevels(personnalLevels, true);
-					levelController.setTitle("Niveaux Créés");
-				});
-				return null;
-			}
-		}).start();
+		// Switch of screen and show the CREATE_LEVEL view
+		controller.setScreen(Screens.CREATED_LEVELS, Animations.TRANSLATE_LEFT_TO_CENTER);
+		LevelViewController levelController = (LevelViewController) controller.getController(Screens.CREATED_LEVELS);
+		levelController.setTitle("Niveaux Créés");
+		levelController.loadLevels(new File(Settings.PATH_TO_PERSONNAL), true);
 
 	}
 
@@ -120,37 +115,24 @@ public class MainMenuController implements ControlledScreen, Initializable {
 
 	/**
 	 * Called by the view when the "play" button is clicked. Will load the
-	 * campain levels, and show them into the CREATED_LEVELS view.
+	 * campain levels, and show them into the CREATED_LEVELS view as soon as
+	 * they are read. They are read from the pack of the campaign if there is
+	 * one.
 	 * 
 	 * @param event
 	 */
 	@FXML
 	private void playClicked(ActionEvent event) {
-		// As the operation might be extremely long, we show the loader.
-		controller.showLoader();
-
-		new Thread(new Task<Void>() {
-
-			@Override
-			protected Void call() throws Exception {
-				// Get all the levels contained in the default folder
-				final List<Level> personnalLevels = BufferingUtils.readAllLevels(new File(Settings.PATH_TO_DEFAULT));
 
-				// Hides the loading view
-				controller.hideLoader();
+		controller.setScreen(Screens.CREATED_LEVELS, Animations.TRANSLATE_LEFT_TO_CENTER);
+		LevelViewController vController = (LevelViewController) controller.getController(Screens.CREATED_LEVELS);
+		vController.setTitle("Niveaux");
 
-				// Switch of screen and show the CREATE_LEVEL view
-				Platform.runLater(() -> {
+		final File pack = new File(Settings.PATH_TO_CAMPAIGN_PACK);
 
-					controller.setScreen(Screens.CREATED_LEVELS, Animations.TRANSLATE_LEFT_TO_CENTER);
-					LevelViewController vController = (LevelViewController) controller
-							.getController(Screens.CREATED_LEVELS);
-					vController.setLevels(personnalLevels, false);
-					vController.setTitle("Niveaux");
-				});
-				return null;
-			}
-		}).start();
+		if (!pack.isFile() || !vController.loadPack(pack, false)) {
+			vController.loadLevels(new File(Settings.PATH_TO_DEFAULT), false);
+		}
 
 	}
 
@@ -241,7 +223,7 @@ public class MainMenuController implements ControlledScreen, Initializable {
 
 		// Gives it a star background
 		CoinCollisionPane.setBackground(new Background(new BackgroundImage(
-				new Image(getClass().getResourceAsStream("/images/etoile.jpg")), BackgroundRepeat.REPEAT,
+				ImageCache.getResource("/images/etoile.jpg"), BackgroundRepeat.REPEAT,
 				BackgroundRepeat.REPEAT, BackgroundPosition.CENTER, BackgroundSize.DEFAULT)));
 	}
 
@@ -27,6 +27,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Callback;
 import main.NumberField;
+import utils.ImageCache;
 import views.screenController.ControlledScreen;
 import views.screenController.ScreenController;
 import views.screenController.ScreenController.Animations;
@@ -37,14 +38,12 @@ public class createInfoController implements ControlledScreen, Initializable {
 	/**
 	 * Image of the borders for the game.
 	 */
-	private static final Image BORDERS = new Image(
-			createInfoController.class.getResource("/images/borders.png").toExternalForm());
+	private static final Image BORDERS = ImageCache.getResource("/images/borders.png");
 
 	/**
 	 * Image of the teleportable borders for the game.
 	 */
-	private static final Image TELEPORTABLE_BORDERS = new Image(
-			createInfoController.class.getResource("/images/teleportable_borders.png").toExternalForm());
+	private static final Image TELEPORTABLE_BORDERS = ImageCache.getResource("/images/teleportable_borders.png");
 	@FXML
 	private TextField levelName;
 	@FXML
@@ -142,7 +141,7 @@ public class createInfoController implements ControlledScreen, Initializable {
 						super.updateItem(item, empty);
 
 						if (item != null && !empty) {
-							ImageView image = new ImageView(new Image(item.getPicture(), true));
+							ImageView image = new ImageView(ImageCache.get(item.getPicture(), 25, 25));
 							image.setFitHeight(25);
 							image.setFitWidth(25);
 							this.setHeight(30);
@@ -179,7 +178,7 @@ public class createInfoController implements ControlledScreen, Initializable {
 	private void setPlanetImage() {
 		Planet newv = planetBox.getSelectionModel().getSelectedItem();
 		if (newv != null) {
-			background.setImage(new Image(newv.getPicture()));
+			background.setImage(ImageCache.get(newv.getPicture()));
 		} else {
 			background.setImage(null);
 		}
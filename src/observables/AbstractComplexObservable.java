@@ -6,6 +6,7 @@ import org.dyn4j.collision.Bounds;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.World;
 import org.dyn4j.dynamics.joint.Joint;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 public interface AbstractComplexObservable {
@@ -166,6 +167,18 @@ public interface AbstractComplexObservable {
 	 */
 	public void update();
 
+	/**
+	 * Returns the transform of the given body as it must be displayed by the
+	 * {@link #update()} method. This transform is never modified by the
+	 * physics engine itself, but is interpolated by the {@link DynamicWorld}
+	 * between its two last simulation steps before every rendering.
+	 * 
+	 * @param body
+	 *            One of the bodies of this object
+	 * @return The transform of the body that must be displayed
+	 */
+	public Transform getRenderTransform(Body body);
+
 	/**
 	 * Called every time an object must be resized, in order that it resize it's
 	 * view binded properties.
@@ -9,19 +9,41 @@ import org.dyn4j.dynamics.Body;
  * It can be used to detect the end of the collisions using
  * {@link #stillCollides()} if the world is not able to do it by itself.
  * 
+ * Two pairs are equal if they contain the same objects, whatever their order
+ * in the pair is. The objects are compared by identity.
+ * 
  * @author sunny
  *
  */
-public class CollidingPair implements Comparable<CollidingPair> {
+public class CollidingPair {
 
 	/**
-	 * The first object of the pair
+	 * The first object of the pair. Final, as the pair is a key of the
+	 * {@link CollisionRegistry}.
 	 */
-	public AbstractComplexObservable obj1;
+	private final AbstractComplexObservable obj1;
 	/**
 	 * The second object of the pair
 	 */
-	public AbstractComplexObservable obj2;
+	private final AbstractComplexObservable obj2;
+
+	/**
+	 * The number of the last world step during which a contact between the 2
+	 * objects was reported. Used by the {@link CollisionRegistry} to detect
+	 * the end of the collision.
+	 */
+	long lastContact;
+
+	/**
+	 * The number of the step during which the collision began.
+	 */
+	long firstContact;
+
+	/**
+	 * The number of the last step during which an event was sent to the
+	 * objects of the pair. Only one event is sent per step.
+	 */
+	long lastEvent = -1;
 
 	/**
 	 * Constructs the pair with the 2 given objects.
@@ -36,6 +58,20 @@ public class CollidingPair implements Comparable<CollidingPair> {
 		this.obj2 = obj2;
 	}
 
+	/**
+	 * @return The first object of the pair
+	 */
+	public AbstractComplexObservable getFirst() {
+		return obj1;
+	}
+
+	/**
+	 * @return The second object of the pair
+	 */
+	public AbstractComplexObservable getSecond() {
+		return obj2;
+	}
+
 	/**
 	 * Iterates over every body to tell if the pair still collides.
 	 * 
@@ -66,11 +102,26 @@ public class CollidingPair implements Comparable<CollidingPair> {
 	}
 
 	/**
-	 * Comparison of the 2 objects using the hashcode. Simply used to sort them
-	 * in a collection and to remove them easily from collections.
+	 * Hashcode independent from the order of the objects in the pair.
 	 */
 	@Override
-	public int compareTo(CollidingPair o) {
-		return this.obj1.hashCode() + this.obj2.hashCode();
+	public int hashCode() {
+		return System.identityHashCode(obj1) + System.identityHashCode(obj2);
+	}
+
+	/**
+	 * Two pairs are equal if they contain the same 2 objects, in any order.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CollidingPair)) {
+			return false;
+		}
+		final CollidingPair other = (CollidingPair) obj;
+
+		return (obj1 == other.obj1 && obj2 == other.obj2) || (obj1 == other.obj2 && obj2 == other.obj1);
 	}
 }
@@ -0,0 +1,180 @@
+package observables;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.World;
+import org.dyn4j.geometry.Vector2;
+
+/**
+ * Buffer of the collision events reported by the physic engine during a step
+ * of a {@link DynamicWorld}. The events are stored in preallocated arrays
+ * while the engine is solving the step, then dispatched in one batch to the
+ * objects via {@link #dispatch(World)} once the step is over. That way, the
+ * game logic of the handlers never runs inside the solver.
+ * 
+ * The buffer doesn't deduplicate the events itself : the world only adds one
+ * event per pair of objects and per step.
+ * 
+ * @author sunny
+ *
+ */
+class CollisionEventBuffer {
+
+	/**
+	 * The types of events
+	 */
+	public static final int DYNAMIC_COLLIDE = 0;
+	public static final int STATIC_COLLIDE = 1;
+	public static final int DYNAMIC_COLLIDE_ENDS = 2;
+	public static final int STATIC_COLLIDE_ENDS = 3;
+
+	/**
+	 * The initial capacity of the buffer. It grows if more events happen
+	 * during a step.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The events, stored column by column.
+	 */
+	private int[] types;
+	private AbstractComplexObservable[] objects1, objects2;
+	private Body[] bodies1, bodies2;
+	private Vector2[] points;
+
+	/**
+	 * The number of events in the buffer.
+	 */
+	private int size;
+
+	/**
+	 * Creates an empty buffer.
+	 */
+	public CollisionEventBuffer() {
+		allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Adds an event to the buffer.
+	 * 
+	 * @param type
+	 *            The type of the event
+	 * @param point
+	 *            The contact point. Can be null.
+	 * @param obj1
+	 *            The first object
+	 * @param body1
+	 *            The body of the first object in collision. Can be null.
+	 * @param obj2
+	 *            The second object
+	 * @param body2
+	 *            The body of the second object in collision. Can be null.
+	 */
+	public void add(int type, Vector2 point, AbstractComplexObservable obj1, Body body1,
+			AbstractComplexObservable obj2, Body body2) {
+		if (size == types.length) {
+			allocate(size * 2);
+		}
+		types[size] = type;
+		points[size] = point;
+		objects1[size] = obj1;
+		bodies1[size] = body1;
+		objects2[size] = obj2;
+		bodies2[size] = body2;
+		size++;
+	}
+
+	/**
+	 * Notifies both objects of every event of the buffer, in the order they
+	 * were added, then empties the buffer. A handler throwing an exception
+	 * doesn't prevent the other handlers from being notified, and the events
+	 * are never dispatched twice.
+	 * 
+	 * @param world
+	 *            The world in which the events occurred
+	 */
+	public void dispatch(World world) {
+		try {
+			for (int i = 0; i < size; i++) {
+				notify(types[i], points[i], objects1[i], bodies1[i], objects2[i], world);
+				notify(types[i], points[i], objects2[i], bodies2[i], objects1[i], world);
+			}
+		} finally {
+			clear();
+		}
+	}
+
+	/**
+	 * Notifies an object of an event. The exception thrown by its handler, if
+	 * any, is printed.
+	 */
+	private static void notify(int type, Vector2 point, AbstractComplexObservable object, Body body,
+			AbstractComplexObservable other, World world) {
+		try {
+			switch (type) {
+			case DYNAMIC_COLLIDE:
+				object.handleDynamicCollide(point, other, body, world);
+				break;
+			case STATIC_COLLIDE:
+				object.handleStaticCollide(point, other, body, world);
+				break;
+			case DYNAMIC_COLLIDE_ENDS:
+				object.handleDynamicCollideEnds(point, other, body, world);
+				break;
+			case STATIC_COLLIDE_ENDS:
+				object.handleStaticCollideEnds(point, other, body, world);
+				break;
+			}
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Removes all the events of the buffer without dispatching them.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			// Don't keep references to the objects
+			points[i] = null;
+			objects1[i] = null;
+			bodies1[i] = null;
+			objects2[i] = null;
+			bodies2[i] = null;
+		}
+		size = 0;
+	}
+
+	/**
+	 * @return The number of events waiting to be dispatched.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Creates the arrays with the given capacity, keeping the actual events.
+	 */
+	private void allocate(int capacity) {
+		final int[] types = new int[capacity];
+		final Vector2[] points = new Vector2[capacity];
+		final AbstractComplexObservable[] objects1 = new AbstractComplexObservable[capacity];
+		final AbstractComplexObservable[] objects2 = new AbstractComplexObservable[capacity];
+		final Body[] bodies1 = new Body[capacity];
+		final Body[] bodies2 = new Body[capacity];
+
+		if (this.types != null) {
+			System.arraycopy(this.types, 0, types, 0, size);
+			System.arraycopy(this.points, 0, points, 0, size);
+			System.arraycopy(this.objects1, 0, objects1, 0, size);
+			System.arraycopy(this.objects2, 0, objects2, 0, size);
+			System.arraycopy(this.bodies1, 0, bodies1, 0, size);
+			System.arraycopy(this.bodies2, 0, bodies2, 0, size);
+		}
+		this.types = types;
+		this.points = points;
+		this.objects1 = objects1;
+		this.objects2 = objects2;
+		this.bodies1 = bodies1;
+		this.bodies2 = bodies2;
+	}
+}
@@ -0,0 +1,283 @@
+package observables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the {@link CollidingPair} that are currently colliding in a
+ * {@link DynamicWorld}. Every object is associated to the objects it collides
+ * with and to their pair, so the lookup, the insertion, the removal of a pair
+ * and the question "is this object colliding" are made in constant time,
+ * whatever the number of objects in the world.
+ *
+ * The registry is fed with the contacts reported by the physic engine via
+ * {@link #touch(AbstractComplexObservable, AbstractComplexObservable, long)},
+ * and a pair ends as soon as a step goes by without any contact reported
+ * between its objects (see {@link #expire(long)}). No body is ever polled.
+ *
+ * This class is not thread safe. The world is in charge of synchronizing the
+ * access to it.
+ *
+ * @author sunny
+ *
+ */
+class CollisionRegistry {
+
+	/**
+	 * The pairs currently colliding.
+	 */
+	private final Set<CollidingPair> pairs;
+
+	/**
+	 * The number of pairs touched during the step {@link #stamp}.
+	 */
+	private int touched;
+
+	/**
+	 * The number of pairs made of 2 distinct objects.
+	 */
+	private int crossed;
+
+	/**
+	 * The step of the last touch.
+	 */
+	private long stamp;
+
+	/**
+	 * For every object colliding, the objects it collides with and their pair.
+	 * An object colliding with itself is contained in its own map.
+	 */
+	private final Map<AbstractComplexObservable, Map<AbstractComplexObservable, CollidingPair>> partners;
+
+	/**
+	 * Creates an empty registry.
+	 */
+	public CollisionRegistry() {
+		this.pairs = new HashSet<>();
+		this.partners = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Reports a contact between the 2 objects during the given step. The pair
+	 * is added to the registry if it was not already colliding.
+	 *
+	 * @param step
+	 *            The number of the step of the world, increasing.
+	 * @return The pair of the registry. Its firstContact is equal to step if it
+	 *         was not already colliding.
+	 */
+	public CollidingPair touch(AbstractComplexObservable obj1, AbstractComplexObservable obj2, long step) {
+		if (step != stamp) {
+			stamp = step;
+			touched = 0;
+		}
+
+		CollidingPair pair = get(obj1, obj2);
+
+		if (pair == null) {
+			pair = new CollidingPair(obj1, obj2);
+			pair.firstContact = step;
+			pair.lastContact = step - 1;
+			pairs.add(pair);
+			if (obj1 != obj2) {
+				crossed++;
+			}
+			partnersOf(obj1).put(obj2, pair);
+			partnersOf(obj2).put(obj1, pair);
+		}
+		if (pair.lastContact != step) {
+			pair.lastContact = step;
+			touched++;
+		}
+
+		return pair;
+	}
+
+	/**
+	 * Removes from the registry the pairs that had no contact reported during
+	 * the given step. Nothing is iterated if all the pairs were touched.
+	 *
+	 * @param step
+	 *            The step that just ended.
+	 * @return The pairs removed. Empty if no collision ended.
+	 */
+	public List<CollidingPair> expire(long step) {
+		if (step == stamp && touched == pairs.size()) {
+			return Collections.emptyList();
+		}
+
+		final List<CollidingPair> ended = new ArrayList<>();
+		final Iterator<CollidingPair> it = pairs.iterator();
+		CollidingPair pair = null;
+
+		while (it.hasNext()) {
+			pair = it.next();
+			if (pair.lastContact < step) {
+				it.remove();
+				forget(pair);
+				unlink(pair.getFirst(), pair.getSecond());
+				unlink(pair.getSecond(), pair.getFirst());
+				ended.add(pair);
+			}
+		}
+		stamp = step;
+		touched = pairs.size();
+
+		return ended;
+	}
+
+	/**
+	 * Removes the pair formed by the 2 objects from the registry.
+	 *
+	 * @return True if the pair was in the registry.
+	 */
+	public boolean remove(AbstractComplexObservable obj1, AbstractComplexObservable obj2) {
+		final CollidingPair pair = get(obj1, obj2);
+
+		if (pair == null) {
+			return false;
+		}
+		pairs.remove(pair);
+		forget(pair);
+		if (pair.lastContact == stamp) {
+			touched--;
+		}
+		unlink(obj1, obj2);
+		unlink(obj2, obj1);
+
+		return true;
+	}
+
+	/**
+	 * Removes every pair containing the given object.
+	 */
+	public void removeAll(AbstractComplexObservable object) {
+		final Map<AbstractComplexObservable, CollidingPair> others = partners.remove(object);
+
+		if (others != null) {
+			for (Map.Entry<AbstractComplexObservable, CollidingPair> other : others.entrySet()) {
+				final CollidingPair pair = other.getValue();
+
+				pairs.remove(pair);
+				forget(pair);
+				if (pair.lastContact == stamp) {
+					touched--;
+				}
+				if (other.getKey() != object) {
+					unlink(other.getKey(), object);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tells if the object is in any pair, including a pair with itself.
+	 */
+	public boolean isColliding(AbstractComplexObservable object) {
+		return partners.containsKey(object);
+	}
+
+	/**
+	 * Tells if the object is colliding with any object other than itself.
+	 */
+	public boolean isCollidingWithOther(AbstractComplexObservable object) {
+		final Map<AbstractComplexObservable, CollidingPair> others = partners.get(object);
+
+		return others != null && (others.size() > 1 || !others.containsKey(object));
+	}
+
+	/**
+	 * Tells if any object is colliding with an object other than itself.
+	 */
+	public boolean hasCollisionWithOther() {
+		return crossed > 0;
+	}
+
+	/**
+	 * @return An unmodifiable view of the objects colliding with the given
+	 *         object. Empty if the object doesn't collide.
+	 */
+	public Set<AbstractComplexObservable> getPartners(AbstractComplexObservable object) {
+		final Map<AbstractComplexObservable, CollidingPair> others = partners.get(object);
+
+		return others == null ? Collections.emptySet() : Collections.unmodifiableSet(others.keySet());
+	}
+
+	/**
+	 * @return An unmodifiable view of the pairs of the registry.
+	 */
+	public Set<CollidingPair> getPairs() {
+		return Collections.unmodifiableSet(pairs);
+	}
+
+	/**
+	 * @return True if the registry contains no pair.
+	 */
+	public boolean isEmpty() {
+		return pairs.isEmpty();
+	}
+
+	/**
+	 * Removes all the pairs of the registry.
+	 */
+	public void clear() {
+		pairs.clear();
+		partners.clear();
+		touched = 0;
+		crossed = 0;
+	}
+
+	/**
+	 * Returns the pair of the 2 objects, in any order, or null if they don't
+	 * collide.
+	 */
+	private CollidingPair get(AbstractComplexObservable obj1, AbstractComplexObservable obj2) {
+		final Map<AbstractComplexObservable, CollidingPair> others = partners.get(obj1);
+
+		return others == null ? null : others.get(obj2);
+	}
+
+	/**
+	 * Updates the count of the pairs of distinct objects when a pair is
+	 * removed.
+	 */
+	private void forget(CollidingPair pair) {
+		if (pair.getFirst() != pair.getSecond()) {
+			crossed--;
+		}
+	}
+
+	/**
+	 * Returns the partners of the object, created if needed.
+	 */
+	private Map<AbstractComplexObservable, CollidingPair> partnersOf(AbstractComplexObservable object) {
+		Map<AbstractComplexObservable, CollidingPair> others = partners.get(object);
+
+		if (others == null) {
+			others = new IdentityHashMap<>(4);
+			partners.put(object, others);
+		}
+		return others;
+	}
+
+	/**
+	 * Removes other from the partners of object, and forgets the object if it
+	 * has no partner anymore.
+	 */
+	private void unlink(AbstractComplexObservable object, AbstractComplexObservable other) {
+		final Map<AbstractComplexObservable, CollidingPair> others = partners.get(object);
+
+		if (others != null) {
+			others.remove(other);
+			if (others.isEmpty()) {
+				partners.remove(object);
+			}
+		}
+	}
+}
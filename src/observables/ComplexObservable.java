@@ -1,14 +1,17 @@
 package observables;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.dyn4j.collision.Bounds;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
 import org.dyn4j.dynamics.World;
 import org.dyn4j.dynamics.joint.Joint;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 /**
@@ -86,6 +89,13 @@ public abstract class ComplexObservable implements AbstractComplexObservable {
 	 */
 	protected boolean crossedTeleportable;
 
+	/**
+	 * The transforms displayed by the view for every body, as returned by
+	 * {@link #getRenderTransform(Body)}. Created when the object is added to a
+	 * world, or rendered for the first time if it never was.
+	 */
+	private Map<Body, Transform> renderTransforms;
+
 	/**
 	 * Constructor of a ComplexObservable. By default, the object has
 	 * {@link #onDynamicCollide} and {@link #onStaticCollide} values set to null
@@ -160,6 +170,10 @@ public abstract class ComplexObservable implements AbstractComplexObservable {
 	 * This method will also set every body's user data as the current object.
 	 * Therefore, the user data must never be changed, or the Dynamic world will
 	 * occur in certain bugs.
+	 * 
+	 * The render transforms are set to the actual transforms of the bodies
+	 * here, as the {@link DynamicWorld} holds its lock while the object is
+	 * added, so they are never copied while the simulation moves the bodies.
 	 */
 	@Override
 	public void initializeObject(World world) {
@@ -168,6 +182,7 @@ public abstract class ComplexObservable implements AbstractComplexObservable {
 			for (Body body : bodies) {
 				world.addBody(body);
 				body.setUserData(this);
+				getRenderTransform(body).set(body.getTransform());
 			}
 			for (Joint joint : joints)
 				try {
@@ -404,6 +419,30 @@ public abstract class ComplexObservable implements AbstractComplexObservable {
 		}
 	}
 
+	/**
+	 * Returns the transform of the body that must be displayed. It is set to
+	 * the body's actual transform when the object is added to a world, then
+	 * interpolated by the {@link DynamicWorld} from its snapshots before every
+	 * rendering. The transform of an object that was never added to a world is
+	 * only a copy of the body's transform, as no simulation can move it.
+	 */
+	@Override
+	public Transform getRenderTransform(Body body) {
+
+		if (renderTransforms == null) {
+			renderTransforms = new IdentityHashMap<>(bodies.size());
+		}
+
+		Transform transform = renderTransforms.get(body);
+
+		if (transform == null) {
+			transform = body.getTransform().copy();
+			renderTransforms.put(body, transform);
+		}
+
+		return transform;
+	}
+
 	/**
 	 * Sets the object as crossedTeleportable or not, depending on the fact that
 	 * the object uses joints or not.
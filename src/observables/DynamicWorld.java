@@ -1,10 +1,15 @@
 package observables;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 import org.dyn4j.collision.AxisAlignedBounds;
 import org.dyn4j.collision.BoundsListener;
@@ -24,10 +29,8 @@ import javafx.animation.AnimationTimer;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.LongProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleLongProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -48,16 +51,58 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 */
 	public static final double BOUNDS_WIDTH = 6.24323;
 
+	/**
+	 * The duration of a simulation step in nanoseconds. The world is always
+	 * stepped with this fixed period, whatever the frame rate of the
+	 * rendering is.
+	 */
+	public static final long STEP_NANOS = (long) (Settings.DEFAULT_STEP_FREQUENCY * 1_000_000_000L);
+
+	/**
+	 * The maximum delay the simulation thread can have on its schedule before
+	 * it gives up catching it up. Avoids a burst of steps after the thread was
+	 * not scheduled for a long time.
+	 */
+	private static final long MAX_LAG_NANOS = STEP_NANOS * 5;
+
 	/**
 	 * The bound that are currently displayed.
 	 */
 	private Bounds[] actualBounds;
 
 	/**
-	 * The updater for the world and the views.
+	 * The updater for the views. It only interpolates the last
+	 * {@link #snapshot} and updates the objects, the world itself is stepped
+	 * by the {@link #simulation} thread. Always null in a headless world.
 	 */
 	private AnimationTimer updater;
 
+	/**
+	 * Called by the {@link #updater} at every frame, once the objects are
+	 * updated. Used by the views drawing the objects themselves, from their
+	 * render transforms.
+	 */
+	private final List<Runnable> frameListeners = new ArrayList<>();
+
+	/**
+	 * True if the world has no view to update. A headless world never creates
+	 * the {@link #updater} and never calls the update() method of its objects,
+	 * so the JavaFX properties of the objects are never created. It can be
+	 * used without a JavaFX toolkit.
+	 */
+	private final boolean headless;
+
+	/**
+	 * The thread stepping the {@link #world} at a fixed period. Null when the
+	 * world is not running.
+	 */
+	private Simulation simulation;
+
+	/**
+	 * The last snapshot of the bodies published by the {@link #simulation}.
+	 */
+	private volatile WorldSnapshot snapshot;
+
 	/**
 	 * The collision environment
 	 */
@@ -80,11 +125,36 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	private ObservableList<AbstractComplexObservable> complexList;
 
 	/**
-	 * The set of CollidingPairs this object contains. EveryTime a collision is
-	 * handled by the world, the 2 objects are added to this set, then removed
-	 * at the end of the process.
+	 * The registry of CollidingPairs this object contains. EveryTime a
+	 * collision is handled by the world, the 2 objects are added to this
+	 * registry, then removed at the end of the process.
+	 */
+	private CollisionRegistry colliders;
+
+	/**
+	 * The number of steps performed by the world. Used to date the contacts
+	 * reported to the {@link #colliders}.
+	 */
+	private long stepCount;
+
+	/**
+	 * The number of contacts that began since the world was created.
 	 */
-	private TreeSet<CollidingPair> colliders;
+	private long contactCount;
+
+	/**
+	 * The collision events reported during the step, dispatched to the objects
+	 * once the step is over.
+	 */
+	private CollisionEventBuffer events;
+
+	/**
+	 * The mutations of the world waiting to be applied between 2 steps, in
+	 * the order they were deferred. A mutation deferred twice for the same
+	 * target and action is only applied once. See
+	 * {@link #defer(Object, String, Runnable)}.
+	 */
+	private Map<Mutation, Runnable> mutations;
 
 	/**
 	 * The world's constraints, to avoid node escaping. Those will usually have
@@ -171,8 +241,31 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 *            be a negative number.
 	 */
 	public DynamicWorld(DoubleBinding height, DoubleBinding width, double gravity) {
+		this(height, width, gravity, false);
+	}
+
+	/**
+	 * Creates a DynamicWorld that can be headless. A headless world only
+	 * steps the physics and fires the collision events of its objects : no
+	 * view is ever updated, and it doesn't require any JavaFX toolkit to run.
+	 * It is typically stepped manually via {@link #step(int)}.
+	 * 
+	 * @param height
+	 *            The heightProperty of the world in meters represented as a
+	 *            DoubleBinding
+	 * @param width
+	 *            The widthProperty of the world in meters represented as a
+	 *            DoubleBinding
+	 * @param gravity
+	 *            The gravity of the world in m/s². A gravity should always be
+	 *            a negative number.
+	 * @param headless
+	 *            True if the world has no view to update.
+	 */
+	public DynamicWorld(DoubleBinding height, DoubleBinding width, double gravity, boolean headless) {
 		super();
 
+		this.headless = headless;
 		this.height = height;
 		this.width = width;
 
@@ -181,7 +274,9 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 
 		// Instantiate the list of objects
 		this.complexList = FXCollections.observableArrayList();
-		this.colliders = new TreeSet<>();
+		this.colliders = new CollisionRegistry();
+		this.events = new CollisionEventBuffer();
+		this.mutations = new LinkedHashMap<>();
 
 		// By default, the world is not dynamic
 		this.isDynamic = false;
@@ -210,7 +305,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * Those bounds should be computed everyTime that the height and width are
 	 * changed.
 	 */
-	private void computeBounds() {
+	private synchronized void computeBounds() {
 
 		// Typically, the bounds are only used if the object is bound crossed
 		// teleportation
@@ -253,17 +348,17 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 
 	/**
 	 * Initialize the world. The {@link #updater} is instantiated. The
-	 * {@link #updater} thread's job is to ensure that the {@link #world}
-	 * constantly evolves with the time that it receives in parameter. It will
-	 * also ensures that the object from {@link #objectList} are updated by
-	 * calling updateView() method from all the objects. During that update, the
-	 * objects will be replaced if needed, depending on the values of
-	 * {@link #isBounded} and {@link #boundsCrossedTeleportation}.
+	 * {@link #updater}'s job is to ensure that the object from
+	 * {@link #objectList} are updated by calling update() method from all the
+	 * objects, at every frame, using the position interpolated between the two
+	 * last simulation steps.
+	 * 
+	 * The {@link #world} itself is stepped with a fixed period by the
+	 * {@link #simulation} thread, so the physics does not depend on the frame
+	 * rate of the rendering.
 	 * 
 	 * The world is also created, with the gravity and the ContactListener
-	 * (this). Creates the updater of the world. It iterates over every body in
-	 * the world and update it's properties by calling the update() method from
-	 * the AbstractObservableObject interface.
+	 * (this).
 	 */
 	private void initializeWorld() {
 		// Sets the world gravity and add the current object as a listener of
@@ -273,59 +368,365 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 		world.addListener(this);
 		world.getSettings().setAutoSleepingEnabled(false);
 
+		// Allows the objects to find the world's mutation queue
+		world.setUserData(this);
+
+		if (headless) {
+			return;
+		}
+
 		/*
-		 * Creates the updater of the world. It iterates over every body in the
-		 * world and update it's properties by calling the update method from
+		 * Creates the updater of the views. It interpolates the last snapshot
+		 * and iterates over every object to call its update method.
 		 **/
 		this.updater = new AnimationTimer() {
 
-			private final LongProperty lastUpdate = new SimpleLongProperty(0);
-			private long ellapsed = 0;
-			boolean iterationDynamism = false;
-
 			@Override
 			public void handle(long now) {
 
-				iterationDynamism = isDynamic;
+				final WorldSnapshot last = snapshot;
 
-				// retrieve time ellapsed
-				ellapsed = now - lastUpdate.get();
-				lastUpdate.set(now);
-				world.update(ellapsed);
+				if (last != null) {
+					// Position of the frame between the 2 last steps
+					final double alpha = (double) (now - last.getTime()) / STEP_NANOS;
+					last.interpolate(Math.max(0, Math.min(1, alpha)));
+				}
 
 				// Update the objects
 				final ListIterator<AbstractComplexObservable> it = complexList.listIterator();
-				AbstractComplexObservable obj = null;
 
 				while (it.hasNext()) {
-					obj = it.next();
-					obj.update();
+					it.next().update();
+				}
 
-					if (!iterationDynamism) {
-						obj.setMobile(false);
-					}
+				for (Runnable listener : frameListeners) {
+					listener.run();
+				}
+			}
+
+		};
+
+	}
+
+	/**
+	 * Performs one step of the simulation, then publishes the new
+	 * {@link #snapshot} of the bodies if the world is not headless. Always
+	 * called through {@link #step(int)}, which holds the lock of the world.
+	 * 
+	 * If the world is not dynamic, the objects are immobilized. The collisions
+	 * that had no contact reported during the step are ended, then all the
+	 * collision events of the step are dispatched to the objects.
+	 */
+	private void step() {
+
+		final boolean iterationDynamism = isDynamic;
+
+		stepCount++;
+		world.step(1);
+
+		if (!iterationDynamism) {
+			for (AbstractComplexObservable obj : complexList) {
+				obj.setMobile(false);
+			}
+		}
+
+		// The engine doesn't notify the end of the contacts refused in
+		// begin(), so a collision ends when no contact was reported for it
+		for (CollidingPair pair : colliders.expire(stepCount)) {
+			events.add(iterationDynamism ? CollisionEventBuffer.DYNAMIC_COLLIDE_ENDS
+					: CollisionEventBuffer.STATIC_COLLIDE_ENDS, null, pair.getFirst(), null, pair.getSecond(), null);
+		}
+
+		events.dispatch(world);
+		applyMutations();
+
+		if (!headless) {
+			snapshot = new WorldSnapshot(complexList, snapshot, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Steps the world of the given number of fixed steps of
+	 * {@link #STEP_NANOS}, as fast as possible. Collision events are fired
+	 * normally during the process. Mainly used to simulate a headless world.
+	 * 
+	 * @param steps
+	 *            The number of steps to perform
+	 */
+	public synchronized void step(int steps) {
+		for (int i = 0; i < steps; i++) {
+			step();
+		}
+	}
+
+	/**
+	 * @return The number of steps performed by the world since it was
+	 *         created.
+	 */
+	public synchronized long getStepCount() {
+		return stepCount;
+	}
+
+	/**
+	 * @return The number of contacts reported by the engine since the world
+	 *         was created. In a static world, the contacts are reported again
+	 *         at every step.
+	 */
+	public synchronized long getContactCount() {
+		return contactCount;
+	}
+
+	/**
+	 * Steps the world as fast as possible, without waiting for the real time
+	 * to pass, until the given condition is met or the given simulated time
+	 * has elapsed. The condition is checked before every step, while the
+	 * world is locked, so it can safely read the state of the objects.
+	 * Collision events are fired normally during the process.
+	 * 
+	 * The world should be paused via {@link #pause()} before, so the
+	 * simulation thread doesn't step it at the same time.
+	 * 
+	 * @param seconds
+	 *            The maximum simulated time, in seconds.
+	 * @param until
+	 *            The condition that stops the simulation when true.
+	 * @return The simulated time elapsed, in seconds.
+	 */
+	public synchronized double fastForward(double seconds, BooleanSupplier until) {
+		// STEP_NANOS is truncated, the duration of a step is taken from the
+		// world instead
+		final double step = world.getSettings().getStepFrequency();
+		final long maxSteps = Math.round(seconds / step);
+		long steps = 0;
+
+		while (steps < maxSteps && !until.getAsBoolean()) {
+			step();
+			steps++;
+		}
+		return steps * step;
+	}
+
+	/**
+	 * Captures the complete physical state of the world : the transforms,
+	 * velocities, masses and flags of every body, and the joints of the world.
+	 * The state can be put back at any moment with {@link #restore(WorldState)}.
+	 * 
+	 * @return The actual state of the world.
+	 */
+	public synchronized WorldState snapshot() {
+		return new WorldState(world);
+	}
+
+	/**
+	 * Puts the world back in the given state, taken with {@link #snapshot()}.
+	 * The mutations still deferred are applied first, so they can't modify the
+	 * restored state afterwards. The joints created since the state was taken
+	 * are removed, and the removed ones are added back. The collision events
+	 * not dispatched yet are dropped.
+	 * 
+	 * @param state
+	 *            The state to restore.
+	 */
+	public synchronized void restore(WorldState state) {
+		applyMutations();
+		state.restore(world);
+		events.clear();
+
+		// Don't interpolate from the positions before the restore
+		snapshot = null;
+	}
+
+	/**
+	 * Defers a modification of the physic world (joints, masses, activation
+	 * of the bodies...) to the end of the actual step, when the engine is not
+	 * processing the contacts anymore. The mutations are applied in the order
+	 * they were deferred. If a mutation with the same target and action is
+	 * already waiting, it is replaced by this one, so repeated mutations of
+	 * the same step are only applied once.
+	 * 
+	 * This method can be called from any thread.
+	 * 
+	 * @param target
+	 *            The object modified, compared by identity.
+	 * @param action
+	 *            The name of the modification made to the target.
+	 * @param mutation
+	 *            The modification
+	 */
+	public void defer(Object target, String action, Runnable mutation) {
+		final Mutation key = new Mutation(target, action);
+
+		synchronized (mutations) {
+			// Only the latest is kept, applied after the others
+			mutations.remove(key);
+			mutations.put(key, mutation);
+		}
+	}
+
+	/**
+	 * Defers the mutation to the {@link DynamicWorld} owning the given world,
+	 * via {@link #defer(Object, String, Runnable)}. If the world doesn't
+	 * belong to a DynamicWorld, the mutation is applied immediately.
+	 * 
+	 * @param world
+	 *            The physic world modified.
+	 * @param target
+	 *            The object modified, compared by identity.
+	 * @param action
+	 *            The name of the modification made to the target.
+	 * @param mutation
+	 *            The modification
+	 */
+	public static void defer(World world, Object target, String action, Runnable mutation) {
+		if (world != null && world.getUserData() instanceof DynamicWorld) {
+			((DynamicWorld) world.getUserData()).defer(target, action, mutation);
+		} else {
+			mutation.run();
+		}
+	}
+
+	/**
+	 * Applies the edit of the objects of the world (translation, rotation...)
+	 * with the lock of the world held, so the {@link #simulation} never steps
+	 * while the transforms of the bodies are partly written. Used to move the
+	 * objects of a running world from the JavaFX thread, while it is built.
+	 * 
+	 * A new {@link #snapshot} is published once the edit is done, so the
+	 * render transforms of the objects follow the edit from the next frame,
+	 * without reading the bodies outside of the lock.
+	 * 
+	 * @param edit
+	 *            The modification of the objects
+	 */
+	public synchronized void edit(Runnable edit) {
+		try {
+			edit.run();
+		} finally {
+			if (!headless) {
+				snapshot = new WorldSnapshot(complexList, snapshot, System.nanoTime());
+			}
+		}
+	}
+
+	/**
+	 * Applies all the mutations deferred since the last step. The mutations
+	 * deferred while they are applied wait for the next step.
+	 */
+	private void applyMutations() {
+		final Runnable[] pending;
+
+		synchronized (mutations) {
+			if (mutations.isEmpty()) {
+				return;
+			}
+			pending = mutations.values().toArray(new Runnable[mutations.size()]);
+			mutations.clear();
+		}
+
+		for (Runnable mutation : pending) {
+			try {
+				mutation.run();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * The key of a deferred mutation : the object modified, compared by
+	 * identity, and the name of the modification.
+	 * 
+	 * @author sunny
+	 *
+	 */
+	private static final class Mutation {
+
+		private final Object target;
+		private final String action;
+
+		public Mutation(Object target, String action) {
+			this.target = target;
+			this.action = action;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(target) * 31 + action.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Mutation)) {
+				return false;
+			}
+			final Mutation other = (Mutation) obj;
+
+			return target == other.target && action.equals(other.action);
+		}
+	}
+
+	/**
+	 * The thread stepping the world at the fixed period {@link #STEP_NANOS}
+	 * until it is stopped.
+	 * 
+	 * @author sunny
+	 *
+	 */
+	private class Simulation extends Thread {
+
+		/**
+		 * False once the thread has been asked to stop.
+		 */
+		private volatile boolean active = true;
+
+		public Simulation() {
+			super("DynamicWorld-simulation");
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+
+			long next = System.nanoTime();
+			long now = 0;
+
+			while (active) {
+				now = System.nanoTime();
+
+				// Too late, the missed steps are dropped
+				if (now - next > MAX_LAG_NANOS) {
+					next = now;
 				}
 
-				if (!iterationDynamism) {
-					// Has collisions are not handled in a static world,we have
-					// to verify manually that they have stopped
-					Iterator<CollidingPair> sit = colliders.iterator();
-					CollidingPair pair = null;
-					while (sit.hasNext()) {
-						pair = sit.next();
-						if (!pair.stillCollides()) {
-							pair.obj1.handleStaticCollideEnds(null, pair.obj2, null, world);
-							pair.obj2.handleStaticCollideEnds(null, pair.obj1, null, world);
-
-							sit.remove();
+				if (now - next >= 0) {
+					synchronized (DynamicWorld.this) {
+						// Terminated while waiting for the world, the world
+						// may have been restored since
+						if (!active) {
+							break;
+						}
+						try {
+							step(1);
+						} catch (Exception e) {
+							e.printStackTrace();
 						}
 					}
+					next += STEP_NANOS;
+				} else {
+					LockSupport.parkNanos(next - now);
 				}
-
 			}
+		}
 
-		};
-
+		/**
+		 * Stops the thread after the step being processed, if any. Called
+		 * with the lock of the world held, so no step is performed once this
+		 * method returns.
+		 */
+		public void terminate() {
+			active = false;
+			LockSupport.unpark(this);
+		}
 	}
 
 	/**
@@ -441,7 +842,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * {@link #height} properties are changed.
 	 */
 
-	private void generatePhysicalBounds() {
+	private synchronized void generatePhysicalBounds() {
 
 		removeComplexObject(top);
 		removeComplexObject(right);
@@ -462,7 +863,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * @param object
 	 *            The object to be removed.
 	 */
-	public void removeComplexObject(AbstractComplexObservable object) {
+	public synchronized void removeComplexObject(AbstractComplexObservable object) {
 		if (object != null) {
 			for (Body b : object.getBodies()) {
 				world.removeBody(b);
@@ -470,6 +871,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 			for (Joint j : object.getJoints()) {
 				world.removeJoint(j);
 			}
+			colliders.removeAll(object);
 		}
 	}
 
@@ -641,8 +1043,16 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	/**
 	 * Starts the world to update.
 	 */
-	public void start() {
-		updater.start();
+	public synchronized void start() {
+		if (simulation == null) {
+			// Don't interpolate from the positions before the pause
+			snapshot = null;
+			simulation = new Simulation();
+			simulation.start();
+		}
+		if (updater != null) {
+			updater.start();
+		}
 		isRunning = true;
 
 	}
@@ -650,8 +1060,14 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	/**
 	 * Stops the world update
 	 */
-	public void pause() {
-		updater.stop();
+	public synchronized void pause() {
+		if (simulation != null) {
+			simulation.terminate();
+			simulation = null;
+		}
+		if (updater != null) {
+			updater.stop();
+		}
 		isRunning = false;
 	}
 
@@ -704,6 +1120,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 
 		// We clear collisions
 		colliders.clear();
+		events.clear();
 
 	}
 
@@ -765,7 +1182,13 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * the AbstractComplexObject via the
 	 * handleDynamicCollide(AbstractComplexObject,World) method, or via the
 	 * handleStaticCollide(AbstractComplexObject,World) if the
-	 * {@link #isDynamic()} value is false.
+	 * {@link #isDynamic()} value is false. In the static case, the objects are
+	 * only notified when the collision between them begins, as the engine
+	 * reports the refused contacts again at every step.
+	 * 
+	 * The objects are not notified immediately : the event is buffered and
+	 * dispatched at the end of the step, at most once per pair of objects and
+	 * per step.
 	 */
 	@Override
 	public boolean begin(ContactPoint point) {
@@ -773,6 +1196,8 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 		final Body body1 = point.getBody1();
 		final Body body2 = point.getBody2();
 
+		contactCount++;
+
 		// Find the objects that collided
 		AbstractComplexObservable obj1 = null;
 		AbstractComplexObservable obj2 = null;
@@ -786,19 +1211,20 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 
 			if (obj1 != null && obj2 != null) {
 
-				// Handle collision on both objects
-				if (isDynamic()) {
-
-					obj1.handleDynamicCollide(point.getPoint(), obj2, body1, world);
-					obj2.handleDynamicCollide(point.getPoint(), obj1, body2, world);
+				final CollidingPair pair = colliders.touch(obj1, obj2, stepCount);
 
-				} else {
-
-					obj1.handleStaticCollide(point.getPoint(), obj2, body1, world);
-					obj2.handleStaticCollide(point.getPoint(), obj1, body2, world);
+				// The collision is handled on both objects after the step, once
+				// per pair per step.
+				if (pair.lastEvent != stepCount) {
+					if (isDynamic()) {
+						pair.lastEvent = stepCount;
+						events.add(CollisionEventBuffer.DYNAMIC_COLLIDE, point.getPoint(), obj1, body1, obj2, body2);
 
+					} else if (pair.firstContact == stepCount) {
+						pair.lastEvent = stepCount;
+						events.add(CollisionEventBuffer.STATIC_COLLIDE, point.getPoint(), obj1, body1, obj2, body2);
+					}
 				}
-				colliders.add(new CollidingPair(obj1, obj2));
 			}
 		}
 
@@ -813,77 +1239,61 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 *          object is considered in collision even if it collides with
 	 *          itself.
 	 */
-	public boolean stillCollide(AbstractComplexObservable object) {
-
-		for (CollidingPair pair : colliders) {
-			// If the object is in one of the pairs, true is returned
-			if (pair.contains(object)) {
-				return true;
-			}
-		}
+	public synchronized boolean stillCollide(AbstractComplexObservable object) {
+		return colliders.isColliding(object);
+	}
 
-		return false;
+	/**
+	 * Tell if the object sent in parameter is still colliding with any other
+	 * object of the world. Unlike {@link #stillCollide(AbstractComplexObservable)},
+	 * an object colliding only with itself is not considered in collision.
+	 * 
+	 * @return true if the object collides with another object, false otherwise.
+	 */
+	public synchronized boolean stillCollideWithOther(AbstractComplexObservable object) {
+		return colliders.isCollidingWithOther(object);
 	}
 
 	/**
-	 * Override method from ContactListener interface. Allows to the world to
-	 * listen world's collision and notify the AbstractObservable that collided,
-	 * by iterating over the {@link #complexList}'s elements.
+	 * Tell if any object of the world is still colliding with another object.
+	 * The objects colliding only with themselves are ignored.
 	 * 
-	 * if {@link #isDynamic()} value is set to true, then the world will notify
-	 * the AbstractComplexObject via the
-	 * {@link AbstractComplexObservable#handleDynamicCollideEnds(AbstractComplexObservable, Body, World)}
-	 * method, or via the
-	 * {@link AbstractComplexObservable #handleStaticCollideEnds(AbstractComplexObservable, Body, World)}
-	 * if the {@link #isDynamic()} value is false.
+	 * @return true if at least 2 distinct objects collide, false otherwise.
+	 */
+	public synchronized boolean stillHaveCollisionsWithOther() {
+		return colliders.hasCollisionWithOther();
+	}
+
+	/**
+	 * Override method from ContactListener interface. Never used : the end of
+	 * the collisions is detected at the end of every step, when no contact was
+	 * reported between 2 objects colliding. See {@link #step()}.
 	 */
 	@Override
 	public void end(ContactPoint point) {
 
-		final Body body1 = point.getBody1();
-		final Body body2 = point.getBody2();
-
-		if (!isDynamic) {
-
-			if (body1 != null && body2 != null) {
-
-				// Find the objects that collided
-				AbstractComplexObservable obj1 = null;
-				AbstractComplexObservable obj2 = null;
-
-				final AbstractComplexObservable[] objects = whichObservable(body1, body2);
-
-				obj1 = objects[0];
-				obj2 = objects[1];
-
-				if (obj1 != null && obj2 != null) {
-
-					// Handle collision on both objects
-					if (isDynamic()) {
-
-						obj1.handleDynamicCollideEnds(point.getPoint(), obj2, body1, world);
-						obj2.handleDynamicCollideEnds(point.getPoint(), obj1, body2, world);
-
-					} else {
-
-						obj1.handleStaticCollideEnds(point.getPoint(), obj2, body1, world);
-						obj2.handleStaticCollideEnds(point.getPoint(), obj1, body2, world);
-
-					}
-					// We remove the pair from colliders set
-					colliders.remove(new CollidingPair(obj1, obj2));
-				}
-			}
-		}
-
 	}
 
 	/**
-	 * Never used method.
+	 * Override method from ContactListener interface. Called at every step for
+	 * the contacts that persist. Tells the {@link #colliders} that the objects
+	 * are still colliding.
 	 */
 	@Override
 	public boolean persist(PersistedContactPoint point) {
 
+		final Body body1 = point.getBody1();
+		final Body body2 = point.getBody2();
+
+		if (body1 != null && body2 != null) {
+			final AbstractComplexObservable obj1 = whichObservable(body1);
+			final AbstractComplexObservable obj2 = whichObservable(body2);
+
+			if (obj1 != null && obj2 != null) {
+				colliders.touch(obj1, obj2, stepCount);
+			}
+		}
+
 		return true;
 	}
 
@@ -913,6 +1323,35 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 
 	}
 
+	/**
+	 * Adds a listener called on the JavaFX thread at every frame, after the
+	 * render transforms of the objects are interpolated and the objects are
+	 * updated. Never called in a headless world.
+	 * 
+	 * @param listener
+	 *            The listener to add
+	 */
+	public void addFrameListener(Runnable listener) {
+		frameListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addFrameListener(Runnable)}.
+	 * 
+	 * @param listener
+	 *            The listener to remove
+	 */
+	public void removeFrameListener(Runnable listener) {
+		frameListeners.remove(listener);
+	}
+
+	/**
+	 * @return True if the world is headless. See {@link #headless}.
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
 	/**
 	 * Returns the value of {@link #isDynamic} field.
 	 * 
@@ -1027,7 +1466,7 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * @param ratio
 	 *            The new value of the ratio. Must be higher than 1
 	 */
-	public void setUpdateRatio(double ratio) {
+	public synchronized void setUpdateRatio(double ratio) {
 		if (ratio <= 0)
 			ratio = 0.00000001;
 
@@ -1066,9 +1505,9 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 *         modification of the state of those objects might create certain
 	 *         problem in update.
 	 */
-	public Set<CollidingPair> getColliders() {
-		// TODO Auto-generated method stub
-		return Collections.unmodifiableSet(colliders);
+	public synchronized Set<CollidingPair> getColliders() {
+		// A copy, as the simulation thread modifies the set while stepping
+		return Collections.unmodifiableSet(new HashSet<>(colliders.getPairs()));
 	}
 
 	/**
@@ -1076,10 +1515,11 @@ public class DynamicWorld implements ContactListener, BoundsListener {
 	 * after this method is called. However, the bounds will remain in position,
 	 * to make sure that the objects added will still collide with them.
 	 */
-	public void clearObjects() {
+	public synchronized void clearObjects() {
 
 		this.complexList.clear();
 		this.colliders.clear();
+		this.events.clear();
 		this.world.removeAllBodiesAndJoints();
 
 		// put bound back again
@@ -4,6 +4,7 @@ import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Rectangle;
+import org.dyn4j.geometry.Transform;
 import org.dyn4j.geometry.Vector2;
 
 import javafx.beans.property.DoubleProperty;
@@ -24,13 +25,21 @@ public class Surface extends ComplexObservable {
 	/**
 	 * The dyn4j dynamic objects
 	 */
-	protected DoubleProperty frictionCoef;
+	protected double frictionCoef;
 	protected Rectangle object;
 	protected Body body;
 	protected BodyFixture fixture;
 
 	/**
-	 * Position x,y and rotation in pixels and degrees for javaFx purpose
+	 * The property of the {@link #frictionCoef}. Only created when it is
+	 * requested.
+	 */
+	private DoubleProperty frictionCoefProperty;
+
+	/**
+	 * Position x,y and rotation in pixels and degrees for javaFx purpose. Those
+	 * properties are only created when one of them is requested, so a Surface
+	 * that is never displayed doesn't own any of them.
 	 */
 	private DoubleProperty topLeftCornerX, topLeftCornerY, rotation, height, width;
 
@@ -60,19 +69,28 @@ public class Surface extends ComplexObservable {
 		body.setMass(MassType.INFINITE);
 		body.addFixture(fixture);
 
-		// Instantiate the frictionCoef listener
-		this.frictionCoef = new SimpleDoubleProperty(DEFAULT_FRICTION);
-		frictionCoef.addListener((value, old, newv) -> fixture.setFriction(newv.doubleValue()));
+		this.frictionCoef = DEFAULT_FRICTION;
 
 		// add body to the list
 		bodies.add(body);
 
-		topLeftCornerX = new SimpleDoubleProperty(0);
-		topLeftCornerY = new SimpleDoubleProperty(0);
-		this.rotation = new SimpleDoubleProperty(0);
-		this.height = new SimpleDoubleProperty(ScaleManager.metersToPixels(height));
-		this.width = new SimpleDoubleProperty(ScaleManager.metersToPixels(width));
+	}
 
+	/**
+	 * Creates the view properties if they were never requested. They are
+	 * immediately updated to the actual state of the Surface.
+	 */
+	private void initializeView() {
+		if (topLeftCornerX == null) {
+			topLeftCornerX = new SimpleDoubleProperty(0);
+			topLeftCornerY = new SimpleDoubleProperty(0);
+			this.rotation = new SimpleDoubleProperty(0);
+			this.height = new SimpleDoubleProperty();
+			this.width = new SimpleDoubleProperty();
+
+			operateResize();
+			update();
+		}
 	}
 
 	/**********************************************************************
@@ -85,7 +103,11 @@ public class Surface extends ComplexObservable {
 	 * @return {@link #frictionCoef}
 	 */
 	public final DoubleProperty frictionCoefProperty() {
-		return this.frictionCoef;
+		if (frictionCoefProperty == null) {
+			frictionCoefProperty = new SimpleDoubleProperty(frictionCoef);
+			frictionCoefProperty.addListener((value, old, newv) -> setFrictionCoef(newv.doubleValue()));
+		}
+		return this.frictionCoefProperty;
 	}
 
 	/**
@@ -94,7 +116,7 @@ public class Surface extends ComplexObservable {
 	 * @return The value of {@link #frictionCoef}
 	 */
 	public final double getFrictionCoef() {
-		return this.frictionCoefProperty().get();
+		return this.frictionCoef;
 	}
 
 	/**
@@ -104,7 +126,12 @@ public class Surface extends ComplexObservable {
 	 *            The new friction coeficient
 	 */
 	public final void setFrictionCoef(final double frictionCoef) {
-		this.frictionCoefProperty().set(frictionCoef);
+		this.frictionCoef = frictionCoef;
+		fixture.setFriction(frictionCoef);
+
+		if (frictionCoefProperty != null) {
+			frictionCoefProperty.set(frictionCoef);
+		}
 	}
 
 	/**
@@ -113,11 +140,16 @@ public class Surface extends ComplexObservable {
 	 */
 	@Override
 	public void update() {
-		topLeftCornerX
-				.set(ScaleManager.metersToPixels((body.getTransform().getTranslationX() - object.getWidth() / 2)));
-		topLeftCornerY
-				.set(ScaleManager.metersToPixels((body.getTransform().getTranslationY() - object.getHeight() / 2)));
-		rotation.set(Math.toDegrees(body.getTransform().getRotation()));
+		// Nothing to update if the Surface is not displayed
+		if (topLeftCornerX == null) {
+			return;
+		}
+
+		final Transform transform = getRenderTransform(body);
+
+		topLeftCornerX.set(ScaleManager.metersToPixels((transform.getTranslationX() - object.getWidth() / 2)));
+		topLeftCornerY.set(ScaleManager.metersToPixels((transform.getTranslationY() - object.getHeight() / 2)));
+		rotation.set(Math.toDegrees(transform.getRotation()));
 
 	}
 
@@ -155,6 +187,7 @@ public class Surface extends ComplexObservable {
 	 * @return The position x of the Surface
 	 */
 	public final ReadOnlyDoubleProperty topLeftCornerXProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.topLeftCornerX);
 	}
 
@@ -164,6 +197,7 @@ public class Surface extends ComplexObservable {
 	 * @return The position y of the Surface
 	 */
 	public final ReadOnlyDoubleProperty topLeftCornerYProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.topLeftCornerY);
 	}
 
@@ -173,6 +207,7 @@ public class Surface extends ComplexObservable {
 	 * @return The position y of the Surface
 	 */
 	public final ReadOnlyDoubleProperty widthProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.width);
 	}
 
@@ -182,6 +217,7 @@ public class Surface extends ComplexObservable {
 	 * @return The position y of the Surface
 	 */
 	public final ReadOnlyDoubleProperty heightProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.height);
 	}
 
@@ -191,6 +227,7 @@ public class Surface extends ComplexObservable {
 	 * @return The rotation of the Surface
 	 */
 	public final ReadOnlyDoubleProperty rotationProperty() {
+		initializeView();
 		return ReadOnlyDoubleProperty.readOnlyDoubleProperty(this.rotation);
 	}
 
@@ -215,6 +252,9 @@ public class Surface extends ComplexObservable {
 	 */
 	@Override
 	public void operateResize() {
+		if (width == null) {
+			return;
+		}
 
 		width.set(ScaleManager.metersToPixels(object.getWidth()));
 		height.set(ScaleManager.metersToPixels(object.getHeight()));
@@ -0,0 +1,158 @@
+package observables;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.geometry.Transform;
+
+/**
+ * Immutable picture of the position of every body of a {@link DynamicWorld}
+ * taken right after a simulation step.
+ *
+ * The simulation thread publishes a new snapshot after every step, and the
+ * rendering thread uses the two last snapshots to interpolate the position of
+ * the bodies at the exact time of the frame, using
+ * {@link #interpolate(double)}. That way, the rendering never has to read the
+ * bodies while the physic engine is modifying them.
+ *
+ * @author sunny
+ *
+ */
+public final class WorldSnapshot {
+
+	/**
+	 * The number of values stored per body in {@link #transforms} : x, y and
+	 * rotation.
+	 */
+	private static final int STRIDE = 3;
+
+	/**
+	 * The bodies of the world, in the order they are stored in
+	 * {@link #transforms}.
+	 */
+	private final Body[] bodies;
+
+	/**
+	 * The object owning the body at the same index in {@link #bodies}.
+	 */
+	private final AbstractComplexObservable[] owners;
+
+	/**
+	 * The transforms of the bodies at the time of this snapshot.
+	 */
+	private final double[] transforms;
+
+	/**
+	 * The transforms of the bodies at the time of the previous snapshot. Same
+	 * as {@link #transforms} if the bodies of the world changed between the 2
+	 * steps.
+	 */
+	private final double[] previous;
+
+	/**
+	 * The time, in nanoseconds, at which the snapshot was taken.
+	 */
+	private final long time;
+
+	/**
+	 * Takes the snapshot of the bodies of all the objects given in parameter.
+	 *
+	 * @param objects
+	 *            The objects contained in the world
+	 * @param last
+	 *            The last snapshot published for this world. Can be null.
+	 * @param time
+	 *            The time of the snapshot, as given by {@link System#nanoTime()}
+	 */
+	public WorldSnapshot(List<AbstractComplexObservable> objects, WorldSnapshot last, long time) {
+
+		final List<Body> bodies = new ArrayList<>();
+		final List<AbstractComplexObservable> owners = new ArrayList<>();
+
+		for (AbstractComplexObservable object : objects) {
+			for (Body body : object.getBodies()) {
+				bodies.add(body);
+				owners.add(object);
+			}
+		}
+
+		final int size = bodies.size();
+
+		this.bodies = bodies.toArray(new Body[size]);
+		this.owners = owners.toArray(new AbstractComplexObservable[size]);
+		this.transforms = new double[size * STRIDE];
+		this.time = time;
+
+		Transform transform = null;
+
+		for (int i = 0; i < size; i++) {
+			transform = this.bodies[i].getTransform();
+			transforms[i * STRIDE] = transform.getTranslationX();
+			transforms[i * STRIDE + 1] = transform.getTranslationY();
+			transforms[i * STRIDE + 2] = transform.getRotation();
+		}
+
+		this.previous = last != null && last.hasSameBodies(this.bodies) ? last.transforms : transforms;
+	}
+
+	/**
+	 * Tells if the bodies of the snapshot are exactly the one given in
+	 * parameter, in the same order.
+	 */
+	private boolean hasSameBodies(Body[] others) {
+		if (others.length != bodies.length) {
+			return false;
+		}
+		for (int i = 0; i < bodies.length; i++) {
+			if (others[i] != bodies[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the interpolated transform of every body in the render transform
+	 * of its owner, given by
+	 * {@link AbstractComplexObservable#getRenderTransform(Body)}.
+	 *
+	 * @param alpha
+	 *            The interpolation factor between the previous step (0) and
+	 *            the step of this snapshot (1).
+	 */
+	public void interpolate(double alpha) {
+
+		final double beta = 1 - alpha;
+		Transform transform = null;
+		int index = 0;
+		double rotation = 0;
+		double delta = 0;
+
+		for (int i = 0; i < bodies.length; i++) {
+			index = i * STRIDE;
+
+			// Takes the shortest way between the 2 rotations
+			delta = transforms[index + 2] - previous[index + 2];
+			if (delta > Math.PI) {
+				delta -= 2 * Math.PI;
+			} else if (delta < -Math.PI) {
+				delta += 2 * Math.PI;
+			}
+			rotation = previous[index + 2] + delta * alpha;
+
+			transform = owners[i].getRenderTransform(bodies[i]);
+			transform.identity();
+			transform.rotate(rotation);
+			transform.translate(previous[index] * beta + transforms[index] * alpha,
+					previous[index + 1] * beta + transforms[index + 1] * alpha);
+		}
+	}
+
+	/**
+	 * @return The time, in nanoseconds, at which the snapshot was taken.
+	 */
+	public long getTime() {
+		return time;
+	}
+}
@@ -0,0 +1,204 @@
+package observables;
+
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.World;
+import org.dyn4j.dynamics.joint.Joint;
+import org.dyn4j.geometry.Mass;
+import org.dyn4j.geometry.MassType;
+import org.dyn4j.geometry.Transform;
+
+/**
+ * Complete physical state of a {@link DynamicWorld}, taken via
+ * {@link DynamicWorld#snapshot()} and put back via
+ * {@link DynamicWorld#restore(WorldState)}.
+ *
+ * The state of every body (transform, velocities, gravity scale, mass, active
+ * and asleep flags) is packed in primitive arrays, and the joints of the world
+ * at the time of the capture are kept, so the joints created while the world
+ * is running can be removed. Restoring the state only copies the values back
+ * in the bodies, and doesn't allocate anything.
+ *
+ * @author sunny
+ *
+ */
+public final class WorldState {
+
+	/**
+	 * The number of values stored per body in {@link #values} : x, y,
+	 * rotation, linear velocity x and y, angular velocity and gravity scale.
+	 */
+	private static final int STRIDE = 7;
+
+	/**
+	 * The flag of {@link #flags} set if the body is active.
+	 */
+	private static final int ACTIVE = 1;
+
+	/**
+	 * The flag of {@link #flags} set if the body is asleep.
+	 */
+	private static final int ASLEEP = 2;
+
+	/**
+	 * The mass types, indexed by their ordinal. Cached because
+	 * {@link MassType#values()} copies the array on every call.
+	 */
+	private static final MassType[] MASS_TYPES = MassType.values();
+
+	/**
+	 * The bodies of the world, in the order they are stored in
+	 * {@link #values}.
+	 */
+	private final Body[] bodies;
+
+	/**
+	 * The values of the bodies, {@link #STRIDE} per body.
+	 */
+	private final double[] values;
+
+	/**
+	 * The mass of every body. {@link Mass} is immutable, except for its type,
+	 * which is saved in {@link #massTypes}.
+	 */
+	private final Mass[] masses;
+
+	/**
+	 * The ordinal of the {@link MassType} of every body.
+	 */
+	private final int[] massTypes;
+
+	/**
+	 * The {@link #ACTIVE} and {@link #ASLEEP} flags of every body.
+	 */
+	private final int[] flags;
+
+	/**
+	 * The joints of the world.
+	 */
+	private final Joint[] joints;
+
+	/**
+	 * Captures the state of every body and joint of the given world.
+	 *
+	 * @param world
+	 *            The physic world to capture. Must not be stepped during the
+	 *            capture.
+	 */
+	WorldState(World world) {
+
+		final int size = world.getBodyCount();
+
+		this.bodies = new Body[size];
+		this.values = new double[size * STRIDE];
+		this.masses = new Mass[size];
+		this.massTypes = new int[size];
+		this.flags = new int[size];
+
+		Body body = null;
+		Transform transform = null;
+		int index = 0;
+
+		for (int i = 0; i < size; i++) {
+			body = world.getBody(i);
+			transform = body.getTransform();
+			index = i * STRIDE;
+
+			bodies[i] = body;
+			values[index] = transform.getTranslationX();
+			values[index + 1] = transform.getTranslationY();
+			values[index + 2] = transform.getRotation();
+			values[index + 3] = body.getLinearVelocity().x;
+			values[index + 4] = body.getLinearVelocity().y;
+			values[index + 5] = body.getAngularVelocity();
+			values[index + 6] = body.getGravityScale();
+			masses[i] = body.getMass();
+			massTypes[i] = body.getMass().getType().ordinal();
+			flags[i] = (body.isActive() ? ACTIVE : 0) | (body.isAsleep() ? ASLEEP : 0);
+		}
+
+		this.joints = new Joint[world.getJointCount()];
+
+		for (int i = 0; i < joints.length; i++) {
+			joints[i] = world.getJoint(i);
+		}
+	}
+
+	/**
+	 * Puts the captured state back in the bodies, and makes the joints of the
+	 * world match the captured ones. The forces accumulated by the bodies are
+	 * cleared.
+	 *
+	 * @param world
+	 *            The physic world the state was captured from.
+	 */
+	void restore(World world) {
+
+		Body body = null;
+		Transform transform = null;
+		int index = 0;
+
+		for (int i = 0; i < bodies.length; i++) {
+			body = bodies[i];
+			transform = body.getTransform();
+			index = i * STRIDE;
+
+			transform.setTranslation(values[index], values[index + 1]);
+			transform.setRotation(values[index + 2]);
+			body.setLinearVelocity(values[index + 3], values[index + 4]);
+			body.setAngularVelocity(values[index + 5]);
+			body.setGravityScale(values[index + 6]);
+
+			// The type is set after, as masses can be shared between bodies
+			body.setMass(masses[i]);
+			body.setMassType(MASS_TYPES[massTypes[i]]);
+
+			body.clearForce();
+			body.clearTorque();
+			body.clearAccumulatedForce();
+			body.clearAccumulatedTorque();
+			body.setActive((flags[i] & ACTIVE) != 0);
+			body.setAsleep((flags[i] & ASLEEP) != 0);
+		}
+
+		// Removes the joints created since the capture. There are only a few
+		// joints in a world, so they are simply searched.
+		for (int i = world.getJointCount() - 1; i >= 0; i--) {
+			if (!containsJoint(world.getJoint(i))) {
+				world.removeJoint(i);
+			}
+		}
+
+		// Then adds back the ones removed
+		for (Joint joint : joints) {
+			if (!world.containsJoint(joint)) {
+				world.addJoint(joint);
+			}
+		}
+	}
+
+	/**
+	 * Tells if the joint was in the world when the state was captured.
+	 */
+	private boolean containsJoint(Joint joint) {
+		for (Joint captured : joints) {
+			if (captured == joint) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return The number of bodies captured in this state.
+	 */
+	public int getBodyCount() {
+		return bodies.length;
+	}
+
+	/**
+	 * @return The number of joints captured in this state.
+	 */
+	public int getJointCount() {
+		return joints.length;
+	}
+}
@@ -0,0 +1,213 @@
+package tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import game.BorderType;
+import game.Inventory;
+import game.InventoryItem;
+import game.Level;
+import game.LevelSummary;
+import game.Planet;
+import game.Quantity;
+import gameObservables.Coin;
+import gameObservables.Observable;
+import gameObservables.PotOfGold;
+import gameObservables.Spring;
+import utils.BufferingUtils;
+import utils.LevelFormat;
+
+public class BufferingUtilsTest {
+
+	private File file;
+	private Level level;
+
+	@Before
+	public void before() throws IOException {
+		file = File.createTempFile("level", ".god");
+
+		level = new Level("pop", "popy", file.getPath());
+		level.setBorders(BorderType.TELEPORTABLE);
+		level.setPlanet(Planet.MOON);
+		level.setHeight(20);
+		level.setWidth(30);
+		level.setScreenShot(new byte[] { 1, 2, 3 });
+
+		level.addFixedObject(new Coin(0.5, 3, 4));
+		level.addFixedObject(new PotOfGold(2, 1));
+		level.addFixedObject(new Spring(20, 2, 1));
+
+		final Inventory inventory = new Inventory();
+		inventory.addItem(new InventoryItem(Observable.ROPE, 3));
+		inventory.addItem(new InventoryItem(Observable.SURFACE, Quantity.INFINITE));
+		level.setInventory(inventory);
+	}
+
+	@After
+	public void after() {
+		file.delete();
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#saveLevel(Level)} and
+	 * {@link utils.BufferingUtils#openLevel(File)}.
+	 */
+	@Test
+	public void testSaveOpenLevel() throws Exception {
+		BufferingUtils.saveLevel(level);
+
+		assertTrue(LevelFormat.isBinary(Files.readAllBytes(file.toPath())));
+
+		final Level opened = BufferingUtils.openLevel(file);
+
+		assertTrue(opened.getName().equals("pop"));
+		assertTrue(opened.getCreator().equals("popy"));
+		assertTrue(opened.getBorders() == BorderType.TELEPORTABLE);
+		assertTrue(opened.getPlanet() == Planet.MOON);
+		assertTrue(opened.getHeight() == 20 && opened.getWidth() == 30);
+
+		// The thumbnail stays in the file
+		assertNull(opened.getScreenShot());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, BufferingUtils.readLevelSummary(file).getThumbnail());
+
+		assertTrue(opened.getFixedObject().size() == 3);
+		assertTrue(opened.getFixedObject().get(0) instanceof Coin);
+		assertTrue(((Coin) opened.getFixedObject().get(0)).getRadius() == 0.5);
+		assertTrue(opened.getFixedObject().get(0).getTranslate().equals(3, 4));
+		assertTrue(opened.getFixedObject().get(1) instanceof PotOfGold);
+		assertTrue(((Spring) opened.getFixedObject().get(2)).getSpringConstant().get() == 20);
+
+		assertTrue(opened.getInventory().getItem(Observable.ROPE).getQuantity() == 3);
+		assertTrue(opened.getInventory().getItem(Observable.SURFACE).getQuantityType() == Quantity.INFINITE);
+
+		// Saved again without a new screenshot, the thumbnail is kept
+		BufferingUtils.saveLevel(opened);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, BufferingUtils.readLevelSummary(file).getThumbnail());
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#openLevel(File)} with a
+	 * level serialized by the previous versions of the game.
+	 */
+	@Test
+	public void testOpenLegacyLevel() throws Exception {
+		final File legacy = new File("levels/personnal").listFiles()[0];
+
+		assertTrue(LevelFormat.isLegacy(Files.readAllBytes(legacy.toPath())));
+
+		final Level opened = BufferingUtils.openLevel(legacy);
+		assertTrue(!opened.getFixedObject().isEmpty());
+
+		// Converted to the new format, it is smaller
+		final Level converted = new Level(opened.getName(), opened.getCreator(), file.getPath());
+		converted.setBorders(opened.getBorders());
+		converted.setPlanet(opened.getPlanet());
+		converted.setScreenShot(BufferingUtils.readLevelSummary(legacy).getThumbnail());
+		opened.getFixedObject().forEach(converted::addFixedObject);
+		BufferingUtils.saveLevel(converted);
+
+		assertTrue(file.length() < legacy.length());
+		assertTrue(BufferingUtils.openLevel(file).getFixedObject().size() == opened.getFixedObject().size());
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#saveLevelInBackground(Level)}.
+	 */
+	@Test
+	public void testSaveLevelInBackground() throws Exception {
+		final CompletableFuture<File> saved = BufferingUtils.saveLevelInBackground(level);
+
+		// Encoded when saved, so the level can be modified meanwhile
+		level.setName("modified");
+
+		assertTrue(saved.get().equals(file));
+		assertTrue(BufferingUtils.openLevel(file).getName().equals("pop"));
+
+		// No temporary file is left
+		final String[] temps = file.getParentFile()
+				.list((directory, name) -> name.startsWith(file.getName()) && name.endsWith(".tmp"));
+		assertTrue(temps.length == 0);
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#readLevelSummary(File)}.
+	 */
+	@Test
+	public void testReadLevelSummary() throws Exception {
+		BufferingUtils.saveLevel(level);
+
+		final LevelSummary summary = BufferingUtils.readLevelSummary(file);
+
+		assertTrue(summary.getName().equals("pop"));
+		assertTrue(summary.getCreator().equals("popy"));
+		assertTrue(summary.getPlanet() == Planet.MOON);
+		assertTrue(summary.getHeight() == 20 && summary.getWidth() == 30);
+
+		// The thumbnail is at the end of the file
+		assertTrue(summary.getThumbnailOffset() + summary.getThumbnailLength() == file.length());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, summary.getThumbnail());
+
+		assertTrue(summary.open().getFixedObject().size() == 3);
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#openLevel(File)} and
+	 * {@link utils.BufferingUtils#readLevelSummary(File)} with a corrupt
+	 * level.
+	 */
+	@Test
+	public void testOpenCorruptLevel() throws Exception {
+		BufferingUtils.saveLevel(level);
+		final byte[] data = Files.readAllBytes(file.toPath());
+
+		// The type of the last item, before the thumbnail
+		data[data.length - 3 - 6] = 100;
+		Files.write(file.toPath(), data);
+
+		try {
+			BufferingUtils.openLevel(file);
+			fail();
+		} catch (IOException e) {
+		}
+
+		// The planet, after the magic number, the version, the creator and
+		// the name
+		data[4 + 2 + 6 + 5 + 1] = 100;
+		Files.write(file.toPath(), data);
+
+		try {
+			BufferingUtils.readLevelSummary(file);
+			fail();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Test method for {@link utils.BufferingUtils#readLevelSummary(File)} with
+	 * a level serialized by the previous versions of the game.
+	 */
+	@Test
+	public void testReadLegacyLevelSummary() throws Exception {
+		final File legacy = new File("levels/personnal").listFiles()[0];
+
+		final LevelSummary summary = BufferingUtils.readLevelSummary(legacy);
+		final Level opened = BufferingUtils.openLevel(legacy);
+
+		assertTrue(summary.getName().equals(opened.getName()));
+		assertTrue(summary.getCreator().equals(opened.getCreator()));
+		assertTrue(summary.getPlanet() == opened.getPlanet());
+		assertTrue(summary.getThumbnail().length == summary.getThumbnailLength());
+	}
+
+}
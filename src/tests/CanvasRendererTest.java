@@ -0,0 +1,55 @@
+package tests;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import gameObservableViews.CanvasRenderer;
+import gameObservables.Coin;
+import observables.Surface;
+
+public class CanvasRendererTest {
+
+	/**
+	 * Test method for {@link gameObservableViews.CanvasRenderer#pick(double, double)}.
+	 */
+	@Test
+	public void testPick() {
+		final Surface floor = new Surface(10, 1);
+
+		final Surface box = new Surface(2, 2);
+		box.translate(4, 0);
+
+		final Surface wall = new Surface(10, 1);
+		wall.translate(-10, 0);
+		wall.rotate(Math.PI / 2);
+
+		final Coin coin = new Coin(1);
+		coin.translate(0, 5);
+
+		final CanvasRenderer renderer = new CanvasRenderer();
+		renderer.setObjects(Arrays.asList(floor, box, wall, coin));
+
+		assertSame(floor, renderer.pick(0, 0));
+		assertSame(floor, renderer.pick(-4.9, 0.4));
+		assertSame(coin, renderer.pick(0.5, 5.5));
+		assertNull(renderer.pick(0, 3));
+
+		// The objects drawn last are over the others
+		assertSame(box, renderer.pick(4, 0.9));
+
+		// In the rotated shape only
+		assertSame(wall, renderer.pick(-10, 4));
+		assertNull(renderer.pick(-14, 0));
+
+		// Not drawn anymore
+		renderer.setSelected(box);
+		renderer.remove(box);
+		assertSame(floor, renderer.pick(4, 0));
+		assertNull(renderer.getSelected());
+	}
+
+}
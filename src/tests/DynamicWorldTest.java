@@ -7,11 +7,15 @@ import static org.junit.Assert.fail;
 import java.util.Arrays;
 import java.util.List;
 
+import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.contact.ContactPoint;
+import org.dyn4j.dynamics.joint.WeldJoint;
+import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Vector2;
 import org.junit.Before;
 import org.junit.Test;
 
+import gameObservables.Coin;
 import gameObservables.Spring;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.SimpleDoubleProperty;
@@ -19,6 +23,7 @@ import javafx.collections.ObservableList;
 import observables.AbstractComplexObservable;
 import observables.DynamicWorld;
 import observables.DynamicWorld.Bounds;
+import observables.WorldState;
 
 public class DynamicWorldTest {
 	private DynamicWorld world;
@@ -192,6 +197,10 @@ public class DynamicWorldTest {
 		// Simulate a collision between 2 springs from the world
 		world.begin(new ContactPoint(null, s1.getBodies().get(0), s1.getBodies().get(0).getFixture(0),
 				s2.getBodies().get(0), s2.getBodies().get(0).getFixture(0), new Vector2(), new Vector2(), 3));
+		assertFalse(passed1);
+
+		// The events are dispatched at the end of the step
+		world.step(1);
 
 		// Assert the collision between 2 springs has been handled correctly
 		assertTrue(passed1);
@@ -199,6 +208,36 @@ public class DynamicWorldTest {
 
 	}
 
+	/**
+	 * A handler throwing an exception doesn't prevent the other handlers from
+	 * being notified, and its event is not dispatched again.
+	 */
+	@Test
+	public void testThrowingHandler() {
+		world.setDynamic(true);
+
+		final Coin c1 = new Coin(1, 100, 100);
+		final Coin c2 = new Coin(1, 200, 100);
+		final int[] notified = new int[1];
+
+		c1.setOnDynamicCollide((point, object, body, world) -> {
+			throw new IllegalStateException();
+		});
+		c2.setOnDynamicCollide((point, object, body, world) -> {
+			notified[0]++;
+		});
+
+		world.addAllComplexObjects(c1, c2);
+		world.begin(new ContactPoint(null, c1.getBodies().get(0), c1.getBodies().get(0).getFixture(0),
+				c2.getBodies().get(0), c2.getBodies().get(0).getFixture(0), new Vector2(), new Vector2(), 3));
+
+		world.step(1);
+		assertTrue(notified[0] == 1);
+
+		world.step(1);
+		assertTrue(notified[0] == 1);
+	}
+
 	@Test
 	public void testSetStatic() {
 		world.setDynamic(false);
@@ -223,9 +262,153 @@ public class DynamicWorldTest {
 		world.begin(new ContactPoint(null, s1.getBodies().get(0), s1.getBodies().get(0).getFixture(0),
 				s2.getBodies().get(0), s2.getBodies().get(0).getFixture(0), new Vector2(), new Vector2(), 3));
 
+		// The events are dispatched at the end of the step
+		world.step(1);
+
 		// Assert the collision between 2 springs has been handled correctly
 		assertFalse(passed1);
 		assertTrue(passed2);
 	}
 
+	@Test
+	public void testStillCollide() {
+		world.setDynamic(false);
+
+		Coin c1 = new Coin(1, 100, 100);
+		Coin c2 = new Coin(1, 200, 100);
+		world.addAllComplexObjects(c1, c2);
+
+		final ContactPoint point = new ContactPoint(null, c1.getBodies().get(0), c1.getBodies().get(0).getFixture(0),
+				c2.getBodies().get(0), c2.getBodies().get(0).getFixture(0), new Vector2(), new Vector2(), 3);
+		final ContactPoint reversed = new ContactPoint(null, c2.getBodies().get(0),
+				c2.getBodies().get(0).getFixture(0), c1.getBodies().get(0), c1.getBodies().get(0).getFixture(0),
+				new Vector2(), new Vector2(), 3);
+
+		world.begin(point);
+		assertTrue(world.stillCollide(c1) && world.stillCollide(c2));
+		assertTrue(world.stillCollideWithOther(c1));
+		assertTrue(world.stillHaveCollisionsWithOther());
+		assertTrue(world.getColliders().size() == 1);
+
+		// The order of the objects doesn't matter
+		world.begin(reversed);
+		assertTrue(world.getColliders().size() == 1);
+
+		// The coins are far from each other, no contact is reported during
+		// the step and the collision ends
+		world.step(1);
+		assertFalse(world.stillCollide(c1) || world.stillCollide(c2));
+		assertFalse(world.stillHaveCollisionsWithOther());
+		assertTrue(world.getColliders().isEmpty());
+	}
+
+	@Test
+	public void testStaticCollideEnds() {
+		world.setDynamic(false);
+
+		Coin c1 = new Coin(1, 100, 100);
+		Coin c2 = new Coin(1, 101, 100);
+
+		c1.setOnStaticCollideEnds((point, object, body, world) -> {
+			if (object == c2) {
+				passed1 = true;
+			}
+		});
+		world.addAllComplexObjects(c1, c2);
+
+		// The 2 coins overlap, the collision stays while they do
+		world.step(3);
+		assertTrue(world.stillCollideWithOther(c1));
+		assertFalse(passed1);
+
+		c2.translate(200, 100);
+		world.step(1);
+		assertFalse(world.stillCollideWithOther(c1));
+		assertTrue(passed1);
+	}
+
+	@Test
+	public void testHeadlessStep() {
+		world = new DynamicWorld(height, width, -9.8, true);
+		assertTrue(world.isHeadless());
+
+		world.addBounds(Bounds.BOTTOM);
+		world.setDynamic(true);
+
+		Coin coin = new Coin(1, 250, 10);
+		coin.setOnDynamicCollide((point, object, body, world) -> {
+			passed1 = true;
+		});
+		world.addComplexObject(coin);
+
+		// The coin falls on the bottom bound within 2 seconds
+		world.step(120);
+
+		assertTrue(coin.getTranslate().y < 10);
+		assertTrue(passed1);
+	}
+
+	@Test
+	public void testSnapshotRestore() {
+		world = new DynamicWorld(height, width, -9.8, true);
+		world.addBounds(Bounds.BOTTOM);
+		world.setDynamic(true);
+
+		Coin coin = new Coin(1, 250, 10);
+		Coin other = new Coin(1, 100, 10);
+		Body body = coin.getBodies().get(0);
+
+		// The coin gets stuck to the other one when it hits the bottom
+		coin.setOnDynamicCollide((point, object, b, physicWorld) -> {
+			if (!passed1) {
+				passed1 = true;
+				coin.setMass(1);
+				physicWorld.addJoint(new WeldJoint(body, other.getBodies().get(0), new Vector2(175, 10)));
+			}
+		});
+		world.addAllComplexObjects(coin, other);
+
+		WorldState state = world.snapshot();
+		assertTrue(state.getJointCount() == 0);
+
+		world.step(120);
+
+		assertTrue(passed1);
+		assertTrue(coin.getTranslate().y < 10);
+		assertTrue(world.snapshot().getJointCount() == 1);
+
+		// Immobilized like a coin sticking to a wall
+		body.setMass(MassType.INFINITE);
+
+		world.restore(state);
+
+		assertTrue(coin.getTranslate().x == 250 && coin.getTranslate().y == 10);
+		assertTrue(body.getLinearVelocity().y == 0);
+		assertTrue(body.getMass() == Coin.COIN_MASS);
+		assertTrue(body.getMass().getType() == MassType.NORMAL);
+		assertTrue(world.snapshot().getJointCount() == 0);
+
+		// It falls the same way again
+		world.step(30);
+		assertTrue(coin.getTranslate().y < 10);
+	}
+
+	@Test
+	public void testEdit() {
+		final Coin coin = new Coin(1, 100, 100);
+		coin.translate(3, 4);
+		world.addComplexObject(coin);
+
+		final Body body = coin.getBodies().get(0);
+		final double x = body.getTransform().getTranslationX();
+
+		// The render transform is taken when the object is added, not read
+		// from the body when it is rendered
+		coin.translate(7, 8);
+		assertTrue(coin.getRenderTransform(body).getTranslationX() == x);
+
+		world.edit(() -> coin.translate(5, 6));
+		assertTrue(coin.getTranslate().x == 5 && coin.getTranslate().y == 6);
+	}
+
 }
@@ -7,10 +7,13 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
+import org.dyn4j.geometry.Vector2;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import game.BorderType;
+import game.GameOutcome;
 import game.GoldbergGame;
 import game.Inventory;
 import game.InventoryItem;
@@ -108,4 +111,27 @@ public class GoldbergGameTest {
 		assertTrue(GG1.getStatus().equals(GoldbergGame.Status.BUILDING));
 	}
 
+	/**
+	 * Test method for {@link game.GoldbergGame#predictOutcome(double)}.
+	 */
+	@Test
+	public void testPredictOutcome() {
+		// The world is not updated during the test
+		GG1.stop();
+
+		// The coin falls in the pot of gold
+		coin.translate(0, 7);
+		Vector2 position = coin.getTranslate();
+
+		GameOutcome outcome = GG1.predictOutcome(10);
+
+		assertTrue(outcome.hasWon());
+		assertTrue(outcome.getCapturedCoins() == 1);
+		assertTrue(outcome.getTime() > 0 && outcome.getTime() < 10);
+
+		// The game is put back as it was
+		assertTrue(GG1.getStatus().equals(GoldbergGame.Status.PREPARING));
+		assertTrue(coin.getTranslate().equals(position));
+	}
+
 }
@@ -0,0 +1,168 @@
+package tests;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import game.Level;
+import game.LevelSummary;
+import game.Planet;
+import utils.BufferingUtils;
+import utils.LevelCatalog;
+
+public class LevelCatalogTest {
+
+	private File repository;
+	private File file;
+
+	@Before
+	public void before() throws IOException {
+		repository = Files.createTempDirectory("levels").toFile();
+		file = new File(repository, "pop.god");
+
+		final Level level = new Level("pop", "popy", file.getPath());
+		level.setPlanet(Planet.MARS);
+		level.setScreenShot(new byte[] { 1, 2, 3 });
+		BufferingUtils.saveLevel(level);
+	}
+
+	@After
+	public void after() {
+		for (File f : repository.listFiles()) {
+			f.delete();
+		}
+		repository.delete();
+	}
+
+	/**
+	 * Test method for {@link utils.LevelCatalog#getSummaries()}.
+	 */
+	@Test
+	public void testGetSummaries() throws Exception {
+		List<LevelSummary> summaries = new LevelCatalog(repository).getSummaries();
+
+		assertTrue(summaries.size() == 1);
+		assertTrue(summaries.get(0).getName().equals("pop"));
+		assertTrue(new File(repository, LevelCatalog.INDEX_NAME).isFile());
+
+		// Same length and modification time : the summary comes from the
+		// index, the file is not read
+		final long modified = file.lastModified();
+		Files.write(file.toPath(), new byte[(int) file.length()]);
+		file.setLastModified(modified);
+
+		summaries = new LevelCatalog(repository).getSummaries();
+
+		assertTrue(summaries.size() == 1);
+		assertTrue(summaries.get(0).getName().equals("pop"));
+		assertTrue(summaries.get(0).getPlanet() == Planet.MARS);
+		assertTrue(summaries.get(0).getPath().equals(file.getPath()));
+
+		// Modified : the file is read again, and is not a level anymore
+		file.setLastModified(modified - 10_000);
+
+		assertTrue(new LevelCatalog(repository).getSummaries().isEmpty());
+
+		// Recorded as invalid : not read again, the index is not rewritten
+		final File index = new File(repository, LevelCatalog.INDEX_NAME);
+		index.setLastModified(modified - 20_000);
+
+		assertTrue(new LevelCatalog(repository).getSummaries().isEmpty());
+		assertTrue(index.lastModified() == modified - 20_000);
+	}
+
+	/**
+	 * Test method for {@link utils.LevelCatalog#getSummaries()} when a level is
+	 * added or deleted.
+	 */
+	@Test
+	public void testAddDeleteLevel() throws Exception {
+		final LevelCatalog catalog = new LevelCatalog(repository);
+		assertTrue(catalog.getSummaries().size() == 1);
+
+		final File other = new File(repository, "other.god");
+		BufferingUtils.saveLevel(new Level("other", "popy", other.getPath()));
+
+		assertTrue(catalog.getSummaries().size() == 2);
+
+		file.delete();
+
+		final List<LevelSummary> summaries = catalog.getSummaries();
+		assertTrue(summaries.size() == 1);
+		assertTrue(summaries.get(0).getName().equals("other"));
+		assertTrue(new LevelCatalog(repository).getSummaries().size() == 1);
+	}
+
+	/**
+	 * Test method for
+	 * {@link utils.LevelCatalog#getSummaries(utils.LevelCatalog.SummaryListener)}.
+	 */
+	@Test
+	public void testGetSummariesListener() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			BufferingUtils.saveLevel(new Level("level" + i, "popy", new File(repository, i + ".god").getPath()));
+		}
+		final LevelCatalog catalog = new LevelCatalog(repository);
+
+		// Read in parallel, then from the index
+		for (int pass = 0; pass < 2; pass++) {
+			final Set<String> names = Collections.synchronizedSet(new HashSet<>());
+			final Set<Integer> counts = Collections.synchronizedSet(new HashSet<>());
+
+			final List<LevelSummary> summaries = catalog.getSummaries((summary, read, total) -> {
+				names.add(summary.getName());
+				counts.add(read);
+				assertTrue(total == 11);
+			});
+
+			assertTrue(summaries.size() == 11);
+			assertTrue(names.size() == 11 && names.contains("pop") && names.contains("level9"));
+			assertTrue(counts.size() == 11 && counts.contains(1) && counts.contains(11));
+		}
+	}
+
+	/**
+	 * Test method for {@link utils.LevelCatalog#watch()}.
+	 */
+	@Test
+	public void testWatch() throws Exception {
+		final LevelCatalog catalog = LevelCatalog.getCatalog(repository);
+		assertTrue(catalog.isWatched());
+		assertTrue(catalog.getSummaries().size() == 1);
+
+		final BlockingQueue<Object[]> changes = new LinkedBlockingQueue<>();
+		catalog.addChangeListener((changed, summary) -> changes.add(new Object[] { changed, summary }));
+
+		// Copied in by someone else
+		final File other = new File(repository, "other.god");
+		Files.copy(file.toPath(), other.toPath());
+
+		Object[] change = changes.poll(10, TimeUnit.SECONDS);
+		assertTrue(change != null && change[0].equals(other));
+		assertTrue(((LevelSummary) change[1]).getName().equals("pop"));
+		assertTrue(catalog.getSummaries().size() == 2);
+
+		file.delete();
+
+		change = changes.poll(10, TimeUnit.SECONDS);
+		assertTrue(change != null && change[0].equals(file) && change[1] == null);
+
+		final List<LevelSummary> summaries = catalog.getSummaries();
+		assertTrue(summaries.size() == 1);
+		assertTrue(summaries.get(0).getPath().equals(other.getPath()));
+	}
+
+}
@@ -0,0 +1,168 @@
+package tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import game.Level;
+import gameObservables.Domino;
+import gameObservables.PotOfGold;
+import observables.AbstractComplexObservable;
+import observables.Surface;
+import utils.BufferingUtils;
+import utils.LevelJournal;
+
+public class LevelJournalTest {
+
+	private static final double DELTA = 1e-9;
+
+	private File repository;
+	private File file;
+	private Level level;
+
+	@Before
+	public void before() throws IOException {
+		repository = Files.createTempDirectory("levels").toFile();
+		file = new File(repository, "pop.god");
+
+		level = new Level("pop", "popy", file.getPath());
+		level.setHeight(20);
+		level.setWidth(30);
+		level.addFixedObject(new Surface(4, 1));
+	}
+
+	@After
+	public void after() {
+		for (File f : repository.listFiles()) {
+			f.delete();
+		}
+		repository.delete();
+	}
+
+	/**
+	 * Test method for {@link utils.LevelJournal#recover(java.io.File)}.
+	 */
+	@Test
+	public void testRecover() throws Exception {
+		final LevelJournal journal = new LevelJournal(level);
+		final File autosave = LevelJournal.getJournal(file);
+		final long snapshot = autosave.length();
+
+		final AbstractComplexObservable domino = new Domino();
+		domino.translate(3, 4);
+		level.addFixedObject(domino);
+		journal.added(domino);
+
+		final AbstractComplexObservable pot = new PotOfGold(2, 3);
+		level.addFixedObject(pot);
+		journal.added(pot);
+
+		domino.translate(5, 6);
+		domino.rotate(1);
+		journal.updated(domino);
+
+		// Not changed : not recorded
+		journal.updated(pot);
+
+		final AbstractComplexObservable surface = level.getFixedObject().get(0);
+		level.removeFixedObject(surface);
+		journal.removed(surface);
+		journal.close();
+
+		assertEquals(snapshot + 4 * LevelJournal.RECORD_SIZE, autosave.length());
+
+		final Level recovered = LevelJournal.recover(autosave);
+		final List<AbstractComplexObservable> objects = recovered.getFixedObject();
+
+		assertEquals("pop", recovered.getName());
+		assertEquals(file.getPath(), recovered.getPath());
+		assertEquals(30, recovered.getWidth(), DELTA);
+		assertEquals(2, objects.size());
+		assertTrue(objects.get(0) instanceof Domino);
+		assertEquals(5, objects.get(0).getTranslate().x, DELTA);
+		assertEquals(6, objects.get(0).getTranslate().y, DELTA);
+		assertEquals(1, objects.get(0).getRotate(), DELTA);
+		assertTrue(objects.get(1) instanceof PotOfGold);
+	}
+
+	/**
+	 * Test method for {@link utils.LevelJournal#recover(java.io.File)} after a
+	 * crash while a record was written.
+	 */
+	@Test
+	public void testRecoverTruncated() throws Exception {
+		final LevelJournal journal = new LevelJournal(level);
+		final File autosave = LevelJournal.getJournal(file);
+
+		final AbstractComplexObservable domino = new Domino();
+		level.addFixedObject(domino);
+		journal.added(domino);
+		domino.translate(7, 8);
+		journal.updated(domino);
+		journal.close();
+
+		try (RandomAccessFile raf = new RandomAccessFile(autosave, "rw")) {
+			raf.setLength(raf.length() - LevelJournal.RECORD_SIZE / 2);
+		}
+
+		final List<AbstractComplexObservable> objects = LevelJournal.recover(autosave).getFixedObject();
+
+		assertEquals(2, objects.size());
+		assertEquals(0, objects.get(1).getTranslate().x, DELTA);
+	}
+
+	/**
+	 * Test method for {@link utils.LevelJournal#compact()}.
+	 */
+	@Test
+	public void testCompact() throws Exception {
+		final LevelJournal journal = new LevelJournal(level);
+		final File autosave = LevelJournal.getJournal(file);
+		final AbstractComplexObservable surface = level.getFixedObject().get(0);
+
+		for (int i = 1; i <= LevelJournal.COMPACTION_THRESHOLD + 1; i++) {
+			surface.translate(i, i);
+			journal.updated(surface);
+		}
+
+		// Compacted once, then one record
+		assertTrue(autosave.length() < 2 * LevelJournal.RECORD_SIZE + 200);
+
+		surface.translate(1, 2);
+		journal.updated(surface);
+		journal.close();
+
+		final List<AbstractComplexObservable> objects = LevelJournal.recover(autosave).getFixedObject();
+
+		assertEquals(1, objects.size());
+		assertEquals(1, objects.get(0).getTranslate().x, DELTA);
+		assertEquals(2, objects.get(0).getTranslate().y, DELTA);
+	}
+
+	/**
+	 * Test method for {@link utils.LevelJournal#getOrphanJournals(java.io.File)}.
+	 */
+	@Test
+	public void testGetOrphanJournals() throws Exception {
+		final LevelJournal journal = new LevelJournal(level);
+
+		assertEquals(1, LevelJournal.getOrphanJournals(repository).size());
+
+		BufferingUtils.saveLevel(level);
+		assertTrue(LevelJournal.getOrphanJournals(repository).isEmpty());
+
+		journal.discard();
+		assertFalse(LevelJournal.getJournal(file).exists());
+	}
+
+}
@@ -0,0 +1,133 @@
+package tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import game.Level;
+import game.LevelSummary;
+import game.Planet;
+import gameObservables.Domino;
+import observables.AbstractComplexObservable;
+import utils.BufferingUtils;
+import utils.LevelPack;
+
+public class LevelPackTest {
+
+	private File repository;
+	private File pack;
+
+	@Before
+	public void before() throws IOException {
+		repository = Files.createTempDirectory("levels").toFile();
+		pack = new File(repository.getParentFile(), repository.getName() + LevelPack.EXTENSION);
+
+		final Level first = new Level("pop", "popy", new File(repository, "a.god").getPath());
+		first.setPlanet(Planet.MARS);
+		first.setScreenShot(new byte[] { 1, 2, 3 });
+
+		final AbstractComplexObservable domino = new Domino();
+		domino.translate(3, 4);
+		first.addFixedObject(domino);
+		BufferingUtils.saveLevel(first);
+
+		BufferingUtils.saveLevel(new Level("popo", "popy", new File(repository, "b.god").getPath()));
+	}
+
+	@After
+	public void after() {
+		for (File f : repository.listFiles()) {
+			f.delete();
+		}
+		repository.delete();
+		pack.delete();
+	}
+
+	/**
+	 * Test method for {@link utils.LevelPack#write(File, File)} and
+	 * {@link utils.LevelPack#getSummaries()}.
+	 */
+	@Test
+	public void testWrite() throws Exception {
+		assertEquals(2, LevelPack.write(repository, pack));
+
+		final LevelPack levels = LevelPack.getPack(pack);
+		assertSame(levels, LevelPack.getPack(pack));
+
+		final List<LevelSummary> summaries = levels.getSummaries();
+		assertEquals(2, summaries.size());
+
+		final LevelSummary first = summaries.get(0);
+		assertEquals("pop", first.getName());
+		assertEquals(Planet.MARS, first.getPlanet());
+		assertEquals(new File(pack, "a.god"), first.getFile());
+		assertSame(levels, first.getPack());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, first.getThumbnail());
+
+		assertEquals("popo", summaries.get(1).getName());
+		assertNull(summaries.get(1).getThumbnail());
+	}
+
+	/**
+	 * Test method for {@link utils.LevelPack#open(LevelSummary)}.
+	 */
+	@Test
+	public void testOpen() throws Exception {
+		LevelPack.write(repository, pack);
+
+		final Level level = LevelPack.getPack(pack).getSummaries().get(0).open();
+
+		assertEquals("pop", level.getName());
+		assertEquals(new File(pack, "a.god").getPath(), level.getPath());
+		assertEquals(1, level.getFixedObject().size());
+		assertTrue(level.getFixedObject().get(0) instanceof Domino);
+		assertEquals(4, level.getFixedObject().get(0).getTranslate().y, 1e-9);
+
+		// Not a level of this pack
+		try {
+			LevelPack.getPack(pack).open(BufferingUtils.readLevelSummary(new File(repository, "a.god")));
+			fail();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Test method for {@link utils.LevelPack#LevelPack(File)} with a file that
+	 * is not a pack.
+	 */
+	@Test
+	public void testInvalidPack() throws Exception {
+		Files.write(pack.toPath(), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18 });
+
+		try {
+			new LevelPack(pack);
+			fail();
+		} catch (IOException e) {
+		}
+
+		// Truncated
+		LevelPack.write(repository, pack);
+		final byte[] data = Files.readAllBytes(pack.toPath());
+		Files.write(pack.toPath(), Arrays.copyOf(data, data.length - 1));
+
+		try {
+			new LevelPack(pack);
+			fail();
+		} catch (IOException e) {
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package tests;
+
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import utils.LevelThumbnails;
+
+public class LevelThumbnailsTest {
+
+	/**
+	 * Test method for
+	 * {@link utils.LevelThumbnails#encode(java.awt.image.BufferedImage)}.
+	 */
+	@Test
+	public void testEncode() throws Exception {
+		final BufferedImage screenshot = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+
+		BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(LevelThumbnails.encode(screenshot)));
+
+		// Reduced to fit, with the same ratio
+		assertTrue(thumbnail.getWidth() == LevelThumbnails.MAX_WIDTH);
+		assertTrue(thumbnail.getHeight() == 338);
+
+		// Small images are kept as they are
+		thumbnail = ImageIO.read(new ByteArrayInputStream(
+				LevelThumbnails.encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB))));
+
+		assertTrue(thumbnail.getWidth() == 200 && thumbnail.getHeight() == 100);
+	}
+
+}
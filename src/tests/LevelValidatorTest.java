@@ -0,0 +1,62 @@
+package tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import game.LevelReport;
+import game.LevelValidator;
+import game.Settings;
+import utils.BufferingUtils;
+
+public class LevelValidatorTest {
+
+	private LevelValidator validator;
+
+	@Before
+	public void before() {
+		validator = new LevelValidator(2);
+	}
+
+	/**
+	 * Test method for {@link game.LevelValidator#validateAll(File...)}.
+	 */
+	@Test
+	public void testValidateAll() {
+		final File repository = new File("levels/personnal");
+		final List<LevelReport> reports = validator.validateAll(repository);
+
+		// The index of the catalog and the journals are not levels
+		int levels = 0;
+		for (File file : BufferingUtils.listFilesFromRepository(repository)) {
+			if (file.getName().endsWith(Settings.EXTENSION)) {
+				levels++;
+			}
+		}
+
+		assertTrue(reports.size() == levels);
+
+		for (LevelReport report : reports) {
+			assertTrue(report.isValid());
+			assertTrue(report.getSteps() > 0);
+			assertTrue(report.getOutcome().getTime() <= 2);
+		}
+	}
+
+	/**
+	 * Test method for {@link game.LevelValidator#validate(File)}.
+	 */
+	@Test
+	public void testValidateMissingFile() {
+		final LevelReport report = validator.validate(new File("levels/missing.god"));
+
+		assertFalse(report.isValid());
+		assertTrue(report.getOutcome() == null);
+	}
+
+}
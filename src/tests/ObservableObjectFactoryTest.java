@@ -0,0 +1,83 @@
+package tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import gameObservableControllers.StickWallController;
+import gameObservableViews.ObservableObjectFactory;
+import gameObservableViews.ObservableWrapper;
+import gameObservables.Observable;
+import gameObservables.StickWall;
+import javafx.scene.effect.Glow;
+import javafx.scene.layout.Pane;
+
+public class ObservableObjectFactoryTest {
+
+	/**
+	 * Controller of a view that doesn't need to be loaded.
+	 */
+	private static class Controller extends StickWallController {
+
+		private StickWall stickWall;
+		private int unbound;
+
+		@Override
+		public void setStickWall(StickWall stickWall) {
+			this.stickWall = stickWall;
+		}
+
+		@Override
+		public void unbind() {
+			unbound++;
+			stickWall = null;
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link gameObservableViews.ObservableObjectFactory#recycle(ObservableWrapper)}.
+	 */
+	@Test
+	public void testRecycle() {
+		final ObservableObjectFactory factory = new ObservableObjectFactory();
+		final int size = ObservableObjectFactory.getPoolSize(Observable.STICKWALL);
+
+		final Controller controller = new Controller();
+		final ObservableWrapper first = new ObservableWrapper();
+		first.instance = Observable.STICKWALL;
+		first.observable = factory.getObservableInstance(Observable.STICKWALL, 2, 1, 0);
+		first.controller = controller;
+		first.view = new Pane();
+		first.view.setEffect(new Glow());
+
+		final Pane parent = new Pane(first.view);
+
+		assertTrue(ObservableObjectFactory.recycle(first));
+		assertFalse(ObservableObjectFactory.recycle(first));
+		assertEquals(size + 1, ObservableObjectFactory.getPoolSize(Observable.STICKWALL));
+
+		// Removed from its parent and unbound
+		assertTrue(parent.getChildren().isEmpty());
+		assertEquals(1, controller.unbound);
+		assertNull(controller.stickWall);
+
+		// Reused for the next object of the same type
+		final ObservableWrapper second = factory.getWrapperInstance(Observable.STICKWALL, 3, 1, 0);
+		assertEquals(size, ObservableObjectFactory.getPoolSize(Observable.STICKWALL));
+
+		assertSame(first.view, second.view);
+		assertSame(controller, second.controller);
+		assertSame(second.observable, controller.stickWall);
+		assertNull(second.view.getEffect());
+
+		// Not kept without view
+		first.view = null;
+		assertFalse(ObservableObjectFactory.recycle(first));
+	}
+
+}
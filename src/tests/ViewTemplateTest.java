@@ -0,0 +1,136 @@
+package tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Test;
+
+import gameObservableViews.ObservableObjectFactory;
+import gameObservableViews.ViewTemplate;
+import javafx.fxml.FXML;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+public class ViewTemplateTest {
+
+	/**
+	 * Controller of the view of {@link ViewTemplateTest#testCreate()}.
+	 */
+	public static class Controller {
+
+		@FXML
+		private Rectangle rectangle;
+
+		private int pressed;
+		private boolean initialized;
+
+		@FXML
+		private void initialize() {
+			initialized = rectangle != null;
+		}
+
+		@FXML
+		private void notifyPressed(MouseEvent event) {
+			pressed++;
+		}
+	}
+
+	private static final String VIEW = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<?import javafx.scene.layout.*?>\n" + "<?import javafx.scene.shape.Rectangle?>\n"
+			+ "<Pane prefHeight=\"22.0\" minWidth=\"-Infinity\" xmlns=\"http://javafx.com/javafx/8.0.72\" "
+			+ "xmlns:fx=\"http://javafx.com/fxml/1\" fx:controller=\"tests.ViewTemplateTest$Controller\">\n"
+			+ "   <children>\n"
+			+ "      <Rectangle fx:id=\"rectangle\" width=\"12.5\" layoutX=\"3.0\" pickOnBounds=\"true\" "
+			+ "onMousePressed=\"#notifyPressed\" />\n" + "   </children>\n" + "</Pane>\n";
+
+	private File file;
+
+	@After
+	public void after() {
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test method for {@link gameObservableViews.ViewTemplate#get(URL)} with the
+	 * views of the objects.
+	 */
+	@Test
+	public void testObjectViews() throws Exception {
+		final String[] paths = { ObservableObjectFactory.SPRING_FXML_PATH, ObservableObjectFactory.ROPE_FXML_PATH,
+				ObservableObjectFactory.BASCULE_FXML_PATH, ObservableObjectFactory.POT_OF_GOLD_FXML_PATH,
+				ObservableObjectFactory.STICKWALL_FXML_PATH, ObservableObjectFactory.SURFACE_FXML_PATH,
+				ObservableObjectFactory.COIN_FXML_PATH, ObservableObjectFactory.STICK_BASCULE_FXML_PATH,
+				ObservableObjectFactory.DOMINO_FXML };
+
+		for (String path : paths) {
+			final URL url = ObservableObjectFactory.class.getResource(path);
+			final ViewTemplate template = ViewTemplate.get(url);
+
+			assertTrue(path, template.isCompiled());
+			assertSame(template, ViewTemplate.get(url));
+		}
+	}
+
+	/**
+	 * Test method for {@link gameObservableViews.ViewTemplate#create()}.
+	 */
+	@Test
+	public void testCreate() throws Exception {
+		final ViewTemplate template = ViewTemplate.get(write(VIEW));
+		assertTrue(template.isCompiled());
+
+		final ViewTemplate.View first = template.create();
+		final ViewTemplate.View second = template.create();
+
+		assertNotSame(first.node, second.node);
+		assertNotSame(first.controller, second.controller);
+
+		final Pane pane = (Pane) first.node;
+		final Controller controller = (Controller) first.controller;
+
+		assertEquals(22, pane.getPrefHeight(), 0);
+		assertEquals(Double.NEGATIVE_INFINITY, pane.getMinWidth(), 0);
+		assertEquals(1, pane.getChildren().size());
+
+		final Rectangle rectangle = (Rectangle) pane.getChildren().get(0);
+		assertSame(rectangle, controller.rectangle);
+		assertEquals("rectangle", rectangle.getId());
+		assertEquals(12.5, rectangle.getWidth(), 0);
+		assertEquals(3, rectangle.getLayoutX(), 0);
+		assertTrue(rectangle.isPickOnBounds());
+		assertTrue(controller.initialized);
+
+		rectangle.getOnMousePressed().handle(null);
+		assertEquals(1, controller.pressed);
+		assertEquals(0, ((Controller) second.controller).pressed);
+	}
+
+	/**
+	 * Test method for {@link gameObservableViews.ViewTemplate#isCompiled()}
+	 * with a file using an expression.
+	 */
+	@Test
+	public void testUnsupported() throws Exception {
+		assertFalse(ViewTemplate.get(write(VIEW.replace("12.5", "$width"))).isCompiled());
+	}
+
+	private URL write(String content) throws IOException {
+		file = File.createTempFile("view", ".fxml");
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file.toURI().toURL();
+	}
+
+}
@@ -1,76 +1,178 @@
 package utils;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import game.BorderType;
 import game.InventoryItem;
 import game.Level;
+import game.LevelSummary;
 import game.Planet;
-import gameObservableViews.ObservableObjectFactory;
+import gameObservables.ObservableFactory;
 import observables.AbstractComplexObservable;
 
 public class BufferingUtils {
 
+	/**
+	 * The size of the buffer used to read the header of a level. Most headers
+	 * are read in a single read.
+	 */
+	private static final int HEADER_BUFFER_SIZE = 512;
+
+	/**
+	 * The thread writing the levels saved by
+	 * {@link #saveLevelInBackground(Level)}, one after the other. It stops
+	 * when it has nothing to write, so the application can exit once the
+	 * levels are written.
+	 */
+	private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), (runnable) -> new Thread(runnable, "Level writer"));
+
+	static {
+		WRITER.allowCoreThreadTimeOut(true);
+	}
+
 	/**
 	 * Saves the level sent in parameter to the Level's path returned by
-	 * {@link Level#getPath()}. This level can be open again using
-	 * {@link #openLevel(File)}.
+	 * {@link Level#getPath()}, in the {@link LevelFormat}. This level can be
+	 * open again using {@link #openLevel(File)}.
+	 * 
+	 * If the level has no screenshot, because it was opened and not modified
+	 * in the builder, the thumbnail already in the file is kept.
+	 * 
+	 * The file is replaced atomically, see {@link #writeAtomically(File, byte[])},
+	 * so a level is never left half written.
 	 * 
 	 * @param level
-	 *            The level to serialize.
+	 *            The level to save.
 	 */
 	public static void saveLevel(Level level) {
 
 		File file = new File(level.getPath());
-		ObjectOutputStream stream = null;
-		FileOutputStream fStream = null;
 
 		try {
-			// Open streams
-			fStream = new FileOutputStream(file);
-			stream = new ObjectOutputStream(fStream);
-
-			// Writes properties
-			stream.writeObject(level.getCreator());
-			stream.writeObject(level.getName());
-			stream.writeObject(level.getBorders());
-			stream.writeDouble(level.getHeight());
-			stream.writeDouble(level.getWidth());
-			stream.writeObject(level.getScreenShot());
-			stream.writeObject(level.getPlanet());
-
-			final List<AbstractComplexObservable> fixed = level.getFixedObject();
-			// Writes the size of the children
-			stream.writeInt(fixed.size());
-
-			// Then convert the children to Serializable objects, then serialize
-			// them.
-			for (AbstractComplexObservable object : fixed) {
-
-				ObservableSerializableWrapper wrapper = new ObservableSerializableWrapper();
-				wrapper.setObservable(object);
-				stream.writeObject(wrapper);
-			}
-			// Writes the allowed inventory
-			final List<InventoryItem> inventory = level.getInventory().getItems();
-
-			stream.writeObject(inventory);
 
-			stream.flush();
-			stream.close();
+			writeAtomically(file, encodeLevel(level, file));
+			LevelThumbnails.invalidate(file.getPath());
 
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Saves the level like {@link #saveLevel(Level)}, but without waiting for
+	 * the file to be written. The level is encoded by the calling thread, so
+	 * it can be modified once this method returns, then the file is written by
+	 * a background thread. The levels are written in the order they are
+	 * saved.
+	 * 
+	 * @param level
+	 *            The level to save.
+	 * @return The future completed with the file of the level once it is
+	 *         written, or completed exceptionally if it could not be saved.
+	 */
+	public static CompletableFuture<File> saveLevelInBackground(Level level) {
+
+		final File file = new File(level.getPath());
+		final byte[] data;
+
+		try {
+			data = encodeLevel(level, file);
+		} catch (IOException e) {
+			final CompletableFuture<File> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				writeAtomically(file, data);
+				LevelThumbnails.invalidate(file.getPath());
+				return file;
+			} catch (IOException e) {
+				throw new IllegalStateException("The level could not be saved : " + file.getPath(), e);
+			}
+		}, WRITER);
+	}
+
+	/**
+	 * Encodes the level in the {@link LevelFormat}. If the level has no
+	 * screenshot, the thumbnail of the file of the level is kept.
+	 */
+	private static byte[] encodeLevel(Level level, File file) throws IOException {
+
+		byte[] thumbnail = level.getScreenShot();
+
+		if (thumbnail == null && file.isFile()) {
+			try {
+				thumbnail = readLevelSummary(file).getThumbnail();
+			} catch (IOException | ClassNotFoundException e) {
+				e.printStackTrace();
+			}
+		}
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		LevelFormat.write(level, thumbnail, stream);
+		return stream.toByteArray();
+	}
+
+	/**
+	 * Replaces the content of the file by the data. The data is written in a
+	 * temporary file of the same repository, forced to the disk, then the
+	 * temporary file is renamed to the file. If anything fails, the file keeps
+	 * its previous content.
+	 * 
+	 * @param file
+	 *            The file to write
+	 * @param data
+	 *            The new content of the file
+	 * @throws IOException
+	 *             If the file can't be written
+	 */
+	public static void writeAtomically(File file, byte[] data) throws IOException {
+
+		final File directory = file.getAbsoluteFile().getParentFile();
+		final File temp = File.createTempFile(file.getName(), ".tmp", directory);
+
+		try {
+			try (FileOutputStream stream = new FileOutputStream(temp)) {
+				stream.write(data);
+				stream.getFD().sync();
+			}
+
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} finally {
+			// Only exists if it could not be renamed
+			temp.delete();
+		}
+	}
+
 	/**
 	 * Read all the levels contained in the repository file specified in
 	 * parameter and return them as a List.
@@ -87,6 +189,12 @@ public class BufferingUtils {
 		final List<Level> personnalLevels = new ArrayList<>();
 
 		for (File f : personnalFiles) {
+
+			// The index of the catalog and the journals are not levels
+			if (f.getName().equals(LevelCatalog.INDEX_NAME) || f.getName().endsWith(LevelJournal.EXTENSION)) {
+				continue;
+			}
+
 			try {
 
 				personnalLevels.add(openLevel(f));
@@ -98,9 +206,112 @@ public class BufferingUtils {
 		return personnalLevels;
 	}
 
+	/**
+	 * Reads the summaries of all the levels contained in the repository file
+	 * specified in parameter. Only the headers of the files are read, the
+	 * levels are opened with {@link LevelSummary#open()}.
+	 * 
+	 * The summaries of a repository come from its {@link LevelCatalog}, so
+	 * only the files that changed since they were last read are read.
+	 * 
+	 * @param repository
+	 *            The repository where the level are stored.
+	 * @return The summaries of the levels contained in the repository.
+	 */
+	public static List<LevelSummary> readAllLevelSummaries(File repository) {
+
+		if (repository.isDirectory()) {
+			return LevelCatalog.getCatalog(repository).getSummaries();
+		}
+
+		final List<File> files = listFilesFromRepository(repository);
+		final List<LevelSummary> summaries = new ArrayList<>();
+
+		for (File f : files) {
+			try {
+
+				summaries.add(readLevelSummary(f));
+
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		return summaries;
+	}
+
+	/**
+	 * Reads the summary of the level contained in the file sent in parameter,
+	 * from the header of the file only. For the files serialized by the
+	 * previous versions of the game, the stream is read until the thumbnail,
+	 * which is kept by the summary.
+	 * 
+	 * @param file
+	 *            The file of the level
+	 * @return The summary of the level contained in the file
+	 * 
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	public static LevelSummary readLevelSummary(File file) throws IOException, ClassNotFoundException {
+
+		try (DataInputStream stream = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file), HEADER_BUFFER_SIZE))) {
+
+			stream.mark(4);
+			final byte[] magic = new byte[4];
+			final int read = stream.read(magic);
+			stream.reset();
+
+			if (read == 4 && LevelFormat.isBinary(magic)) {
+				return LevelFormat.readSummary(stream, file);
+
+			} else if (read >= 2 && LevelFormat.isLegacy(magic)) {
+				return readLegacyLevelSummary(stream, file);
+
+			} else {
+				throw new IOException("Not a level file : " + file.getPath());
+			}
+		}
+	}
+
+	/**
+	 * Reads the thumbnail of the level from its file, at the position given by
+	 * the summary. If the position is not known, the header of the file is
+	 * read again to find it.
+	 * 
+	 * @param summary
+	 *            The summary of the level
+	 * @return The thumbnail, or null if the level has none
+	 * @throws IOException
+	 *             If the file can't be read
+	 */
+	public static byte[] readThumbnail(LevelSummary summary) throws IOException {
+
+		if (summary.getThumbnailLength() < 0) {
+			return null;
+
+		} else if (summary.getThumbnailOffset() < 0) {
+			try {
+				return readLevelSummary(summary.getFile()).getThumbnail();
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e);
+			}
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(summary.getFile(), "r")) {
+
+			final byte[] thumbnail = new byte[summary.getThumbnailLength()];
+			file.seek(summary.getThumbnailOffset());
+			file.readFully(thumbnail);
+			return thumbnail;
+		}
+	}
+
 	/**
 	 * Opens the Level contained in the file sent in parameter. This method
-	 * unserialize objects the way {@link #saveLevel(Level)} has saved them.
+	 * reads the level the way {@link #saveLevel(Level)} has saved it, in the
+	 * {@link LevelFormat}. The files serialized by the previous versions of
+	 * the game can still be opened.
 	 * 
 	 * @param file
 	 *            The file of the level
@@ -111,14 +322,38 @@ public class BufferingUtils {
 	 */
 	public static Level openLevel(File file) throws IOException, ClassNotFoundException {
 
+		final byte[] data = Files.readAllBytes(file.toPath());
+
+		if (LevelFormat.isBinary(data)) {
+			return LevelFormat.read(data, file.getPath());
+
+		} else if (LevelFormat.isLegacy(data)) {
+			return openLegacyLevel(data, file);
+
+		} else {
+			throw new IOException("Not a level file : " + file.getPath());
+		}
+	}
+
+	/**
+	 * Opens a level serialized by the previous versions of the game, that
+	 * wrote the levels with an {@link ObjectOutputStream}.
+	 * 
+	 * @param data
+	 *            The content of the file
+	 * @param file
+	 *            The file of the level
+	 * @return The level contained in the file
+	 * 
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private static Level openLegacyLevel(byte[] data, File file) throws IOException, ClassNotFoundException {
+
 		Level level = null;
-		ObjectInputStream stream = null;
-		FileInputStream fStream = null;
-		ObservableObjectFactory factory = new ObservableObjectFactory();
 
 		// Open the stream
-		fStream = new FileInputStream(file);
-		stream = new ObjectInputStream(fStream);
+		ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(data));
 
 		// Reads default parameters and create the level back again.
 		String creator = (String) stream.readObject();
@@ -130,7 +365,7 @@ public class BufferingUtils {
 		level.setBorders((BorderType) stream.readObject());
 		level.setHeight(stream.readDouble());
 		level.setWidth(stream.readDouble());
-		level.setScreenShot((byte[]) stream.readObject());
+		stream.readObject(); // The screenshot is read with the summary
 		level.setPlanet((Planet) stream.readObject());
 
 		// Reads the fixed object that it was containing
@@ -141,8 +376,10 @@ public class BufferingUtils {
 
 			ObservableSerializableWrapper wrapper = (ObservableSerializableWrapper) stream.readObject();
 			
-			AbstractComplexObservable object = factory.getWrapperInstance(wrapper.instance, wrapper.param1,
-					wrapper.param2, wrapper.param3).observable;
+			// Only the object is created, its view is created when the level
+			// is displayed
+			AbstractComplexObservable object = ObservableFactory.create(wrapper.instance, wrapper.param1,
+					wrapper.param2, wrapper.param3);
 			
 
 			// Gives to the object its old values
@@ -163,6 +400,37 @@ public class BufferingUtils {
 		return level;
 	}
 
+	/**
+	 * Reads the summary of a level serialized by the previous versions of the
+	 * game. The header of these files ends with the thumbnail, so it is read
+	 * with the header, but the objects are not.
+	 * 
+	 * @param in
+	 *            The content of the file, from its start
+	 * @param file
+	 *            The file of the level
+	 * @return The summary of the level
+	 * 
+	 * @throws IOException
+	 * @throws ClassNotFoundException
+	 */
+	private static LevelSummary readLegacyLevelSummary(InputStream in, File file)
+			throws IOException, ClassNotFoundException {
+
+		final ObjectInputStream stream = new ObjectInputStream(in);
+
+		final String creator = (String) stream.readObject();
+		final String name = (String) stream.readObject();
+
+		stream.readObject(); // borders
+		final double height = stream.readDouble();
+		final double width = stream.readDouble();
+		final byte[] thumbnail = (byte[]) stream.readObject();
+		final Planet planet = (Planet) stream.readObject();
+
+		return new LevelSummary(file, name, creator, height, width, planet, thumbnail);
+	}
+
 	/**
 	 * List the files contained in the repository sent in parameter.
 	 * 
@@ -0,0 +1,206 @@
+package utils;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.scene.image.Image;
+
+/**
+ * The images of the game : the artwork of the objects, the planets, the
+ * borders and the icons.
+ *
+ * The images are decoded once, usually in the background, and shared by all
+ * the views displaying them. They are kept by URL and requested size, so a picture
+ * displayed as a small icon is decoded at that size, and not at the size of
+ * the original file. The least recently used images are removed from the
+ * cache once the memory taken by the decoded images is over {@link #BUDGET}.
+ * An image removed is still displayed by the views using it, it is only
+ * decoded again the next time it is requested.
+ *
+ * The thumbnails of the levels are not kept here, see {@link LevelThumbnails}.
+ *
+ * @author sunny
+ *
+ */
+public final class ImageCache {
+
+	/**
+	 * The maximum memory, in bytes, of the decoded images kept in the cache.
+	 */
+	public static final long BUDGET = 128L * 1024 * 1024;
+
+	/**
+	 * The bytes taken by a pixel of a decoded image.
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/**
+	 * The key of an image : its URL and its requested size.
+	 */
+	private static class Key {
+
+		private final String url;
+		private final double width, height;
+
+		private Key(String url, double width, double height) {
+			this.url = url;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) obj;
+			return url.equals(key.url) && width == key.width && height == key.height;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(url, width, height);
+		}
+	}
+
+	/**
+	 * The images, in access order, so the least recently used is removed
+	 * first.
+	 */
+	private static final Map<Key, Image> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+	private ImageCache() {
+	}
+
+	/**
+	 * Returns the image of the URL, at the size of the file.
+	 *
+	 * @param url
+	 *            The URL of the image
+	 * @return The image, possibly still being decoded
+	 * @see #get(String, double, double)
+	 */
+	public static Image get(String url) {
+		return get(url, 0, 0);
+	}
+
+	/**
+	 * Returns the image of the URL, reduced to fit in the requested size,
+	 * keeping its ratio. The image is decoded in the background the first
+	 * time it is requested at this size, the same image is returned the next
+	 * times, unless it was removed from the cache or could not be decoded.
+	 *
+	 * @param url
+	 *            The URL of the image
+	 * @param width
+	 *            The requested width of the image, or 0 to compute it from
+	 *            the height
+	 * @param height
+	 *            The requested height of the image, or 0 to compute it from
+	 *            the width
+	 * @return The image, possibly still being decoded
+	 */
+	public static Image get(String url, double width, double height) {
+		return get(url, width, height, true);
+	}
+
+	/**
+	 * Returns the image of the URL, reduced to fit in the requested size,
+	 * keeping its ratio. If the image is not in the cache, it is decoded in
+	 * the background, or before this method returns if background is false,
+	 * as for the images declared in the FXML files. An image of the cache is
+	 * returned as it is, even if it is still being decoded.
+	 *
+	 * @param url
+	 *            The URL of the image
+	 * @param width
+	 *            The requested width of the image, or 0 to compute it from
+	 *            the height
+	 * @param height
+	 *            The requested height of the image, or 0 to compute it from
+	 *            the width
+	 * @param background
+	 *            True to decode the image in the background
+	 * @return The image
+	 */
+	public static Image get(String url, double width, double height, boolean background) {
+		final Key key = new Key(url, width, height);
+
+		synchronized (cache) {
+			Image image = cache.get(key);
+
+			if (image == null || image.isError()) {
+				image = new Image(url, width, height, true, true, background);
+				cache.put(key, image);
+				trim();
+			}
+			return image;
+		}
+	}
+
+	/**
+	 * Returns the image of the resource of the game, at the size of the file.
+	 *
+	 * @param path
+	 *            The path of the resource, such as "/images/coinSmile.gif"
+	 * @return The image, possibly still being decoded
+	 * @throws IllegalArgumentException
+	 *             If there is no such resource
+	 */
+	public static Image getResource(String path) {
+		final URL url = ImageCache.class.getResource(path);
+
+		if (url == null) {
+			throw new IllegalArgumentException("No image resource : " + path);
+		}
+		return get(url.toExternalForm());
+	}
+
+	/**
+	 * @return The memory, in bytes, taken by the images of the cache already
+	 *         decoded.
+	 */
+	public static long getSize() {
+		synchronized (cache) {
+			long size = 0;
+
+			for (Image image : cache.values()) {
+				size += weigh(image);
+			}
+			return size;
+		}
+	}
+
+	/**
+	 * Removes all the images from the cache.
+	 */
+	public static void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Removes the least recently used images until the cache is under its
+	 * budget. The last image requested is always kept.
+	 */
+	private static void trim() {
+		long size = getSize();
+
+		for (Iterator<Image> it = cache.values().iterator(); size > BUDGET && cache.size() > 1;) {
+			size -= weigh(it.next());
+			it.remove();
+		}
+	}
+
+	/**
+	 * @return The memory, in bytes, taken by the image once decoded, or 0 if
+	 *         it is still being decoded.
+	 */
+	private static long weigh(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+}
@@ -0,0 +1,597 @@
+package utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import game.LevelSummary;
+import game.Planet;
+import game.Settings;
+
+/**
+ * The index of the levels of a repository, saved in the file
+ * {@link #INDEX_NAME} of the repository.
+ *
+ * The index keeps the {@link LevelSummary} of every level file, with the last
+ * modification time and the length of the file when it was read. When the
+ * summaries are asked with {@link #getSummaries()}, only the files that were
+ * added, or whose modification time or length changed since, are read again.
+ * The other summaries come from the index, so listing the levels costs a
+ * single read of the index, and the index is written back only if it
+ * changed.
+ *
+ * The files are read in parallel, on a pool using all the available
+ * processors, and every summary can be published as soon as it is read with a
+ * {@link SummaryListener}.
+ *
+ * The catalogs returned by {@link #getCatalog(File)} are watched : their
+ * repository is listed once, then the files created, modified or deleted are
+ * read as soon as they change, the {@link ChangeListener}s are told, and the
+ * summaries are returned from memory.
+ *
+ * The files that are not valid levels are recorded too, without summary, so
+ * they are not read again until they change.
+ *
+ * If the index can't be read, it is rebuilt from the level files.
+ *
+ * @author sunny
+ *
+ */
+public class LevelCatalog {
+
+	/**
+	 * The name of the file of the index, in the repository of the levels.
+	 */
+	public static final String INDEX_NAME = ".catalog";
+
+	/**
+	 * The first 4 bytes of the index : "GCAT".
+	 */
+	private static final int MAGIC = 0x47434154;
+
+	/**
+	 * The version of the format of the index. An index of another version is
+	 * rebuilt.
+	 */
+	private static final short VERSION = 2;
+
+	/**
+	 * Listener told of every level file read by
+	 * {@link LevelCatalog#getSummaries(SummaryListener)}.
+	 *
+	 * @author sunny
+	 *
+	 */
+	@FunctionalInterface
+	public interface SummaryListener {
+
+		/**
+		 * Called when a level file has been read. Can be called from any
+		 * thread.
+		 *
+		 * @param summary
+		 *            The summary of the level, or null if the file is not a
+		 *            valid level
+		 * @param read
+		 *            The number of files read so far, this one included
+		 * @param total
+		 *            The number of files to read
+		 */
+		public void summaryRead(LevelSummary summary, int read, int total);
+	}
+
+	/**
+	 * Listener told of the changes of the levels of a watched catalog.
+	 *
+	 * @author sunny
+	 *
+	 */
+	@FunctionalInterface
+	public interface ChangeListener {
+
+		/**
+		 * Called, from the thread of the watcher, when a level file was
+		 * created, modified or deleted.
+		 *
+		 * @param file
+		 *            The level file
+		 * @param summary
+		 *            The new summary of the level, or null if the file was
+		 *            deleted or is not a valid level anymore
+		 */
+		public void levelChanged(File file, LevelSummary summary);
+	}
+
+	/**
+	 * The pool reading the level files, shared by all the catalogs.
+	 */
+	private static final ForkJoinPool READERS = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * A level of the index.
+	 */
+	private static class Entry {
+
+		/**
+		 * The last modification time of the file when it was read.
+		 */
+		private final long modified;
+
+		/**
+		 * The length of the file when it was read.
+		 */
+		private final long length;
+
+		/**
+		 * The summary of the level, or null if the file is not a valid level.
+		 */
+		private final LevelSummary summary;
+
+		private Entry(long modified, long length, LevelSummary summary) {
+			this.modified = modified;
+			this.length = length;
+			this.summary = summary;
+		}
+
+		/**
+		 * @return True if the file changed since it was read.
+		 */
+		private boolean isStale(File file) {
+			return file.lastModified() != modified || file.length() != length;
+		}
+	}
+
+	/**
+	 * The catalogs already created, by the absolute path of their repository.
+	 */
+	private static final Map<String, LevelCatalog> catalogs = new HashMap<>();
+
+	/**
+	 * The repository of the levels.
+	 */
+	private final File repository;
+
+	/**
+	 * The file of the index.
+	 */
+	private final File index;
+
+	/**
+	 * The levels of the index, by their path relative to the repository. Null
+	 * until the index is read.
+	 */
+	private Map<String, Entry> entries;
+
+	/**
+	 * True if the repository is watched, so the entries are kept up to date.
+	 */
+	private boolean watched;
+
+	/**
+	 * True once the entries match the files of the watched repository, so it
+	 * doesn't need to be listed again.
+	 */
+	private boolean listed;
+
+	/**
+	 * The listeners told of the changes of the levels.
+	 */
+	private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Constructs the catalog of the repository. The index is read the first
+	 * time the summaries are asked.
+	 *
+	 * @param repository
+	 *            The repository of the levels
+	 */
+	public LevelCatalog(File repository) {
+		this.repository = repository;
+		this.index = new File(repository, INDEX_NAME);
+	}
+
+	/**
+	 * Returns the catalog of the repository. The catalog is created the first
+	 * time, then the same catalog is returned, so its index is only read
+	 * once. The repository is watched, if it exists.
+	 *
+	 * @param repository
+	 *            The repository of the levels
+	 * @return The catalog of the repository
+	 */
+	public static synchronized LevelCatalog getCatalog(File repository) {
+		final LevelCatalog catalog = catalogs.computeIfAbsent(
+				repository.getAbsoluteFile().toPath().normalize().toString(), path -> new LevelCatalog(repository));
+
+		catalog.watch();
+		return catalog;
+	}
+
+	/**
+	 * Watches the repository, so the catalog is kept up to date as its files
+	 * change, and the {@link ChangeListener}s are told. The repository is
+	 * listed once more, on the next call to {@link #getSummaries()}. Nothing
+	 * is done if it is already watched, or if it can't be.
+	 */
+	public synchronized void watch() {
+		if (!watched && repository.isDirectory()) {
+			try {
+				LevelWatcher.register(this, repository);
+				watched = true;
+				listed = false;
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * @return True if the repository is watched.
+	 */
+	public synchronized boolean isWatched() {
+		return watched;
+	}
+
+	/**
+	 * Adds a listener told of the changes of the levels, while the repository
+	 * is watched.
+	 *
+	 * @param listener
+	 *            The listener
+	 */
+	public void addChangeListener(ChangeListener listener) {
+		changeListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added by {@link #addChangeListener(ChangeListener)}.
+	 *
+	 * @param listener
+	 *            The listener
+	 */
+	public void removeChangeListener(ChangeListener listener) {
+		changeListeners.remove(listener);
+	}
+
+	/**
+	 * Returns the summaries of all the levels of the repository, and of its
+	 * sub repositories. The files that changed since the last call are read
+	 * again, and the index is saved if it changed. The files that are not
+	 * levels are ignored.
+	 *
+	 * @return The summaries of the levels, in the order the files were found.
+	 */
+	public List<LevelSummary> getSummaries() {
+		return getSummaries(null);
+	}
+
+	/**
+	 * Returns the summaries of all the levels of the repository, and of its
+	 * sub repositories, and tells the listener of every file as soon as it is
+	 * read. The summaries still valid in the index are published first, then
+	 * the files that changed since the last call are read in parallel, and
+	 * the index is saved if it changed. The files that are not levels are
+	 * ignored.
+	 *
+	 * Once a watched repository has been listed, the summaries are published
+	 * and returned from memory, without accessing the files.
+	 *
+	 * @param listener
+	 *            The listener told of every file read. Can be null.
+	 * @return The summaries of the levels, in the order the files were found.
+	 */
+	public synchronized List<LevelSummary> getSummaries(SummaryListener listener) {
+
+		if (entries == null) {
+			entries = readIndex();
+		}
+
+		if (listed) {
+			final List<LevelSummary> summaries = new ArrayList<>(entries.size());
+
+			int count = 0;
+
+			for (Entry entry : entries.values()) {
+				if (entry.summary != null) {
+					summaries.add(entry.summary);
+				}
+				publish(listener, entry, ++count, entries.size());
+			}
+			return summaries;
+		}
+
+		final List<File> files = new ArrayList<>();
+
+		for (File file : BufferingUtils.listFilesFromRepository(repository)) {
+			if (file.getName().endsWith(Settings.EXTENSION)) {
+				files.add(file);
+			}
+		}
+
+		final String[] keys = new String[files.size()];
+		final Entry[] read = new Entry[files.size()];
+		final List<ForkJoinTask<Entry>> tasks = new ArrayList<>();
+		final AtomicInteger count = new AtomicInteger();
+
+		// The valid entries first, as they don't need to be read
+		for (int i = 0; i < keys.length; i++) {
+			final File file = files.get(i);
+			keys[i] = repository.toPath().relativize(file.toPath()).toString();
+
+			final Entry entry = entries.get(keys[i]);
+
+			if (entry != null && !entry.isStale(file)) {
+				read[i] = entry;
+				publish(listener, entry, count.incrementAndGet(), keys.length);
+			}
+		}
+
+		// Then the others, in parallel
+		for (int i = 0; i < keys.length; i++) {
+			if (read[i] == null) {
+				final File file = files.get(i);
+
+				tasks.add(READERS.submit(() -> {
+					final Entry entry = readEntry(file);
+					publish(listener, entry, count.incrementAndGet(), keys.length);
+					return entry;
+				}));
+			} else {
+				tasks.add(null);
+			}
+		}
+
+		final Map<String, Entry> current = new HashMap<>();
+		final List<LevelSummary> summaries = new ArrayList<>();
+		boolean changed = false;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (tasks.get(i) != null) {
+				read[i] = tasks.get(i).join();
+				changed = true;
+			}
+
+			current.put(keys[i], read[i]);
+			if (read[i].summary != null) {
+				summaries.add(read[i].summary);
+			}
+		}
+
+		if (changed || current.size() != entries.size()) {
+			entries = current;
+			writeIndex();
+		}
+		listed = watched;
+
+		return summaries;
+	}
+
+	/**
+	 * Reads the level files that were created or modified, and removes the
+	 * ones that were deleted, then tells the {@link ChangeListener}s. Called
+	 * by the {@link LevelWatcher}. Nothing is done until the repository is
+	 * listed.
+	 *
+	 * @param files
+	 *            The level files that changed
+	 */
+	synchronized void update(Collection<File> files) {
+
+		if (!listed) {
+			return;
+		}
+
+		boolean changed = false;
+
+		for (File file : files) {
+			if (!file.getName().endsWith(Settings.EXTENSION)) {
+				continue;
+			}
+
+			final String key = repository.toPath().relativize(file.toPath()).toString();
+			final Entry old = entries.get(key);
+
+			if (old != null && file.isFile() && !old.isStale(file)) {
+				continue;
+			}
+
+			final Entry entry = file.isFile() ? readEntry(file) : null;
+
+			if (entry == null && old == null) {
+				continue;
+			}
+
+			if (entry == null) {
+				entries.remove(key);
+			} else {
+				entries.put(key, entry);
+			}
+			changed = true;
+
+			final LevelSummary summary = entry == null ? null : entry.summary;
+
+			// A file that is still not a level is not worth telling
+			if (summary == null && (old == null || old.summary == null)) {
+				continue;
+			}
+
+			for (ChangeListener listener : changeListeners) {
+				listener.levelChanged(file, summary);
+			}
+		}
+
+		if (changed) {
+			writeIndex();
+		}
+	}
+
+	/**
+	 * Compares the entries to the files of the repository, when the events of
+	 * the {@link LevelWatcher} were lost. Only the files that changed are
+	 * read.
+	 */
+	synchronized void rescan() {
+
+		if (!listed) {
+			return;
+		}
+
+		final Set<File> files = new LinkedHashSet<>(BufferingUtils.listFilesFromRepository(repository));
+
+		for (String key : entries.keySet()) {
+			files.add(new File(repository, key));
+		}
+		update(files);
+	}
+
+	/**
+	 * Stops to keep the entries up to date, when the repository can't be
+	 * watched anymore. The repository will be listed again.
+	 */
+	synchronized void unwatch() {
+		watched = false;
+		listed = false;
+	}
+
+	/**
+	 * Reads the summary of the level file.
+	 *
+	 * @return The entry of the file, without summary if it is not a valid
+	 *         level.
+	 */
+	private static Entry readEntry(File file) {
+
+		// Read before the summary, so a file modified meanwhile is read again
+		// next time
+		final long modified = file.lastModified();
+		final long length = file.length();
+
+		try {
+			return new Entry(modified, length, BufferingUtils.readLevelSummary(file));
+		} catch (Exception e) {
+			e.printStackTrace();
+			return new Entry(modified, length, null);
+		}
+	}
+
+	/**
+	 * Tells the listener, if there is one, that the entry has been read.
+	 */
+	private static void publish(SummaryListener listener, Entry entry, int read, int total) {
+		if (listener != null) {
+			listener.summaryRead(entry.summary, read, total);
+		}
+	}
+
+	/**
+	 * Reads the index. If it doesn't exist or can't be read, the index is
+	 * empty, so every level will be read.
+	 */
+	private Map<String, Entry> readIndex() {
+
+		final Map<String, Entry> read = new HashMap<>();
+
+		if (!index.isFile()) {
+			return read;
+		}
+
+		try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+
+			if (stream.readInt() != MAGIC || stream.readShort() != VERSION) {
+				return read;
+			}
+
+			final Planet[] planets = Planet.values();
+			final int size = stream.readInt();
+
+			for (int i = 0; i < size; i++) {
+				final String key = stream.readUTF();
+				final long modified = stream.readLong();
+				final long length = stream.readLong();
+
+				if (!stream.readBoolean()) {
+					read.put(key, new Entry(modified, length, null));
+					continue;
+				}
+
+				final String name = stream.readUTF();
+				final String creator = stream.readUTF();
+				final double height = stream.readDouble();
+				final double width = stream.readDouble();
+				final int planet = stream.readByte();
+				final long thumbnailOffset = stream.readLong();
+				final int thumbnailLength = stream.readInt();
+
+				final LevelSummary summary = new LevelSummary(new File(repository, key), name, creator, height, width,
+						planet >= 0 ? planets[planet] : null, thumbnailOffset, thumbnailLength);
+
+				read.put(key, new Entry(modified, length, summary));
+			}
+
+		} catch (IOException | ArrayIndexOutOfBoundsException e) {
+			e.printStackTrace();
+			read.clear();
+		}
+
+		return read;
+	}
+
+	/**
+	 * Writes the index, atomically. The thumbnails read with the headers are
+	 * not kept, only their length.
+	 */
+	private void writeIndex() {
+
+		final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+		try (DataOutputStream stream = new DataOutputStream(data)) {
+
+			stream.writeInt(MAGIC);
+			stream.writeShort(VERSION);
+			stream.writeInt(entries.size());
+
+			for (Map.Entry<String, Entry> pair : entries.entrySet()) {
+				final Entry entry = pair.getValue();
+				final LevelSummary summary = entry.summary;
+
+				stream.writeUTF(pair.getKey());
+				stream.writeLong(entry.modified);
+				stream.writeLong(entry.length);
+				stream.writeBoolean(summary != null);
+
+				if (summary == null) {
+					continue;
+				}
+
+				stream.writeUTF(summary.getName());
+				stream.writeUTF(summary.getCreator());
+				stream.writeDouble(summary.getHeight());
+				stream.writeDouble(summary.getWidth());
+				stream.writeByte(summary.getPlanet() == null ? -1 : summary.getPlanet().ordinal());
+				stream.writeLong(summary.getThumbnailOffset());
+				stream.writeInt(summary.getThumbnailLength());
+			}
+			stream.flush();
+
+			BufferingUtils.writeAtomically(index, data.toByteArray());
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,444 @@
+package utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import game.BorderType;
+import game.InventoryItem;
+import game.Level;
+import game.LevelSummary;
+import game.Planet;
+import game.Quantity;
+import gameObservables.Observable;
+import gameObservables.ObservableFactory;
+import observables.AbstractComplexObservable;
+
+/**
+ * The binary format of the level files, written by
+ * {@link BufferingUtils#saveLevel(Level)}.
+ *
+ * <p>
+ * A level file is made of 4 sections, written one after the other :
+ * <ul>
+ * <li><b>The header</b> : the {@link #MAGIC} number, the {@link #VERSION} of
+ * the format, the creator and the name of the level, its borders and planet,
+ * its height and width, then the number of objects, the number of inventory
+ * items and the length of the thumbnail (-1 if there is none).</li>
+ * <li><b>The object table</b> : {@link #OBJECT_SIZE} bytes per fixed object,
+ * its type, position, rotation and its 3 parameters, as defined by
+ * {@link ObservableFactory#create(Observable, double, double, double)}.</li>
+ * <li><b>The inventory table</b> : {@link #ITEM_SIZE} bytes per item, its
+ * type, its quantity type and its quantity.</li>
+ * <li><b>The thumbnail</b> : the bytes of the screenshot of the level.</li>
+ * </ul>
+ *
+ * The enums are written as their ordinal, so the order of their constants is
+ * part of the format. The files written with the Java serialization by the
+ * previous versions of the game are recognized by {@link #isLegacy(byte[])}.
+ *
+ * @author sunny
+ *
+ */
+public final class LevelFormat {
+
+	/**
+	 * The first 4 bytes of a level file : "GOLD".
+	 */
+	public static final int MAGIC = 0x474F4C44;
+
+	/**
+	 * The version of the format written by this class.
+	 */
+	public static final short VERSION = 1;
+
+	/**
+	 * The size, in bytes, of an object of the object table : its type, then 6
+	 * doubles.
+	 */
+	public static final int OBJECT_SIZE = 1 + 6 * 8;
+
+	/**
+	 * The size, in bytes, of an item of the inventory table : its type, its
+	 * quantity type, then its quantity.
+	 */
+	public static final int ITEM_SIZE = 1 + 1 + 4;
+
+	/**
+	 * The size, in bytes, of the header without the characters of its 2
+	 * strings.
+	 */
+	private static final int FIXED_HEADER_SIZE = 4 + 2 + 2 + 2 + 1 + 1 + 8 + 8 + 4 + 4 + 4;
+
+	/**
+	 * The first 2 bytes of a stream written by the Java serialization.
+	 */
+	private static final int SERIALIZATION_MAGIC = 0xACED;
+
+	private LevelFormat() {
+	}
+
+	/**
+	 * Tells if the data is a level written in this format.
+	 *
+	 * @param data
+	 *            The content of the file
+	 * @return True if the data starts with the {@link #MAGIC} number.
+	 */
+	public static boolean isBinary(byte[] data) {
+		return data.length >= 4 && ((data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8
+				| (data[3] & 0xFF)) == MAGIC;
+	}
+
+	/**
+	 * Tells if the data is a level written with the Java serialization, by the
+	 * previous versions of the game.
+	 *
+	 * @param data
+	 *            The content of the file
+	 * @return True if the data is a serialized stream.
+	 */
+	public static boolean isLegacy(byte[] data) {
+		return data.length >= 2 && ((data[0] & 0xFF) << 8 | (data[1] & 0xFF)) == SERIALIZATION_MAGIC;
+	}
+
+	/**
+	 * Writes the level to the stream, with its screenshot as thumbnail. The
+	 * stream is not closed.
+	 *
+	 * @param level
+	 *            The level to write
+	 * @param out
+	 *            The destination stream
+	 * @throws IOException
+	 *             If the stream can't be written
+	 */
+	public static void write(Level level, OutputStream out) throws IOException {
+		write(level, level.getScreenShot(), out);
+	}
+
+	/**
+	 * Writes the level to the stream, with the given thumbnail. The stream is
+	 * not closed.
+	 *
+	 * @param level
+	 *            The level to write
+	 * @param thumbnail
+	 *            The thumbnail of the level. Can be null.
+	 * @param out
+	 *            The destination stream
+	 * @throws IOException
+	 *             If the stream can't be written
+	 */
+	public static void write(Level level, byte[] thumbnail, OutputStream out) throws IOException {
+
+		final DataOutputStream stream = new DataOutputStream(out);
+		final List<AbstractComplexObservable> fixed = level.getFixedObject();
+		final List<InventoryItem> inventory = level.getInventory().getItems();
+
+		// Header
+		stream.writeInt(MAGIC);
+		stream.writeShort(VERSION);
+		stream.writeUTF(level.getCreator());
+		stream.writeUTF(level.getName());
+		stream.writeByte(level.getBorders() == null ? -1 : level.getBorders().ordinal());
+		stream.writeByte(level.getPlanet() == null ? -1 : level.getPlanet().ordinal());
+		stream.writeDouble(level.getHeight());
+		stream.writeDouble(level.getWidth());
+		stream.writeInt(fixed.size());
+		stream.writeInt(inventory.size());
+		stream.writeInt(thumbnail == null ? -1 : thumbnail.length);
+
+		// Object table. The wrapper finds the parameters of every object.
+		final ObservableSerializableWrapper wrapper = new ObservableSerializableWrapper();
+
+		for (AbstractComplexObservable object : fixed) {
+			writeObject(stream, wrapper, object);
+		}
+
+		// Inventory table
+		for (InventoryItem item : inventory) {
+			stream.writeByte(item.getItemType().ordinal());
+			stream.writeByte(item.getQuantityType().ordinal());
+			stream.writeInt(item.getQuantityType() == Quantity.INFINITE ? 0 : item.getQuantity());
+		}
+
+		// Thumbnail
+		if (thumbnail != null) {
+			stream.write(thumbnail);
+		}
+
+		stream.flush();
+	}
+
+	/**
+	 * Reads the level contained in the data, which must be in this format. The
+	 * fixed objects are created by the {@link ObservableFactory}, without
+	 * their view. The thumbnail is not read.
+	 *
+	 * @param data
+	 *            The content of the file
+	 * @param path
+	 *            The path of the file of the level
+	 * @return The level
+	 * @throws IOException
+	 *             If the data is not a level in a supported version of this
+	 *             format.
+	 */
+	public static Level read(byte[] data, String path) throws IOException {
+		return read(new DataInputStream(new ByteArrayInputStream(data)), path);
+	}
+
+	/**
+	 * Reads a level written by {@link #write(Level, OutputStream)} from the
+	 * source, without reading its thumbnail.
+	 *
+	 * @param stream
+	 *            The source, at the start of the level
+	 * @param path
+	 *            The path of the file of the level
+	 * @return The level
+	 * @throws IOException
+	 *             If the source is not a level in a supported version of this
+	 *             format.
+	 */
+	public static Level read(DataInput stream, String path) throws IOException {
+
+		if (stream.readInt() != MAGIC) {
+			throw new IOException("Not a level file : " + path);
+		}
+		final short version = stream.readShort();
+
+		if (version > VERSION) {
+			throw new IOException("Unsupported level format version " + version + " : " + path);
+		}
+
+		// Header
+		final String creator = stream.readUTF();
+		final String name = stream.readUTF();
+		final Level level = new Level(name, creator, path);
+
+		final int borders = stream.readByte();
+		final int planet = stream.readByte();
+
+		if (borders != -1) {
+			level.setBorders(BorderType.values()[checkOrdinal(borders, BorderType.values().length, "borders", path)]);
+		}
+		if (planet != -1) {
+			level.setPlanet(Planet.values()[checkOrdinal(planet, Planet.values().length, "planet", path)]);
+		}
+		level.setHeight(stream.readDouble());
+		level.setWidth(stream.readDouble());
+
+		final int objects = checkCount(stream.readInt(), "object count", path);
+		final int items = checkCount(stream.readInt(), "item count", path);
+		stream.readInt(); // thumbnail length
+
+		// Object table
+		for (int i = 0; i < objects; i++) {
+			level.addFixedObject(readObject(stream));
+		}
+
+		// Inventory table
+		final Observable[] types = Observable.values();
+		final Quantity[] quantities = Quantity.values();
+		final List<InventoryItem> inventory = new ArrayList<>(items);
+
+		for (int i = 0; i < items; i++) {
+			final Observable type = types[checkOrdinal(stream.readByte(), types.length, "item type", path)];
+			final Quantity quantity = quantities[checkOrdinal(stream.readByte(), quantities.length, "quantity",
+					path)];
+			final int count = stream.readInt();
+
+			inventory.add(quantity == Quantity.INFINITE ? new InventoryItem(type, quantity)
+					: new InventoryItem(type, count));
+		}
+		level.getInventory().addAllItem(inventory);
+
+		// The thumbnail is read with the summary of the level, when displayed
+		return level;
+	}
+
+	/**
+	 * Writes an object of the object table : {@link #OBJECT_SIZE} bytes.
+	 *
+	 * @param out
+	 *            The destination
+	 * @param wrapper
+	 *            The wrapper used to find the parameters of the object
+	 * @param object
+	 *            The object to write
+	 * @throws IOException
+	 *             If the destination can't be written
+	 */
+	static void writeObject(DataOutput out, ObservableSerializableWrapper wrapper, AbstractComplexObservable object)
+			throws IOException {
+
+		wrapper.setObservable(object);
+
+		out.writeByte(wrapper.instance.ordinal());
+		out.writeDouble(wrapper.posX);
+		out.writeDouble(wrapper.posY);
+		out.writeDouble(wrapper.rotation);
+		out.writeDouble(wrapper.param1);
+		out.writeDouble(wrapper.param2);
+		out.writeDouble(wrapper.param3);
+	}
+
+	/**
+	 * Reads an object of the object table, written by
+	 * {@link #writeObject(DataOutput, ObservableSerializableWrapper, AbstractComplexObservable)}.
+	 * The object is created by the {@link ObservableFactory}, without its
+	 * view.
+	 *
+	 * @param in
+	 *            The source
+	 * @return The object, at its position and rotation
+	 * @throws IOException
+	 *             If the source can't be read, or the type is unknown
+	 */
+	static AbstractComplexObservable readObject(DataInput in) throws IOException {
+
+		final int type = in.readByte();
+
+		if (type < 0 || type >= Observable.values().length) {
+			throw new IOException("Unknown object type " + type);
+		}
+
+		final double x = in.readDouble();
+		final double y = in.readDouble();
+		final double rotation = in.readDouble();
+
+		final AbstractComplexObservable object = ObservableFactory.create(Observable.values()[type], in.readDouble(),
+				in.readDouble(), in.readDouble());
+
+		object.translate(x, y);
+		object.rotate(rotation);
+		return object;
+	}
+
+	/**
+	 * Reads the summary of the level from the header only. The position of
+	 * the thumbnail is computed from the sizes of the header and of the 2
+	 * tables, which are not read.
+	 *
+	 * @param in
+	 *            The content of the file, from its start
+	 * @param file
+	 *            The file of the level
+	 * @return The summary of the level
+	 * @throws IOException
+	 *             If the data is not a level in a supported version of this
+	 *             format.
+	 */
+	public static LevelSummary readSummary(DataInput in, File file) throws IOException {
+
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a level file : " + file.getPath());
+		}
+		final short version = in.readShort();
+
+		if (version > VERSION) {
+			throw new IOException("Unsupported level format version " + version + " : " + file.getPath());
+		}
+
+		final String creator = in.readUTF();
+		final String name = in.readUTF();
+
+		in.readByte(); // borders
+		final int planet = in.readByte();
+		final double height = in.readDouble();
+		final double width = in.readDouble();
+
+		if (planet != -1) {
+			checkOrdinal(planet, Planet.values().length, "planet", file.getPath());
+		}
+
+		final int objects = checkCount(in.readInt(), "object count", file.getPath());
+		final int items = checkCount(in.readInt(), "item count", file.getPath());
+		final int thumbnailLength = in.readInt();
+
+		// -1 without thumbnail
+		if (thumbnailLength < -1) {
+			throw new IOException("Invalid thumbnail length " + thumbnailLength + " : " + file.getPath());
+		}
+
+		final long offset = FIXED_HEADER_SIZE + utfLength(creator) + utfLength(name) + (long) objects * OBJECT_SIZE
+				+ (long) items * ITEM_SIZE;
+
+		return new LevelSummary(file, name, creator, height, width, planet != -1 ? Planet.values()[planet] : null,
+				offset, thumbnailLength);
+	}
+
+	/**
+	 * Checks an ordinal read from a level, so a corrupt file is reported as
+	 * such.
+	 *
+	 * @param ordinal
+	 *            The ordinal read
+	 * @param count
+	 *            The number of values of the enumeration
+	 * @param name
+	 *            The name of the value, for the message
+	 * @param path
+	 *            The path of the file of the level
+	 * @return The ordinal
+	 * @throws IOException
+	 *             If the ordinal is not a value of the enumeration
+	 */
+	private static int checkOrdinal(int ordinal, int count, String name, String path) throws IOException {
+		if (ordinal < 0 || ordinal >= count) {
+			throw new IOException("Invalid " + name + " " + ordinal + " : " + path);
+		}
+		return ordinal;
+	}
+
+	/**
+	 * Checks a count or a length read from a level.
+	 *
+	 * @param count
+	 *            The count read
+	 * @param name
+	 *            The name of the count, for the message
+	 * @param path
+	 *            The path of the file of the level
+	 * @return The count
+	 * @throws IOException
+	 *             If the count is negative
+	 */
+	private static int checkCount(int count, String name, String path) throws IOException {
+		if (count < 0) {
+			throw new IOException("Invalid " + name + " " + count + " : " + path);
+		}
+		return count;
+	}
+
+	/**
+	 * @return The number of bytes written by
+	 *         {@link DataOutputStream#writeUTF(String)} for the string, without
+	 *         its 2 bytes of length.
+	 */
+	private static int utfLength(String string) {
+		int length = 0;
+
+		for (int i = 0; i < string.length(); i++) {
+			final char c = string.charAt(i);
+
+			if (c >= 0x0001 && c <= 0x007F) {
+				length++;
+			} else if (c > 0x07FF) {
+				length += 3;
+			} else {
+				length += 2;
+			}
+		}
+		return length;
+	}
+}
@@ -0,0 +1,399 @@
+package utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import game.Level;
+import game.Settings;
+import observables.AbstractComplexObservable;
+
+/**
+ * The autosave of a level being built, saved next to the file of the level,
+ * with the {@link #EXTENSION} added to its name.
+ *
+ * The journal starts with a snapshot of the level, in the {@link LevelFormat}
+ * without thumbnail. Then every change of the fixed objects is appended as a
+ * record of {@link #RECORD_SIZE} bytes : its operation, the index of the
+ * object, and the object as in the object table of the {@link LevelFormat}.
+ * Saving an edit only appends its record, whatever the size of the level.
+ *
+ * <ul>
+ * <li><b>ADD</b> : the object is added at the end of the objects.</li>
+ * <li><b>UPDATE</b> : the object at the index is replaced. Moving, rotating
+ * or changing the parameters of an object are all updates.</li>
+ * <li><b>REMOVE</b> : the object at the index is removed.</li>
+ * </ul>
+ *
+ * When the journal has {@link #COMPACTION_THRESHOLD} records, it is compacted
+ * : the snapshot is written again, atomically, without records. The journal
+ * is deleted by {@link #discard()} when the level is saved or abandoned, so a
+ * journal that still exists when a level is opened is the progress lost by a
+ * crash, and the level can be rebuilt with {@link #recover(File)}.
+ *
+ * @author sunny
+ *
+ */
+public class LevelJournal {
+
+	/**
+	 * The extension added to the name of the level file to name its journal.
+	 */
+	public static final String EXTENSION = ".journal";
+
+	/**
+	 * The first 4 bytes of a journal : "GJNL".
+	 */
+	private static final int MAGIC = 0x474A4E4C;
+
+	/**
+	 * The version of the format of the journal.
+	 */
+	private static final short VERSION = 1;
+
+	/**
+	 * The size, in bytes, of a record : its operation, the index of the
+	 * object, then the object.
+	 */
+	public static final int RECORD_SIZE = 1 + 4 + LevelFormat.OBJECT_SIZE;
+
+	/**
+	 * The number of records after which the journal is compacted.
+	 */
+	public static final int COMPACTION_THRESHOLD = 256;
+
+	/**
+	 * The operations of the records.
+	 */
+	private static final byte ADD = 0, UPDATE = 1, REMOVE = 2;
+
+	/**
+	 * The level journaled.
+	 */
+	private final Level level;
+
+	/**
+	 * The file of the journal.
+	 */
+	private final File file;
+
+	/**
+	 * The objects in the order of the journal, so the indexes of the records
+	 * are the ones found when it is replayed.
+	 */
+	private final List<AbstractComplexObservable> objects = new ArrayList<>();
+
+	/**
+	 * The last bytes written for every object, so an object that didn't
+	 * change is not written again.
+	 */
+	private final Map<AbstractComplexObservable, byte[]> written = new IdentityHashMap<>();
+
+	/**
+	 * Used to write the objects.
+	 */
+	private final ObservableSerializableWrapper wrapper = new ObservableSerializableWrapper();
+
+	/**
+	 * The stream appending the records. Null once closed.
+	 */
+	private FileOutputStream stream;
+
+	/**
+	 * The number of records since the snapshot.
+	 */
+	private int records;
+
+	/**
+	 * Starts the journal of the level, with a snapshot of its current state.
+	 * An existing journal of the level is replaced.
+	 *
+	 * @param level
+	 *            The level being built
+	 * @throws IOException
+	 *             If the journal can't be written
+	 */
+	public LevelJournal(Level level) throws IOException {
+		this.level = level;
+		this.file = getJournal(new File(level.getPath()));
+
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		compact();
+	}
+
+	/**
+	 * Returns the file of the journal of a level file. It exists only if the
+	 * level was being built and was not saved.
+	 *
+	 * @param level
+	 *            The file of the level
+	 * @return The file of its journal
+	 */
+	public static File getJournal(File level) {
+		return new File(level.getPath() + EXTENSION);
+	}
+
+	/**
+	 * Returns the journals of the repository, and of its sub repositories,
+	 * whose level file doesn't exist. They are the levels created and never
+	 * saved.
+	 *
+	 * @param repository
+	 *            The repository of the levels
+	 * @return The journals, the most recent first.
+	 */
+	public static List<File> getOrphanJournals(File repository) {
+
+		final List<File> journals = new ArrayList<>();
+
+		for (File file : BufferingUtils.listFilesFromRepository(repository)) {
+			final String path = file.getPath();
+
+			if (path.endsWith(Settings.EXTENSION + EXTENSION)
+					&& !new File(path.substring(0, path.length() - EXTENSION.length())).exists()) {
+				journals.add(file);
+			}
+		}
+		journals.sort((a, b) -> Long.compare(b.lastModified(), a.lastModified()));
+
+		return journals;
+	}
+
+	/**
+	 * Records that the object was added to the level. Must be called once it
+	 * is in the level.
+	 *
+	 * @param object
+	 *            The object added
+	 */
+	public void added(AbstractComplexObservable object) {
+		objects.add(object);
+		append(ADD, objects.size() - 1, object);
+	}
+
+	/**
+	 * Records the current position, rotation and parameters of the object,
+	 * if they changed since they were last recorded. Nothing is recorded if
+	 * the object is not in the journal.
+	 *
+	 * @param object
+	 *            The object modified
+	 */
+	public void updated(AbstractComplexObservable object) {
+		final int index = indexOf(object);
+
+		if (index >= 0) {
+			append(UPDATE, index, object);
+		}
+	}
+
+	/**
+	 * Records that the object was removed from the level. Must be called
+	 * once it is not in the level anymore.
+	 *
+	 * @param object
+	 *            The object removed
+	 */
+	public void removed(AbstractComplexObservable object) {
+		final int index = indexOf(object);
+
+		if (index >= 0) {
+			objects.remove(index);
+			written.remove(object);
+			append(REMOVE, index, null);
+		}
+	}
+
+	/**
+	 * Writes the snapshot of the level again, atomically, and removes all the
+	 * records. Called automatically every {@link #COMPACTION_THRESHOLD}
+	 * records.
+	 *
+	 * @throws IOException
+	 *             If the journal can't be written
+	 */
+	public void compact() throws IOException {
+		close();
+
+		final ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		LevelFormat.write(level, null, snapshot);
+
+		final ByteArrayOutputStream data = new ByteArrayOutputStream(snapshot.size() + 10);
+
+		try (DataOutputStream out = new DataOutputStream(data)) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeInt(snapshot.size());
+			snapshot.writeTo(out);
+		}
+		BufferingUtils.writeAtomically(file, data.toByteArray());
+
+		objects.clear();
+		objects.addAll(level.getFixedObject());
+		written.clear();
+
+		for (AbstractComplexObservable object : objects) {
+			written.put(object, encode(object));
+		}
+		records = 0;
+		stream = new FileOutputStream(file, true);
+	}
+
+	/**
+	 * Closes the journal. The file is kept, so the level can be recovered.
+	 */
+	public void close() {
+		if (stream != null) {
+			try {
+				stream.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+			stream = null;
+		}
+	}
+
+	/**
+	 * Closes and deletes the journal, when the level is saved or abandoned.
+	 */
+	public void discard() {
+		close();
+		file.delete();
+	}
+
+	/**
+	 * Rebuilds a level from its journal : its snapshot, then all its records.
+	 * A record written partially, by a crash, is ignored.
+	 *
+	 * @param journal
+	 *            The file of the journal
+	 * @return The level, as it was at the last record
+	 * @throws IOException
+	 *             If the journal can't be read or is invalid
+	 */
+	public static Level recover(File journal) throws IOException {
+
+		final byte[] data = Files.readAllBytes(journal.toPath());
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+		if (data.length < 10 || in.readInt() != MAGIC || in.readShort() != VERSION) {
+			throw new IOException("Not a level journal : " + journal);
+		}
+
+		final int length = in.readInt();
+
+		if (length < 0 || length > data.length - 10) {
+			throw new IOException("Invalid snapshot in the journal : " + journal);
+		}
+
+		final String path = journal.getPath().substring(0, journal.getPath().length() - EXTENSION.length());
+		final Level level = LevelFormat.read(Arrays.copyOfRange(data, 10, 10 + length), path);
+		final List<AbstractComplexObservable> objects = new ArrayList<>(level.getFixedObject());
+
+		in.skipBytes(length);
+
+		for (int i = 10 + length; i + RECORD_SIZE <= data.length; i += RECORD_SIZE) {
+			final byte operation = in.readByte();
+			final int index = in.readInt();
+
+			if (index < 0 || index > objects.size() || index == objects.size() && operation != ADD) {
+				throw new IOException("Invalid record in the journal : " + journal);
+			}
+
+			switch (operation) {
+			case ADD:
+				objects.add(LevelFormat.readObject(in));
+				break;
+			case UPDATE:
+				objects.set(index, LevelFormat.readObject(in));
+				break;
+			case REMOVE:
+				objects.remove(index);
+				in.skipBytes(LevelFormat.OBJECT_SIZE);
+				break;
+			default:
+				throw new IOException("Invalid record in the journal : " + journal);
+			}
+		}
+
+		level.getFixedObject().clear();
+
+		for (AbstractComplexObservable object : objects) {
+			level.addFixedObject(object);
+		}
+
+		return level;
+	}
+
+	/**
+	 * Appends a record, unless the object is the same as last recorded. The
+	 * journal is only a backup, so an error is printed, but not thrown.
+	 */
+	private void append(byte operation, int index, AbstractComplexObservable object) {
+
+		if (stream == null) {
+			return;
+		}
+
+		try {
+			final byte[] bytes = object == null ? new byte[LevelFormat.OBJECT_SIZE] : encode(object);
+
+			if (operation == UPDATE && Arrays.equals(bytes, written.get(object))) {
+				return;
+			}
+
+			final ByteArrayOutputStream record = new ByteArrayOutputStream(RECORD_SIZE);
+			final DataOutputStream out = new DataOutputStream(record);
+			out.writeByte(operation);
+			out.writeInt(index);
+			out.write(bytes);
+
+			// A single write, so a crash leaves at most one partial record
+			stream.write(record.toByteArray());
+
+			if (object != null) {
+				written.put(object, bytes);
+			}
+
+			if (++records >= COMPACTION_THRESHOLD) {
+				compact();
+			}
+
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * @return The object as written in the object table.
+	 */
+	private byte[] encode(AbstractComplexObservable object) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(LevelFormat.OBJECT_SIZE);
+		LevelFormat.writeObject(new DataOutputStream(bytes), wrapper, object);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return The index of the object in the journal, or -1.
+	 */
+	private int indexOf(AbstractComplexObservable object) {
+		for (int i = 0; i < objects.size(); i++) {
+			if (objects.get(i) == object) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,414 @@
+package utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import game.Level;
+import game.LevelSummary;
+import game.Settings;
+
+/**
+ * A pack of levels in a single file, such as the campaign, read through a
+ * {@link MappedByteBuffer}.
+ *
+ * <p>
+ * A pack is made of 3 sections :
+ * <ul>
+ * <li><b>The header</b> : the {@link #MAGIC} number and the {@link #VERSION}
+ * of the format.</li>
+ * <li><b>The levels</b> : every level in the {@link LevelFormat}, with its
+ * thumbnail, one after the other.</li>
+ * <li><b>The index</b> : the number of levels, then for every level its name
+ * in the pack, its offset and its length. It is followed by the offset of
+ * the index and the {@link #MAGIC} number again.</li>
+ * </ul>
+ *
+ * The pack is mapped once, when it is opened. The summaries of its levels are
+ * read from the header of every level, and a level is opened, or its
+ * thumbnail read, from a slice of the map, without opening or copying any
+ * file. The file of a level of the pack is the pack followed by the name of
+ * the level, so it is unique, but it doesn't exist.
+ *
+ * A pack is built from a repository of levels by {@link #write(File, File)},
+ * or from the command line via {@link #main(String[])}.
+ *
+ * @author sunny
+ *
+ */
+public class LevelPack {
+
+	/**
+	 * The extension of the pack files.
+	 */
+	public static final String EXTENSION = ".pack";
+
+	/**
+	 * The first and the last 4 bytes of a pack : "GPAK".
+	 */
+	private static final int MAGIC = 0x4750414B;
+
+	/**
+	 * The version of the format written by this class.
+	 */
+	private static final short VERSION = 1;
+
+	/**
+	 * The size, in bytes, of the header.
+	 */
+	private static final int HEADER_SIZE = 4 + 2;
+
+	/**
+	 * The size, in bytes, of the end of the pack : the offset of the index and
+	 * the magic number.
+	 */
+	private static final int FOOTER_SIZE = 8 + 4;
+
+	/**
+	 * A level of the pack.
+	 */
+	private static class Entry {
+
+		/**
+		 * The position of the level in the pack.
+		 */
+		private final int offset;
+
+		/**
+		 * The length of the level.
+		 */
+		private final int length;
+
+		private Entry(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * The packs already opened, by their absolute path.
+	 */
+	private static final Map<String, LevelPack> packs = new HashMap<>();
+
+	/**
+	 * The file of the pack.
+	 */
+	private final File file;
+
+	/**
+	 * The last modification time of the file when it was mapped.
+	 */
+	private final long modified;
+
+	/**
+	 * The content of the pack.
+	 */
+	private final MappedByteBuffer buffer;
+
+	/**
+	 * The levels of the pack, by the path of their summary.
+	 */
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	/**
+	 * The summaries of the levels, in the order of the pack.
+	 */
+	private final List<LevelSummary> summaries = new ArrayList<>();
+
+	/**
+	 * Opens the pack : maps the file, then reads its index and the summaries
+	 * of its levels.
+	 *
+	 * @param file
+	 *            The file of the pack
+	 * @throws IOException
+	 *             If the file can't be read, or is not a valid pack
+	 */
+	public LevelPack(File file) throws IOException {
+		this.file = file;
+		this.modified = file.lastModified();
+
+		// The map stays valid once the channel is closed
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+			if (channel.size() < HEADER_SIZE + FOOTER_SIZE || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Not a level pack : " + file);
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		final int size = buffer.capacity();
+
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+			throw new IOException("Not a level pack : " + file);
+		}
+		if (buffer.getShort(4) > VERSION) {
+			throw new IOException("Unsupported level pack version " + buffer.getShort(4) + " : " + file);
+		}
+
+		final long index = buffer.getLong(size - FOOTER_SIZE);
+
+		if (index < HEADER_SIZE || index > size - FOOTER_SIZE) {
+			throw new IOException("Invalid index in the level pack : " + file);
+		}
+
+		final DataInputStream in = slice((int) index, (int) (size - FOOTER_SIZE - index));
+		final int count = in.readInt();
+
+		for (int i = 0; i < count; i++) {
+			final String name = in.readUTF();
+			final long offset = in.readLong();
+			final int length = in.readInt();
+
+			if (offset < HEADER_SIZE || length < 0 || offset + length > index) {
+				throw new IOException("Invalid level " + name + " in the level pack : " + file);
+			}
+
+			final Entry entry = new Entry((int) offset, length);
+			final LevelSummary header = LevelFormat.readSummary(slice(entry.offset, entry.length),
+					new File(file, name));
+
+			final LevelSummary summary = new LevelSummary(this, header.getFile(), header.getName(),
+					header.getCreator(), header.getHeight(), header.getWidth(), header.getPlanet(),
+					entry.offset + header.getThumbnailOffset(), header.getThumbnailLength());
+
+			entries.put(summary.getPath(), entry);
+			summaries.add(summary);
+		}
+	}
+
+	/**
+	 * Returns the pack of the file. The pack is opened the first time, then
+	 * the same pack is returned, unless the file was modified since.
+	 *
+	 * @param file
+	 *            The file of the pack
+	 * @return The pack
+	 * @throws IOException
+	 *             If the file can't be read, or is not a valid pack
+	 */
+	public static synchronized LevelPack getPack(File file) throws IOException {
+
+		final String path = file.getAbsoluteFile().toPath().normalize().toString();
+		LevelPack pack = packs.get(path);
+
+		if (pack == null || pack.modified != file.lastModified()) {
+			pack = new LevelPack(file);
+			packs.put(path, pack);
+		}
+		return pack;
+	}
+
+	/**
+	 * @return The file of the pack.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return The summaries of the levels of the pack, in the order of the
+	 *         pack.
+	 */
+	public List<LevelSummary> getSummaries() {
+		return Collections.unmodifiableList(summaries);
+	}
+
+	/**
+	 * Opens the complete level of the summary, from the map.
+	 *
+	 * @param summary
+	 *            The summary of a level of this pack
+	 * @return The level
+	 * @throws IOException
+	 *             If the level is not in this pack, or is not valid
+	 */
+	public Level open(LevelSummary summary) throws IOException {
+		final Entry entry = getEntry(summary);
+		return LevelFormat.read(slice(entry.offset, entry.length), summary.getPath());
+	}
+
+	/**
+	 * Reads the thumbnail of the level of the summary, from the map.
+	 *
+	 * @param summary
+	 *            The summary of a level of this pack
+	 * @return The thumbnail, or null if the level has none
+	 * @throws IOException
+	 *             If the level is not in this pack
+	 */
+	public byte[] readThumbnail(LevelSummary summary) throws IOException {
+		getEntry(summary);
+
+		if (summary.getThumbnailLength() < 0) {
+			return null;
+		}
+
+		final byte[] thumbnail = new byte[summary.getThumbnailLength()];
+		slice((int) summary.getThumbnailOffset(), thumbnail.length).readFully(thumbnail);
+		return thumbnail;
+	}
+
+	/**
+	 * Writes the pack of all the levels of the repository, and of its sub
+	 * repositories, atomically. The levels serialized by the previous
+	 * versions of the game are converted to the {@link LevelFormat}.
+	 *
+	 * @param repository
+	 *            The repository of the levels
+	 * @param pack
+	 *            The file of the pack
+	 * @return The number of levels written
+	 * @throws IOException
+	 *             If a level can't be read, or the pack can't be written
+	 */
+	public static int write(File repository, File pack) throws IOException {
+
+		final List<File> files = new ArrayList<>();
+
+		for (File file : BufferingUtils.listFilesFromRepository(repository)) {
+			if (file.getName().endsWith(Settings.EXTENSION)) {
+				files.add(file);
+			}
+		}
+		Collections.sort(files);
+
+		final ByteArrayOutputStream data = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(data);
+		final List<String> names = new ArrayList<>();
+		final List<Integer> offsets = new ArrayList<>();
+
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+
+		for (File file : files) {
+			try {
+				final Level level = BufferingUtils.openLevel(file);
+				final byte[] thumbnail = BufferingUtils.readLevelSummary(file).getThumbnail();
+
+				names.add(repository.toPath().relativize(file.toPath()).toString());
+				offsets.add(out.size());
+				LevelFormat.write(level, thumbnail, out);
+
+			} catch (ClassNotFoundException e) {
+				throw new IOException("Invalid level : " + file, e);
+			}
+		}
+
+		final int index = out.size();
+		out.writeInt(names.size());
+
+		for (int i = 0; i < names.size(); i++) {
+			final int end = i + 1 < names.size() ? offsets.get(i + 1) : index;
+
+			out.writeUTF(names.get(i));
+			out.writeLong(offsets.get(i));
+			out.writeInt(end - offsets.get(i));
+		}
+
+		out.writeLong(index);
+		out.writeInt(MAGIC);
+		out.flush();
+
+		BufferingUtils.writeAtomically(pack, data.toByteArray());
+		return names.size();
+	}
+
+	/**
+	 * Writes the pack of the campaign : the levels of the repository given as
+	 * first argument, or {@link Settings#PATH_TO_DEFAULT}, into the file given
+	 * as second argument, or {@link Settings#PATH_TO_CAMPAIGN_PACK}.
+	 *
+	 * @param args
+	 *            The repository of the levels and the file of the pack
+	 * @throws IOException
+	 *             If the pack can't be written
+	 */
+	public static void main(String[] args) throws IOException {
+
+		final File repository = new File(args.length > 0 ? args[0] : Settings.PATH_TO_DEFAULT);
+		final File pack = new File(args.length > 1 ? args[1] : Settings.PATH_TO_CAMPAIGN_PACK);
+
+		final int count = write(repository, pack);
+
+		System.out.println(count + " levels written to " + pack + " (" + pack.length() + " bytes)");
+	}
+
+	/**
+	 * @return The entry of the level of the summary.
+	 */
+	private Entry getEntry(LevelSummary summary) throws IOException {
+		final Entry entry = summary.getPack() == this ? entries.get(summary.getPath()) : null;
+
+		if (entry == null) {
+			throw new IOException("Not a level of the pack " + file + " : " + summary.getPath());
+		}
+		return entry;
+	}
+
+	/**
+	 * @return A stream reading the bytes of the map, without copying them.
+	 */
+	private DataInputStream slice(int offset, int length) {
+		final ByteBuffer slice = buffer.duplicate();
+		slice.limit(offset + length);
+		slice.position(offset);
+
+		return new DataInputStream(new BufferInputStream(slice.slice()));
+	}
+
+	/**
+	 * Stream reading a buffer.
+	 */
+	private static class BufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		private BufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+
+			final int read = Math.min(len, buffer.remaining());
+			buffer.get(b, off, read);
+			return read;
+		}
+
+		@Override
+		public long skip(long n) {
+			final int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
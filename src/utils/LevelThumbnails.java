@@ -0,0 +1,229 @@
+package utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import javax.imageio.ImageIO;
+
+import game.LevelSummary;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+/**
+ * The thumbnails of the levels.
+ *
+ * The screenshots taken by the builder are reduced to fit in
+ * {@link #MAX_WIDTH} x {@link #MAX_HEIGHT} by {@link #encode(BufferedImage)}
+ * before they are saved with the level. They are displayed with
+ * {@link #load(LevelSummary, double, double, Consumer)}, which reads and
+ * decodes them in the background at the requested size, and keeps the
+ * {@link #CACHE_SIZE} last used images, by path of level.
+ *
+ * @author sunny
+ *
+ */
+public final class LevelThumbnails {
+
+	/**
+	 * The maximum width of a thumbnail saved with a level, in pixels.
+	 */
+	public static final int MAX_WIDTH = 600;
+
+	/**
+	 * The maximum height of a thumbnail saved with a level, in pixels.
+	 */
+	public static final int MAX_HEIGHT = 480;
+
+	/**
+	 * The maximum number of decoded thumbnails kept in memory.
+	 */
+	public static final int CACHE_SIZE = 64;
+
+	/**
+	 * The image format of the thumbnails.
+	 */
+	private static final String FORMAT = "jpg";
+
+	/**
+	 * A thumbnail of the cache.
+	 */
+	private static class Entry {
+
+		/**
+		 * The last modification time of the file of the level, when the
+		 * thumbnail was read.
+		 */
+		private final long modified;
+
+		/**
+		 * The requested size of the image.
+		 */
+		private final double width, height;
+
+		/**
+		 * The image, once decoded.
+		 */
+		private final CompletableFuture<Image> image;
+
+		private Entry(long modified, double width, double height, CompletableFuture<Image> image) {
+			this.modified = modified;
+			this.width = width;
+			this.height = height;
+			this.image = image;
+		}
+	}
+
+	/**
+	 * The pool decoding the thumbnails.
+	 */
+	private static final ForkJoinPool DECODERS = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * The decoded thumbnails by path of level, in access order, so the least
+	 * recently used is removed first.
+	 */
+	private static final Map<String, Entry> cache = new LinkedHashMap<String, Entry>(CACHE_SIZE, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private LevelThumbnails() {
+	}
+
+	/**
+	 * Encodes the screenshot of a level as a thumbnail. The image is reduced,
+	 * keeping its ratio, if it doesn't fit in {@link #MAX_WIDTH} x
+	 * {@link #MAX_HEIGHT}.
+	 *
+	 * @param screenshot
+	 *            The screenshot of the level
+	 * @return The bytes of the thumbnail
+	 * @throws IOException
+	 *             If the image can't be encoded
+	 */
+	public static byte[] encode(BufferedImage screenshot) throws IOException {
+
+		final double scale = Math.min(1, Math.min((double) MAX_WIDTH / screenshot.getWidth(),
+				(double) MAX_HEIGHT / screenshot.getHeight()));
+
+		BufferedImage image = screenshot;
+
+		if (scale < 1) {
+			final int width = Math.max(1, (int) Math.round(screenshot.getWidth() * scale));
+			final int height = Math.max(1, (int) Math.round(screenshot.getHeight() * scale));
+
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+			final Graphics2D graphics = image.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(screenshot, 0, 0, width, height, null);
+			graphics.dispose();
+		}
+
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		ImageIO.write(image, FORMAT, stream);
+		return stream.toByteArray();
+	}
+
+	/**
+	 * Gives the thumbnail of the level, decoded at the requested size, to the
+	 * consumer. If it is in the cache, it is given immediately. Otherwise it
+	 * is read and decoded in the background, then given on the JavaFX thread.
+	 * Nothing is given if the level has no thumbnail, or if it can't be read.
+	 *
+	 * @param summary
+	 *            The summary of the level
+	 * @param width
+	 *            The requested width of the image, or 0 to compute it from
+	 *            the height
+	 * @param height
+	 *            The requested height of the image, or 0 to compute it from
+	 *            the width
+	 * @param consumer
+	 *            Consumer of the image
+	 */
+	public static void load(LevelSummary summary, double width, double height, Consumer<Image> consumer) {
+
+		if (summary.getThumbnailLength() < 0) {
+			return;
+		}
+
+		final CompletableFuture<Image> image = get(summary, width, height);
+
+		if (image.isDone() && !image.isCompletedExceptionally()) {
+			consumer.accept(image.join());
+		} else {
+			image.thenAccept((decoded) -> Platform.runLater(() -> consumer.accept(decoded)));
+		}
+	}
+
+	/**
+	 * Removes the thumbnail of the level from the cache. It will be read again
+	 * the next time it is loaded.
+	 *
+	 * @param path
+	 *            The path of the level
+	 */
+	public static void invalidate(String path) {
+		synchronized (cache) {
+			cache.remove(path);
+		}
+	}
+
+	/**
+	 * Returns the thumbnail of the cache, or starts to decode it if it is not
+	 * there, or not at this size, or if the level was modified since.
+	 */
+	private static CompletableFuture<Image> get(LevelSummary summary, double width, double height) {
+
+		final long modified = summary.getFile().lastModified();
+
+		synchronized (cache) {
+			final Entry entry = cache.get(summary.getPath());
+
+			if (entry != null && entry.modified == modified && entry.width == width && entry.height == height
+					&& !entry.image.isCompletedExceptionally()) {
+				return entry.image;
+			}
+
+			final CompletableFuture<Image> image = CompletableFuture.supplyAsync(() -> decode(summary, width, height),
+					DECODERS);
+
+			cache.put(summary.getPath(), new Entry(modified, width, height, image));
+			return image;
+		}
+	}
+
+	/**
+	 * Reads and decodes the thumbnail of the level.
+	 */
+	private static Image decode(LevelSummary summary, double width, double height) {
+		try {
+			final Image image = new Image(new ByteArrayInputStream(summary.getThumbnail()), width, height, true,
+					true);
+
+			if (image.isError()) {
+				throw new IOException("Invalid thumbnail : " + summary.getPath(), image.getException());
+			}
+			return image;
+
+		} catch (IOException e) {
+			e.printStackTrace();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,249 @@
+package utils;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import game.Settings;
+
+/**
+ * Watches the repositories of the {@link LevelCatalog}s, and their sub
+ * repositories, with a single {@link WatchService} and a single daemon
+ * thread. The level files created, modified or deleted are given to their
+ * catalog with {@link LevelCatalog#update(java.util.Collection)}, so it is
+ * kept up to date without listing the repository again.
+ *
+ * The events are gathered until there is none for {@link #DEBOUNCE}
+ * milliseconds, as a file being copied is seen as many modifications. If
+ * events are lost, or a sub repository is deleted, the catalog is compared to
+ * its files with {@link LevelCatalog#rescan()}.
+ *
+ * @author sunny
+ *
+ */
+final class LevelWatcher {
+
+	/**
+	 * The time, in milliseconds, without event after which the events
+	 * gathered are given to the catalogs.
+	 */
+	private static final long DEBOUNCE = 200;
+
+	/**
+	 * A directory watched.
+	 */
+	private static class Registration {
+
+		/**
+		 * The catalog the directory belongs to.
+		 */
+		private final LevelCatalog catalog;
+
+		/**
+		 * The directory.
+		 */
+		private final Path directory;
+
+		/**
+		 * True if the directory is the repository of the catalog.
+		 */
+		private final boolean root;
+
+		private Registration(LevelCatalog catalog, Path directory, boolean root) {
+			this.catalog = catalog;
+			this.directory = directory;
+			this.root = root;
+		}
+	}
+
+	/**
+	 * The service, created with the thread the first time a repository is
+	 * watched.
+	 */
+	private static WatchService service;
+
+	/**
+	 * The directories watched, by their key.
+	 */
+	private static final Map<WatchKey, Registration> keys = new ConcurrentHashMap<>();
+
+	private LevelWatcher() {
+	}
+
+	/**
+	 * Watches the repository of the catalog and its sub repositories.
+	 *
+	 * @param catalog
+	 *            The catalog of the repository
+	 * @param repository
+	 *            The repository
+	 * @throws IOException
+	 *             If the repository doesn't exist or can't be watched
+	 */
+	static synchronized void register(LevelCatalog catalog, File repository) throws IOException {
+		if (service == null) {
+			service = FileSystems.getDefault().newWatchService();
+
+			final Thread thread = new Thread(LevelWatcher::watch, "Level watcher");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		registerAll(catalog, repository.toPath(), true);
+	}
+
+	/**
+	 * Watches the directory and its sub directories.
+	 *
+	 * @return The files found in the directories.
+	 */
+	private static List<File> registerAll(LevelCatalog catalog, Path directory, boolean root) throws IOException {
+
+		keys.put(directory.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY),
+				new Registration(catalog, directory, root));
+
+		final List<File> files = new ArrayList<>();
+		final File[] children = directory.toFile().listFiles();
+
+		if (children != null) {
+			for (File child : children) {
+				if (child.isDirectory()) {
+					files.addAll(registerAll(catalog, directory.resolve(child.getName()), false));
+				} else {
+					files.add(child);
+				}
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Stops watching the directory and its sub directories.
+	 */
+	private static void unregisterAll(Path directory) {
+		for (Iterator<Map.Entry<WatchKey, Registration>> it = keys.entrySet().iterator(); it.hasNext();) {
+			final Map.Entry<WatchKey, Registration> entry = it.next();
+
+			if (!entry.getValue().root && entry.getValue().directory.startsWith(directory)) {
+				entry.getKey().cancel();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * The loop of the thread : waits for events, gathers them, then gives
+	 * them to the catalogs.
+	 */
+	private static void watch() {
+		while (true) {
+			try {
+				final Map<LevelCatalog, Set<File>> changes = new LinkedHashMap<>();
+				final Set<LevelCatalog> rescans = new HashSet<>();
+
+				WatchKey key = service.take();
+
+				while (key != null) {
+					poll(key, changes, rescans);
+					key = service.poll(DEBOUNCE, TimeUnit.MILLISECONDS);
+				}
+
+				for (Map.Entry<LevelCatalog, Set<File>> change : changes.entrySet()) {
+					if (!rescans.contains(change.getKey())) {
+						change.getKey().update(change.getValue());
+					}
+				}
+				for (LevelCatalog catalog : rescans) {
+					catalog.rescan();
+				}
+
+			} catch (InterruptedException e) {
+				return;
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Gathers the events of the key.
+	 */
+	private static void poll(WatchKey key, Map<LevelCatalog, Set<File>> changes, Set<LevelCatalog> rescans) {
+
+		final Registration registration = keys.get(key);
+
+		if (registration == null) {
+			key.cancel();
+			return;
+		}
+
+		final LevelCatalog catalog = registration.catalog;
+
+		for (WatchEvent<?> event : key.pollEvents()) {
+
+			if (event.kind() == OVERFLOW) {
+				rescans.add(catalog);
+				continue;
+			}
+
+			final Path child = registration.directory.resolve((Path) event.context());
+
+			if (event.kind() == ENTRY_CREATE && Files.isDirectory(child)) {
+				try {
+					changes.computeIfAbsent(catalog, c -> new HashSet<>())
+							.addAll(registerAll(catalog, child, false));
+				} catch (IOException e) {
+					e.printStackTrace();
+					rescans.add(catalog);
+				}
+			} else if (child.toString().endsWith(Settings.EXTENSION)) {
+				changes.computeIfAbsent(catalog, c -> new HashSet<>()).add(child.toFile());
+
+			} else if (event.kind() == ENTRY_DELETE && isWatched(child)) {
+				// The levels of a deleted sub repository are not told
+				unregisterAll(child);
+				rescans.add(catalog);
+			}
+		}
+
+		if (!key.reset()) {
+			keys.remove(key);
+
+			if (registration.root) {
+				catalog.unwatch();
+			} else {
+				rescans.add(catalog);
+			}
+		}
+	}
+
+	/**
+	 * @return True if the directory is watched.
+	 */
+	private static boolean isWatched(Path directory) {
+		for (Registration registration : keys.values()) {
+			if (registration.directory.equals(directory)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}